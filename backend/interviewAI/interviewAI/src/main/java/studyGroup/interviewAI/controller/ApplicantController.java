@@ -8,10 +8,15 @@ import studyGroup.interviewAI.entity.ApplicationStatus;
 import studyGroup.interviewAI.entity.TechStack;
 import studyGroup.interviewAI.entity.WorkHistory;
 import studyGroup.interviewAI.entity.ProjectHistory;
+import studyGroup.interviewAI.service.ApplicantBulkService;
+import studyGroup.interviewAI.service.ApplicantPage;
 import studyGroup.interviewAI.service.ApplicantService;
+import studyGroup.interviewAI.service.DocumentTextService;
 import studyGroup.interviewAI.service.FileUploadService;
+import studyGroup.interviewAI.service.StoredFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -22,11 +27,18 @@ import java.util.Optional;
 @RequestMapping("/api/applicants")
 public class ApplicantController {
     private final ApplicantService applicantService;
+    private final ApplicantBulkService applicantBulkService;
     private final FileUploadService fileUploadService;
+    private final DocumentTextService documentTextService;
 
-    public ApplicantController(ApplicantService applicantService, FileUploadService fileUploadService) {
+    public ApplicantController(ApplicantService applicantService,
+                               ApplicantBulkService applicantBulkService,
+                               FileUploadService fileUploadService,
+                               DocumentTextService documentTextService) {
         this.applicantService = applicantService;
+        this.applicantBulkService = applicantBulkService;
         this.fileUploadService = fileUploadService;
+        this.documentTextService = documentTextService;
     }
 
     @GetMapping
@@ -35,6 +47,41 @@ public class ApplicantController {
         return applicants.stream().map(this::buildApplicantResponse).collect(java.util.stream.Collectors.toList());
     }
 
+    // 커서 기반 지원자 목록 (서버 측 필터링, includeTotal=false면 전체 개수 조회 생략, 잘못된 커서는 400)
+    @GetMapping("/page")
+    public ResponseEntity<Map<String, Object>> getApplicantPage(@RequestParam(required = false) ApplicationStatus status,
+                                                @RequestParam(required = false) Long positionId,
+                                                @RequestParam(required = false) Long experienceId,
+                                                @RequestParam(required = false) List<Long> techStackIds,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size,
+                                                @RequestParam(defaultValue = "true") boolean includeTotal) {
+        ApplicantPage page;
+        try {
+            page = applicantService.findPage(status, positionId, experienceId, techStackIds, cursor, size, includeTotal);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        
+        // 페이지 내 지원자의 기술스택은 한 번에 조회
+        Map<Long, List<TechStack>> techStacksByApplicant = applicantService.findTechStacksByApplicantIds(
+            page.getApplicants().stream().map(Applicant::getId).collect(java.util.stream.Collectors.toList()));
+        
+        List<Map<String, Object>> applicants = page.getApplicants().stream()
+            .map(applicant -> buildApplicantResponse(applicant,
+                techStacksByApplicant.getOrDefault(applicant.getId(), new java.util.ArrayList<>())))
+            .collect(java.util.stream.Collectors.toList());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("applicants", applicants);
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.hasNext());
+        if (includeTotal) {
+            response.put("totalCount", page.getTotalCount());
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public Map<String, Object> getApplicant(@PathVariable Long id) {
         Optional<Applicant> applicantOpt = applicantService.findById(id);
@@ -43,9 +90,26 @@ public class ApplicantController {
         }
         return buildApplicantResponse(applicantOpt.get());
     }
+
+    // 이력서/포트폴리오에서 미리 추출해 둔 텍스트 (추출 전이면 status=PENDING)
+    @GetMapping("/{id}/documents/text")
+    public Map<String, Object> getApplicantDocumentTexts(@PathVariable Long id) {
+        return documentTextService.getApplicantTexts(id);
+    }
     
     // 지원자 응답 데이터 구성 헬퍼 메소드
     private Map<String, Object> buildApplicantResponse(Applicant applicant) {
+        // 기술스택 이름들 추출
+        List<TechStack> techStacks = (applicant.getApplicantTechs() != null) ?
+            applicant.getApplicantTechs().stream()
+                .map(at -> at.getTechStack())
+                .collect(java.util.stream.Collectors.toList()) 
+            : new java.util.ArrayList<>();
+        return buildApplicantResponse(applicant, techStacks);
+    }
+
+    // 기술스택을 미리 조회해 둔 경우의 응답 데이터 구성
+    private Map<String, Object> buildApplicantResponse(Applicant applicant, List<TechStack> techStacks) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", applicant.getId());
         response.put("username", applicant.getUsername());
@@ -60,12 +124,10 @@ public class ApplicantController {
         response.put("position", applicant.getPosition());
         response.put("experience", applicant.getExperience());
         
-        // 기술스택 이름들 추출
-        List<String> techStackNames = (applicant.getApplicantTechs() != null) ?
-            applicant.getApplicantTechs().stream()
-                .map(at -> at.getTechStack().getTitle())
-                .collect(java.util.stream.Collectors.toList()) 
-            : new java.util.ArrayList<>();
+        // 기술스택 이름들
+        List<String> techStackNames = techStacks.stream()
+            .map(TechStack::getTitle)
+            .collect(java.util.stream.Collectors.toList());
         response.put("techStackNames", techStackNames);
         
         return response;
@@ -158,6 +220,16 @@ public class ApplicantController {
         return buildApplicantResponse(savedApplicant);
     }
 
+    // 지원자 일괄 등록
+    // 요청: {"applicants": [{register와 같은 필드 + applyAt, status}, ...], "allOrNothing": false}
+    // 응답의 errors에는 실패한 행의 index와 사유가 담긴다.
+    @PostMapping("/bulk")
+    public Map<String, Object> registerApplicants(@RequestBody Map<String, Object> requestData) {
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) requestData.get("applicants");
+        boolean allOrNothing = Boolean.TRUE.equals(requestData.get("allOrNothing"));
+        return applicantBulkService.registerAll(rows, allOrNothing);
+    }
+
     @PutMapping("/{id}")
     public Map<String, Object> updateApplicant(@PathVariable Long id, @RequestBody Applicant applicant) {
         applicant.setId(id);
@@ -220,4 +292,34 @@ public class ApplicantController {
             return ResponseEntity.internalServerError().body("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    // 이력서 파일 스트리밍 업로드 (요청 본문 자체가 파일 내용, multipart 임시 파일을 거치지 않음)
+    @PostMapping("/upload-resume/stream")
+    public ResponseEntity<Map<String, Object>> uploadResumeStream(@RequestParam("fileName") String fileName, InputStream body) {
+        try {
+            return ResponseEntity.ok(buildStoredFileResponse(fileUploadService.storeResumeStream(body, fileName)));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "파일 업로드 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 포트폴리오 파일 스트리밍 업로드
+    @PostMapping("/upload-portfolio/stream")
+    public ResponseEntity<Map<String, Object>> uploadPortfolioStream(@RequestParam("fileName") String fileName, InputStream body) {
+        try {
+            return ResponseEntity.ok(buildStoredFileResponse(fileUploadService.storePortfolioStream(body, fileName)));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "파일 업로드 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    private Map<String, Object> buildStoredFileResponse(StoredFile storedFile) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", storedFile.getId());
+        response.put("filePath", storedFile.getFilePath());
+        response.put("size", storedFile.getSize());
+        response.put("sha256", storedFile.getSha256());
+        response.put("deduplicated", storedFile.isDeduplicated());
+        return response;
+    }
+}
@@ -4,8 +4,11 @@ import org.springframework.web.bind.annotation.*;
 import studyGroup.interviewAI.entity.ApplicantTech;
 import studyGroup.interviewAI.service.ApplicantTechService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/applicant-techs")
@@ -37,8 +40,33 @@ public class ApplicantTechController {
         return applicantTechService.saveAll(applicantTechs);
     }
 
+    // 기술스택 조건 매칭: {"allOf": [1, 2], "anyOf": [[27, 29]], "noneOf": [], "limit": 100}
+    @PostMapping("/match")
+    public Map<String, Object> matchApplicants(@RequestBody Map<String, Object> requestData) {
+        List<Long> allOf = toIdList(requestData.get("allOf"));
+        List<Long> noneOf = toIdList(requestData.get("noneOf"));
+        List<List<Long>> anyOf = new ArrayList<>();
+        if (requestData.get("anyOf") != null) {
+            for (Object group : (List<Object>) requestData.get("anyOf")) {
+                anyOf.add(toIdList(group));
+            }
+        }
+        int limit = requestData.get("limit") != null ? Integer.parseInt(requestData.get("limit").toString()) : 100;
+        return applicantTechService.matchApplicants(allOf, anyOf, noneOf, limit);
+    }
+
     @DeleteMapping("/{id}")
     public void deleteApplicantTech(@PathVariable Long id) {
         applicantTechService.deleteById(id);
     }
+
+    // 요청 본문의 ID 목록 변환
+    private List<Long> toIdList(Object value) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        return ((List<Object>) value).stream()
+            .map(id -> Long.valueOf(id.toString()))
+            .collect(Collectors.toList());
+    }
 } 
\ No newline at end of file
@@ -56,6 +56,7 @@ public class ConversationController {
     private Map<String, Object> buildConversationResponse(Conversation conversation) {
         Map<String, Object> response = new HashMap<>();
         response.put("id", conversation.getId());
+        response.put("seq", conversation.getSeq());
         response.put("content", conversation.getContent());
         response.put("isManager", conversation.getIsManager());
         response.put("interviewId", conversation.getInterview().getId());
@@ -1,17 +1,41 @@
 package studyGroup.interviewAI.controller;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.ThroughputMetric;
 import studyGroup.interviewAI.service.DashboardService;
+import studyGroup.interviewAI.service.DashboardSnapshotCache;
+import studyGroup.interviewAI.service.DashboardStreamService;
+import studyGroup.interviewAI.service.ScoreDistributionService;
+import studyGroup.interviewAI.service.ThroughputRollupService;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
+    private final DashboardSnapshotCache dashboardSnapshotCache;
+    private final ScoreDistributionService scoreDistributionService;
+    private final ThroughputRollupService throughputRollupService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService,
+                               DashboardStreamService dashboardStreamService,
+                               DashboardSnapshotCache dashboardSnapshotCache,
+                               ScoreDistributionService scoreDistributionService,
+                               ThroughputRollupService throughputRollupService) {
         this.dashboardService = dashboardService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.dashboardSnapshotCache = dashboardSnapshotCache;
+        this.scoreDistributionService = scoreDistributionService;
+        this.throughputRollupService = throughputRollupService;
     }
 
     @GetMapping("/stats")
@@ -19,9 +43,69 @@ public class DashboardController {
         return dashboardService.getDashboardStats();
     }
 
-    // 메인 화면용 완전한 대시보드 데이터
+    // 메인 화면용 완전한 대시보드 데이터 (스냅샷 캐시 경유)
     @GetMapping("/main")
     public Map<String, Object> getMainDashboard() {
-        return dashboardService.getMainDashboardData();
+        return dashboardSnapshotCache.getMainDashboardData();
+    }
+
+    // 대시보드 스냅샷 캐시 지표 (hit/miss/coalesced)
+    @GetMapping("/cache-stats")
+    public Map<String, Object> getDashboardCacheStats() {
+        return dashboardSnapshotCache.getMetrics();
+    }
+
+    // 평가 점수 분포 (p50/p90/p99, 히스토그램, 포지션/경력별)
+    @GetMapping("/score-distribution")
+    public Map<String, Object> getScoreDistribution(@RequestParam(defaultValue = "10") int bucketWidth) {
+        return scoreDistributionService.getDistribution(bucketWidth);
+    }
+
+    // 일/주 단위 처리량 (지원서 접수, 면접 완료) - 기본 최근 30일, 잘못된 기간/granularity는 400
+    @GetMapping("/throughput")
+    public ResponseEntity<Map<String, Object>> getThroughput(@RequestParam(defaultValue = "APPLICATIONS") ThroughputMetric metric,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(defaultValue = "DAY") String granularity,
+                                             @RequestParam(required = false) Long positionId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        try {
+            return ResponseEntity.ok(throughputRollupService.getThroughput(metric, start, end, granularity, positionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 처리량 집계 재생성 (백그라운드 실행)
+    @PostMapping("/throughput/backfill")
+    public Map<String, Object> backfillThroughput() {
+        boolean started = throughputRollupService.startBackfill();
+        return Map.of(
+            "started", started,
+            "running", throughputRollupService.isBackfillRunning()
+        );
+    }
+
+    // 대시보드 변경분 실시간 구독 (SSE)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
+    // 커서 기반 지원자 목록 (서버 측 필터링, 잘못된 커서는 400)
+    @GetMapping("/applicants")
+    public ResponseEntity<Map<String, Object>> getDashboardApplicants(@RequestParam(required = false) ApplicationStatus status,
+                                                      @RequestParam(required = false) Long positionId,
+                                                      @RequestParam(required = false) Long experienceId,
+                                                      @RequestParam(required = false) List<Long> techStackIds,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size,
+                                                      @RequestParam(defaultValue = "true") boolean includeTotal) {
+        try {
+            return ResponseEntity.ok(dashboardService.getApplicantPage(status, positionId, experienceId, techStackIds, cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,235 @@
+package studyGroup.interviewAI.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import studyGroup.interviewAI.entity.FileUpload;
+import studyGroup.interviewAI.service.DocumentTextService;
+import studyGroup.interviewAI.service.FileUploadService;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 업로드 문서 다운로드 (Range 요청으로 큰 PDF도 필요한 부분만 전송)
+// 파일 내용이 SHA-256으로 고정되므로 해시를 ETag로 쓴다.
+// Tomcat이 sendfile을 지원하고 응답이 충분히 크면 커널 sendfile로 힙을 거치지 않고 보낸다.
+// 그 외에는 FileChannel.transferTo로 보내지만 대상이 서블릿 OutputStream을 감싼 채널이라
+// 실제로는 JDK 버퍼를 거쳐 힙으로 복사된다 (작은 응답이나 sendfile 미지원 커넥터용 경로).
+// 업로드 파일은 신뢰할 수 없으므로 브라우저에서 바로 열어도 안전한 형식만 inline으로,
+// 나머지(HTML, SVG 등)는 application/octet-stream 첨부파일로 내려보내고 MIME 추측을 막는다.
+@RestController
+@RequestMapping("/api/files")
+public class FileController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 응답은 sendfile 준비 비용이 더 커서 일반 전송 (Tomcat DefaultServlet 기준과 동일)
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+    private static final String CACHE_CONTROL = "private, max-age=86400";
+    // inline으로 보여줄 형식 (확장자 → Content-Type), SVG는 스크립트를 담을 수 있어 제외
+    private static final Map<String, String> INLINE_TYPES = Map.of(
+        "pdf", MediaType.APPLICATION_PDF_VALUE,
+        "png", MediaType.IMAGE_PNG_VALUE,
+        "jpg", MediaType.IMAGE_JPEG_VALUE,
+        "jpeg", MediaType.IMAGE_JPEG_VALUE,
+        "gif", MediaType.IMAGE_GIF_VALUE,
+        "webp", "image/webp",
+        "txt", "text/plain;charset=UTF-8"
+    );
+
+    private final FileUploadService fileUploadService;
+    private final DocumentTextService documentTextService;
+
+    public FileController(FileUploadService fileUploadService, DocumentTextService documentTextService) {
+        this.fileUploadService = fileUploadService;
+        this.documentTextService = documentTextService;
+    }
+
+    // 지원자에 저장된 경로로 파일 정보 조회 (다운로드용 ID 확인)
+    @GetMapping
+    public Map<String, Object> getFileByPath(@RequestParam("path") String path) {
+        FileUpload fileUpload = fileUploadService.findByFilePath(path)
+            .orElseThrow(() -> new RuntimeException("File not found with path: " + path));
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", fileUpload.getId());
+        response.put("originalFileName", fileUpload.getOriginalFileName());
+        response.put("fileType", fileUpload.getFileType());
+        response.put("fileSize", fileUpload.getFileSize());
+        response.put("sha256", fileUpload.getSha256());
+        response.put("uploadedAt", fileUpload.getUploadedAt());
+        return response;
+    }
+
+    // 문서 텍스트 추출 지연/적체 지표
+    @GetMapping("/extraction-stats")
+    public Map<String, Object> getExtractionStats() {
+        return documentTextService.getStats();
+    }
+
+    // 파일 다운로드 (GET/HEAD, 단일 Range, If-None-Match / If-Modified-Since / If-Range 지원)
+    @GetMapping("/{id}")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<FileUpload> found = fileUploadService.findById(id);
+        Path path = found.map(fileUpload -> Paths.get(fileUpload.getFilePath())).orElse(null);
+        if (path == null || !Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        FileUpload fileUpload = found.get();
+        long length = Files.size(path);
+        // HTTP 날짜는 초 단위라 비교를 위해 잘라냄
+        long lastModified = Files.getLastModifiedTime(path).toMillis() / 1000 * 1000;
+        String etag = "\"" + fileUpload.getSha256() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String inlineType = fileUpload.getFileType() == null ? null : INLINE_TYPES.get(fileUpload.getFileType().toLowerCase());
+        ContentDisposition.Builder disposition;
+        if (inlineType != null) {
+            response.setContentType(inlineType);
+            disposition = ContentDisposition.inline();
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            disposition = ContentDisposition.attachment();
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition
+            .filename(fileUpload.getOriginalFileName(), StandardCharsets.UTF_8).build().toString());
+
+        long start = 0;
+        long count = length;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            long[] requested = parseRange(range, length);
+            if (requested != null && requested.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (requested != null) {
+                start = requested[0];
+                count = requested[1] - requested[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + requested[0] + "-" + requested[1] + "/" + length);
+            }
+        }
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        transfer(request, response, path, start, count);
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Path path, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && count >= SENDFILE_MIN_BYTES) {
+            // 응답 처리 후 커넥터가 파일을 직접 소켓으로 보냄
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // If-None-Match가 있으면 그것만, 없으면 If-Modified-Since로 판단
+    private boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return HttpConditions.matchesEtag(ifNoneMatch, etag);
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // If-Range가 현재 ETag(또는 수정 시각)와 같을 때만 부분 응답, 다르면 전체 응답
+    private boolean rangeApplies(String ifRange, String etag, long lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() == lastModified;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    // "bytes=a-b", "bytes=a-", "bytes=-n" 하나만 지원
+    // 결과: {시작, 끝(포함)} / 범위 밖이면 빈 배열(416) / 형식 오류나 여러 범위면 null(전체 응답)
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length) {
+                return new long[0];
+            }
+            if (start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
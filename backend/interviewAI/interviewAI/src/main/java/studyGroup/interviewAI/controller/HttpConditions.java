@@ -0,0 +1,25 @@
+package studyGroup.interviewAI.controller;
+
+// 조건부 요청 헤더 비교 (파일 다운로드, 사전 리포트 번들 공용)
+final class HttpConditions {
+
+    private HttpConditions() {
+    }
+
+    // If-None-Match 비교: "*", 쉼표로 나열된 여러 태그, W/ 약한 태그 지원 (약한 비교)
+    static boolean matchesEtag(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
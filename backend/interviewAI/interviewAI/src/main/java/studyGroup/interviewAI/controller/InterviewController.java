@@ -3,20 +3,33 @@ package studyGroup.interviewAI.controller;
 import org.springframework.web.bind.annotation.*;
 import studyGroup.interviewAI.entity.Interview;
 import studyGroup.interviewAI.entity.Conversation;
+import studyGroup.interviewAI.service.ConversationContextWindow;
 import studyGroup.interviewAI.service.InterviewService;
+import studyGroup.interviewAI.service.LlmClient;
+import studyGroup.interviewAI.service.SuggestedQuestionService;
 
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/interviews")
 public class InterviewController {
     private final InterviewService interviewService;
-
-    public InterviewController(InterviewService interviewService) {
+    private final SuggestedQuestionService suggestedQuestionService;
+    private final LlmClient llmClient;
+    private final ConversationContextWindow conversationContextWindow;
+
+    public InterviewController(InterviewService interviewService,
+                               SuggestedQuestionService suggestedQuestionService,
+                               LlmClient llmClient,
+                               ConversationContextWindow conversationContextWindow) {
         this.interviewService = interviewService;
+        this.suggestedQuestionService = suggestedQuestionService;
+        this.llmClient = llmClient;
+        this.conversationContextWindow = conversationContextWindow;
     }
 
     @GetMapping
@@ -83,30 +96,68 @@ public class InterviewController {
     public Map<String, Object> addConversation(@PathVariable Long interviewId, @RequestBody Map<String, Object> requestData) {
         String content = (String) requestData.get("content");
         Boolean isManager = (Boolean) requestData.get("isManager");
+        if (interviewService.isConversationWriteBehindEnabled()) {
+            // 저널에 기록된 시점에 응답 (id는 배치 저장 후 부여되므로 저널 순번을 대신 돌려줌)
+            long journalSeq = interviewService.enqueueConversation(interviewId, content, isManager);
+            Map<String, Object> response = new HashMap<>();
+            response.put("journalSeq", journalSeq);
+            response.put("content", content);
+            response.put("isManager", isManager != null ? isManager : false);
+            response.put("interviewId", interviewId);
+            response.put("queued", true);
+            return response;
+        }
         Conversation conversation = interviewService.addConversation(interviewId, content, isManager);
         
         // 순환 참조 방지를 위한 커스텀 응답
         Map<String, Object> response = new HashMap<>();
         response.put("id", conversation.getId());
+        response.put("seq", conversation.getSeq());
         response.put("content", conversation.getContent());
         response.put("isManager", conversation.getIsManager());
         response.put("interviewId", conversation.getInterview().getId());
         return response;
     }
 
-    // 특정 면접의 대화 조회
+    // 특정 면접의 대화 조회 (afterSeq를 주면 그 순번 이후에 추가된 대화만)
     @GetMapping("/{interviewId}/conversations")
-    public List<Map<String, Object>> getInterviewConversations(@PathVariable Long interviewId) {
-        List<Conversation> conversations = interviewService.findConversationsByInterviewId(interviewId);
+    public List<Map<String, Object>> getInterviewConversations(@PathVariable Long interviewId,
+                                                               @RequestParam(required = false) Long afterSeq) {
+        List<Conversation> conversations = afterSeq != null
+            ? interviewService.findConversationsAfterSeq(interviewId, afterSeq)
+            : interviewService.findConversationsByInterviewId(interviewId);
         return conversations.stream().map(conv -> {
             Map<String, Object> response = new HashMap<>();
             response.put("id", conv.getId());
+            response.put("seq", conv.getSeq());
             response.put("content", conv.getContent());
             response.put("isManager", conv.getIsManager());
             return response;
         }).collect(java.util.stream.Collectors.toList());
     }
 
+    // 지금까지의 대화로 다음 질문 추천 (LLM 응답을 기다리는 동안 서블릿 스레드를 점유하지 않음)
+    @GetMapping("/{interviewId}/suggested-questions")
+    public CompletableFuture<Map<String, Object>> getSuggestedQuestions(@PathVariable Long interviewId) {
+        return suggestedQuestionService.suggestQuestions(interviewId);
+    }
+
+    // LLM 서버 호출 지표 (동시 요청 수, 성공/실패/거절 수, 평균 지연, 컨텍스트 축소율, 선행 생성 적중률)
+    @GetMapping("/llm-stats")
+    public Map<String, Object> getLlmStats() {
+        Map<String, Object> stats = new HashMap<>(llmClient.getStats());
+        stats.put("context", conversationContextWindow.getStats());
+        stats.put("prefetch", suggestedQuestionService.getStats());
+        stats.put("fallback", suggestedQuestionService.getFallbackStats());
+        return stats;
+    }
+
+    // 대화 write-behind 저장 지표 (대기 발화 수, 배치 수/평균 크기, 저널 크기)
+    @GetMapping("/conversation-ingest-stats")
+    public Map<String, Object> getConversationIngestStats() {
+        return interviewService.getConversationWriteBehindStats();
+    }
+
     // Interview 응답 데이터 구성 헬퍼 메소드
     private Map<String, Object> buildInterviewResponse(Interview interview) {
         Map<String, Object> response = new HashMap<>();
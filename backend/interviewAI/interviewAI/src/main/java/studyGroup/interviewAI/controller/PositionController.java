@@ -2,18 +2,23 @@ package studyGroup.interviewAI.controller;
 
 import org.springframework.web.bind.annotation.*;
 import studyGroup.interviewAI.entity.Position;
+import studyGroup.interviewAI.service.PositionFitRankingService;
 import studyGroup.interviewAI.service.PositionService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/positions")
 public class PositionController {
     private final PositionService positionService;
+    private final PositionFitRankingService positionFitRankingService;
 
-    public PositionController(PositionService positionService) {
+    public PositionController(PositionService positionService,
+                              PositionFitRankingService positionFitRankingService) {
         this.positionService = positionService;
+        this.positionFitRankingService = positionFitRankingService;
     }
 
     @GetMapping
@@ -26,6 +31,18 @@ public class PositionController {
         return positionService.findById(id);
     }
 
+    // 포지션 적합도 상위 지원자 조회
+    // 예: /api/positions/2/ranked-applicants?techStackIds=1,2,27&weights=3,2,1&limit=20
+    @GetMapping("/{id}/ranked-applicants")
+    public Map<String, Object> getRankedApplicants(@PathVariable Long id,
+                                                   @RequestParam(required = false) List<Long> techStackIds,
+                                                   @RequestParam(required = false) List<Double> weights,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        positionService.findById(id)
+            .orElseThrow(() -> new RuntimeException("포지션을 찾을 수 없습니다: " + id));
+        return positionFitRankingService.rank(id, techStackIds, weights, limit);
+    }
+
     @PostMapping
     public Position createPosition(@RequestBody Position position) {
         return positionService.save(position);
@@ -1,10 +1,19 @@
 package studyGroup.interviewAI.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import studyGroup.interviewAI.entity.PreReport;
+import studyGroup.interviewAI.service.PreReportBundleCache;
+import studyGroup.interviewAI.service.PreReportJob;
+import studyGroup.interviewAI.service.PreReportJobService;
 import studyGroup.interviewAI.service.PreReportService;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.Optional;
 
@@ -12,9 +21,15 @@ import java.util.Optional;
 @RequestMapping("/api/pre-reports")
 public class PreReportController {
     private final PreReportService preReportService;
+    private final PreReportBundleCache preReportBundleCache;
+    private final PreReportJobService preReportJobService;
 
-    public PreReportController(PreReportService preReportService) {
+    public PreReportController(PreReportService preReportService,
+                               PreReportBundleCache preReportBundleCache,
+                               PreReportJobService preReportJobService) {
         this.preReportService = preReportService;
+        this.preReportBundleCache = preReportBundleCache;
+        this.preReportJobService = preReportJobService;
     }
 
     @GetMapping
@@ -43,9 +58,70 @@ public class PreReportController {
         preReportService.deleteById(id);
     }
 
-    // 지원자별 Pre-Report 데이터 (유일한 커스텀 엔드포인트)
+    // 지원자별 Pre-Report 데이터 (미리 만들어 둔 번들, If-None-Match가 일치하면 304)
     @GetMapping("/applicant/{applicantId}")
-    public Map<String, Object> getApplicantPreReports(@PathVariable Long applicantId) {
-        return preReportService.getApplicantPreReportData(applicantId);
+    public ResponseEntity<byte[]> getApplicantPreReports(@PathVariable Long applicantId,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PreReportBundleCache.Bundle bundle = preReportBundleCache.get(applicantId);
+        if (HttpConditions.matchesEtag(ifNoneMatch, bundle.getEtag())) {
+            preReportBundleCache.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(bundle.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(bundle.getEtag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(bundle.getBody());
     }
-} 
\ No newline at end of file
+
+    // 사전 리포트 번들 캐시 지표
+    @GetMapping("/bundle-stats")
+    public Map<String, Object> getBundleStats() {
+        return preReportBundleCache.getStats();
+    }
+
+    // 사전 리포트 생성 작업 접수
+    // 요청: {"applicantIds": [1, 2, ...]} (생략하면 WAITING 상태 지원자 전체)
+    @PostMapping("/jobs")
+    public Map<String, Object> submitJobs(@RequestBody(required = false) Map<String, Object> requestData) {
+        List<Long> applicantIds = null;
+        if (requestData != null && requestData.get("applicantIds") != null) {
+            applicantIds = ((List<Object>) requestData.get("applicantIds"))
+                .stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .collect(Collectors.toList());
+        }
+        return preReportJobService.submit(applicantIds);
+    }
+
+    // 작업 처리 현황 (큐 길이, 상태별 누적 수, 평균 처리 시간)
+    @GetMapping("/jobs/stats")
+    public Map<String, Object> getJobStats() {
+        return preReportJobService.getStats();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public Map<String, Object> getJob(@PathVariable String jobId) {
+        return preReportJobService.findJob(jobId)
+            .map(PreReportJob::toMap)
+            .orElseThrow(() -> new RuntimeException("PreReport job not found: " + jobId));
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    public Map<String, Object> cancelJob(@PathVariable String jobId) {
+        return preReportJobService.cancel(jobId).toMap();
+    }
+
+    // 배치 단위 조회 / 취소
+    @GetMapping("/jobs/batches/{batchId}")
+    public Map<String, Object> getJobBatch(@PathVariable String batchId) {
+        return preReportJobService.getBatch(batchId);
+    }
+
+    @DeleteMapping("/jobs/batches/{batchId}")
+    public Map<String, Object> cancelJobBatch(@PathVariable String batchId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("batchId", batchId);
+        response.put("cancelled", preReportJobService.cancelBatch(batchId));
+        return response;
+    }
+}
@@ -0,0 +1,107 @@
+package studyGroup.interviewAI.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import studyGroup.interviewAI.service.ChunkedUploadService;
+import studyGroup.interviewAI.service.StoredFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+// 큰 포트폴리오 파일용 청크 업로드
+// 1) POST /api/uploads?fileName=&totalSize= 로 세션 생성 → uploadId, chunkSize
+// 2) PUT /api/uploads/{uploadId}/chunks/{index} 로 청크 전송 (본문이 청크 내용, 순서 무관, 재전송 가능)
+// 3) 연결이 끊기면 GET /api/uploads/{uploadId} 로 받은 범위를 확인하고 빠진 청크만 다시 전송
+// 4) POST /api/uploads/{uploadId}/complete 로 완료 → 스트리밍 업로드와 같은 파일 정보 반환
+@RestController
+@RequestMapping("/api/uploads")
+public class UploadController {
+    private final ChunkedUploadService chunkedUploadService;
+
+    public UploadController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createUpload(@RequestParam("fileName") String fileName,
+                                                            @RequestParam("totalSize") long totalSize) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.createSession(fileName, totalSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "업로드 세션 생성 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 청크 전송 (X-Chunk-Sha256 헤더를 주면 청크 체크섬 검증)
+    @PutMapping("/{uploadId}/chunks/{index}")
+    public ResponseEntity<Map<String, Object>> uploadChunk(@PathVariable String uploadId,
+                                                           @PathVariable int index,
+                                                           @RequestHeader(value = "X-Chunk-Sha256", required = false) String chunkSha256,
+                                                           InputStream body) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.writeChunk(uploadId, index, body, chunkSha256));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "청크 저장 중 오류가 발생했습니다: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> getUploadStatus(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<Map<String, Object>> completeUpload(@PathVariable String uploadId) {
+        try {
+            StoredFile storedFile = chunkedUploadService.complete(uploadId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("id", storedFile.getId());
+            response.put("filePath", storedFile.getFilePath());
+            response.put("size", storedFile.getSize());
+            response.put("sha256", storedFile.getSha256());
+            response.put("deduplicated", storedFile.isDeduplicated());
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "파일 업로드 중 오류가 발생했습니다: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> abortUpload(@PathVariable String uploadId) {
+        try {
+            chunkedUploadService.abort(uploadId);
+            return ResponseEntity.ok(Map.of("uploadId", uploadId, "aborted", true));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "업로드 취소 중 오류가 발생했습니다: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return errorResponse(e);
+        }
+    }
+
+    // 잘못된 청크는 400, 완료/취소된 세션은 409, 없는 세션은 404
+    private ResponseEntity<Map<String, Object>> errorResponse(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        if (e instanceof IllegalStateException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+        if (e.getMessage() != null && e.getMessage().startsWith("Upload session not found")) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+        throw e;
+    }
+}
@@ -7,8 +7,10 @@ import java.util.List;
 
 @Entity
 public class Applicant {
+    // 일괄 등록 시 insert 배치를 위해 시퀀스에서 50개씩 미리 할당 (IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicant_seq")
+    @SequenceGenerator(name = "applicant_seq", sequenceName = "applicant_seq", allocationSize = 50)
     private Long id;
 
     private String username;
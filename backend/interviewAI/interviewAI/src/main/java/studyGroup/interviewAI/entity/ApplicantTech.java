@@ -5,7 +5,8 @@ import jakarta.persistence.*;
 @Entity
 public class ApplicantTech {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicant_tech_seq")
+    @SequenceGenerator(name = "applicant_tech_seq", sequenceName = "applicant_tech_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
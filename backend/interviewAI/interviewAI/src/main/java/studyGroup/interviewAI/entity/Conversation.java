@@ -2,13 +2,18 @@ package studyGroup.interviewAI.entity;
 
 import jakarta.persistence.*;
 
+// seq: 면접 안에서 1부터 증가하는 대화 순번 (면접별 증분 조회용)
 @Entity
+@Table(indexes = @Index(name = "idx_conversation_interview_seq", columnList = "interview_id, seq", unique = true))
 public class Conversation {
+    // 답변 발화가 길어도 저장되도록 기본 VARCHAR(255) 대신 넉넉히 잡음 (저장 전 검증에도 사용)
+    public static final int CONTENT_MAX_LENGTH = 10000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = CONTENT_MAX_LENGTH)
     private String content;
 
     @Column(nullable = false)
@@ -18,6 +23,8 @@ public class Conversation {
     @JoinColumn(name = "interview_id", nullable = false)
     private Interview interview;
 
+    private Long seq;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -50,4 +57,12 @@ public class Conversation {
     public void setInterview(Interview interview) {
         this.interview = interview;
     }
-}
\ No newline at end of file
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+}
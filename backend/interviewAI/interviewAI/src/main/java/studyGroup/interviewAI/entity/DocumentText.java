@@ -0,0 +1,143 @@
+package studyGroup.interviewAI.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 업로드 문서에서 추출한 텍스트 (파일 내용 SHA-256당 한 행, 본문은 Deflate로 압축해 저장)
+// 같은 파일을 여러 지원자가 참조해도 추출은 한 번만 한다.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = "sha256"))
+public class DocumentText {
+
+    public enum Status {
+        EXTRACTED,
+        UNSUPPORTED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String fileType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Lob
+    private byte[] compressedText;
+
+    // 압축 전 UTF-8 바이트 수 (압축 해제 버퍼 크기)
+    private Integer textBytes;
+
+    private Integer textLength;
+
+    private Boolean truncated;
+
+    private Long extractionMs;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime extractedAt;
+
+    // 생성자
+    public DocumentText() {
+        this.extractedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public byte[] getCompressedText() {
+        return compressedText;
+    }
+
+    public void setCompressedText(byte[] compressedText) {
+        this.compressedText = compressedText;
+    }
+
+    public Integer getTextBytes() {
+        return textBytes;
+    }
+
+    public void setTextBytes(Integer textBytes) {
+        this.textBytes = textBytes;
+    }
+
+    public Integer getTextLength() {
+        return textLength;
+    }
+
+    public void setTextLength(Integer textLength) {
+        this.textLength = textLength;
+    }
+
+    public Boolean getTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(Boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public Long getExtractionMs() {
+        return extractionMs;
+    }
+
+    public void setExtractionMs(Long extractionMs) {
+        this.extractionMs = extractionMs;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getExtractedAt() {
+        return extractedAt;
+    }
+
+    public void setExtractedAt(LocalDateTime extractedAt) {
+        this.extractedAt = extractedAt;
+    }
+}
@@ -3,7 +3,13 @@ package studyGroup.interviewAI.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+// 내용 주소 저장소의 파일 한 개 (같은 내용은 SHA-256으로 한 행만 두고 refCount로 참조 수 관리)
+// refCount는 이 파일 경로를 쓰는 지원자 수 (업로드만 하고 연결하지 않은 파일은 0)
 @Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = "sha256"),
+    indexes = @Index(name = "idx_file_upload_file_path", columnList = "file_path")
+)
 public class FileUpload {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,12 +29,22 @@ public class FileUpload {
 
     private Long fileSize;
 
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private Integer refCount = 0;
+
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
 
+    // 마지막 업로드/참조 해제 시각 (참조 없는 파일 만료 기준)
+    private LocalDateTime lastReferencedAt;
+
     // 생성자
     public FileUpload() {
         this.uploadedAt = LocalDateTime.now();
+        this.lastReferencedAt = this.uploadedAt;
     }
 
     // Getters and Setters
@@ -87,4 +103,28 @@ public class FileUpload {
     public void setUploadedAt(LocalDateTime uploadedAt) {
         this.uploadedAt = uploadedAt;
     }
-} 
\ No newline at end of file
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public Integer getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(Integer refCount) {
+        this.refCount = refCount;
+    }
+
+    public LocalDateTime getLastReferencedAt() {
+        return lastReferencedAt;
+    }
+
+    public void setLastReferencedAt(LocalDateTime lastReferencedAt) {
+        this.lastReferencedAt = lastReferencedAt;
+    }
+}
@@ -19,6 +19,10 @@ public class Interview {
     @JoinColumn(name = "applicant_id")
     private Applicant applicant;
 
+    // 마지막으로 부여한 대화 순번 (대화 추가 시 UPDATE 쿼리로만 증가, 엔티티 저장으로는 덮어쓰지 않음)
+    @Column(updatable = false)
+    private Long conversationSeq = 0L;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -51,4 +55,12 @@ public class Interview {
     public void setApplicant(Applicant applicant) {
         this.applicant = applicant;
     }
-}
\ No newline at end of file
+
+    public Long getConversationSeq() {
+        return conversationSeq;
+    }
+
+    public void setConversationSeq(Long conversationSeq) {
+        this.conversationSeq = conversationSeq;
+    }
+}
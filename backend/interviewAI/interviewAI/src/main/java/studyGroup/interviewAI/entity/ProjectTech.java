@@ -0,0 +1,74 @@
+package studyGroup.interviewAI.entity;
+
+import jakarta.persistence.*;
+
+// 프로젝트-기술스택 연결 (프로젝트 하나에 여러 기술스택)
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = {"project_history_id", "tech_stack_id"}),
+    indexes = @Index(name = "idx_project_tech_project", columnList = "project_history_id")
+)
+public class ProjectTech {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_tech_seq")
+    @SequenceGenerator(name = "project_tech_seq", sequenceName = "project_tech_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_history_id", nullable = false)
+    private ProjectHistory projectHistory;
+
+    @ManyToOne
+    @JoinColumn(name = "tech_stack_id", nullable = false)
+    private TechStack techStack;
+
+    // 프로젝트의 주 기술스택(FK)을 따라 만들어진 연결인지 (false면 요청에 명시된 추가 기술스택, null은 이전 데이터)
+    private Boolean mainStack;
+
+    public ProjectTech() {
+    }
+
+    public ProjectTech(ProjectHistory projectHistory, TechStack techStack) {
+        this.projectHistory = projectHistory;
+        this.techStack = techStack;
+    }
+
+    public ProjectTech(ProjectHistory projectHistory, TechStack techStack, boolean mainStack) {
+        this.projectHistory = projectHistory;
+        this.techStack = techStack;
+        this.mainStack = mainStack;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ProjectHistory getProjectHistory() {
+        return projectHistory;
+    }
+
+    public void setProjectHistory(ProjectHistory projectHistory) {
+        this.projectHistory = projectHistory;
+    }
+
+    public TechStack getTechStack() {
+        return techStack;
+    }
+
+    public void setTechStack(TechStack techStack) {
+        this.techStack = techStack;
+    }
+
+    public Boolean getMainStack() {
+        return mainStack;
+    }
+
+    public void setMainStack(Boolean mainStack) {
+        this.mainStack = mainStack;
+    }
+}
@@ -0,0 +1,16 @@
+package studyGroup.interviewAI.entity;
+
+public enum ThroughputMetric {
+    APPLICATIONS("지원서 접수"),
+    INTERVIEWS_COMPLETED("면접 완료");
+
+    private final String displayName;
+
+    ThroughputMetric(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
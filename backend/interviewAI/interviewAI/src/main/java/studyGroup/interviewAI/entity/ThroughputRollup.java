@@ -0,0 +1,70 @@
+package studyGroup.interviewAI.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// 일 단위 처리량 집계 (지표, 날짜, 포지션별 건수)
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = {"metric", "bucket_date", "position_id"}),
+    indexes = @Index(name = "idx_throughput_rollup_metric_date", columnList = "metric, bucket_date")
+)
+public class ThroughputRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ThroughputMetric metric;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "position_id", nullable = false)
+    private Long positionId;
+
+    @Column(nullable = false)
+    private Long eventCount;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ThroughputMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(ThroughputMetric metric) {
+        this.metric = metric;
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public void setBucketDate(LocalDate bucketDate) {
+        this.bucketDate = bucketDate;
+    }
+
+    public Long getPositionId() {
+        return positionId;
+    }
+
+    public void setPositionId(Long positionId) {
+        this.positionId = positionId;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+}
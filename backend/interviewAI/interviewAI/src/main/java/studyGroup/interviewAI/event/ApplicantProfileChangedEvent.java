@@ -0,0 +1,14 @@
+package studyGroup.interviewAI.event;
+
+// 지원자의 경력/프로젝트/사전 리포트가 바뀌었음을 알리는 이벤트 (사전 리포트 번들 재생성용)
+public class ApplicantProfileChangedEvent {
+    private final Long applicantId;
+
+    public ApplicantProfileChangedEvent(Long applicantId) {
+        this.applicantId = applicantId;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+}
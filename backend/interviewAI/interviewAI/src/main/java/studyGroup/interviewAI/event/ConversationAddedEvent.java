@@ -0,0 +1,26 @@
+package studyGroup.interviewAI.event;
+
+// 면접에 발화가 추가되었음을 알리는 이벤트 (질문 추천 선행 생성용)
+public class ConversationAddedEvent {
+    private final Long interviewId;
+    private final Long conversationId;
+    private final boolean manager;
+
+    public ConversationAddedEvent(Long interviewId, Long conversationId, boolean manager) {
+        this.interviewId = interviewId;
+        this.conversationId = conversationId;
+        this.manager = manager;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public Long getConversationId() {
+        return conversationId;
+    }
+
+    public boolean isManager() {
+        return manager;
+    }
+}
@@ -0,0 +1,166 @@
+package studyGroup.interviewAI.event;
+
+import studyGroup.interviewAI.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 대시보드에 반영할 도메인 변경 이벤트 (지원자/면접/평가 서비스에서 발행)
+public class DashboardEvent {
+
+    public enum Type {
+        APPLICANT_REGISTERED,
+        APPLICANT_DELETED,
+        STATUS_CHANGED,
+        INTERVIEW_STARTED,
+        INTERVIEW_COMPLETED,
+        SCORE_RECORDED,
+        APPLICANTS_IMPORTED
+    }
+
+    private final Type type;
+    private final Long applicantId;
+    private final Long interviewId;
+    private final ApplicationStatus previousStatus;
+    private final ApplicationStatus status;
+    private final Integer previousScore;
+    private final Integer score;
+    private final Integer count;
+    private final List<ImportedApplicant> importedApplicants;
+    private final LocalDateTime occurredAt;
+
+    private DashboardEvent(Type type, Long applicantId, Long interviewId,
+                           ApplicationStatus previousStatus, ApplicationStatus status,
+                           Integer previousScore, Integer score, Integer count) {
+        this(type, applicantId, interviewId, previousStatus, status, previousScore, score, count, List.of());
+    }
+
+    private DashboardEvent(Type type, Long applicantId, Long interviewId,
+                           ApplicationStatus previousStatus, ApplicationStatus status,
+                           Integer previousScore, Integer score, Integer count,
+                           List<ImportedApplicant> importedApplicants) {
+        this.type = type;
+        this.applicantId = applicantId;
+        this.interviewId = interviewId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.previousScore = previousScore;
+        this.score = score;
+        this.count = count;
+        this.importedApplicants = importedApplicants;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static DashboardEvent applicantRegistered(Long applicantId, ApplicationStatus status) {
+        return new DashboardEvent(Type.APPLICANT_REGISTERED, applicantId, null, null, status, null, null, null);
+    }
+
+    public static DashboardEvent applicantDeleted(Long applicantId, ApplicationStatus previousStatus) {
+        return new DashboardEvent(Type.APPLICANT_DELETED, applicantId, null, previousStatus, null, null, null, null);
+    }
+
+    public static DashboardEvent statusChanged(Long applicantId, ApplicationStatus previousStatus, ApplicationStatus status) {
+        return new DashboardEvent(Type.STATUS_CHANGED, applicantId, null, previousStatus, status, null, null, null);
+    }
+
+    public static DashboardEvent interviewStarted(Long applicantId, Long interviewId, ApplicationStatus previousStatus) {
+        return new DashboardEvent(Type.INTERVIEW_STARTED, applicantId, interviewId,
+            previousStatus, ApplicationStatus.INTERVIEWING, null, null, null);
+    }
+
+    public static DashboardEvent interviewCompleted(Long applicantId, Long interviewId, ApplicationStatus previousStatus) {
+        return new DashboardEvent(Type.INTERVIEW_COMPLETED, applicantId, interviewId,
+            previousStatus, ApplicationStatus.COMPLETED, null, null, null);
+    }
+
+    // score가 null이면 점수 삭제
+    public static DashboardEvent scoreRecorded(Long applicantId, Long interviewId, Integer previousScore, Integer score) {
+        return new DashboardEvent(Type.SCORE_RECORDED, applicantId, interviewId, null, null, previousScore, score, null);
+    }
+
+    // 일괄 등록은 지원자별 이벤트 대신 한 건으로 발행 (리스너가 DB를 다시 읽지 않도록 등록 내용을 함께 전달)
+    public static DashboardEvent applicantsImported(List<ImportedApplicant> applicants) {
+        return new DashboardEvent(Type.APPLICANTS_IMPORTED, null, null, null, null, null, null,
+            applicants.size(), List.copyOf(applicants));
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public ApplicationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public Integer getPreviousScore() {
+        return previousScore;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public List<ImportedApplicant> getImportedApplicants() {
+        return importedApplicants;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    // 일괄 등록된 지원자 한 명 (ID, 상태, 지원일, 포지션, 기술스택)
+    public static class ImportedApplicant {
+        private final Long applicantId;
+        private final ApplicationStatus status;
+        private final LocalDate applyDate;
+        private final Long positionId;
+        private final List<Long> techStackIds;
+
+        public ImportedApplicant(Long applicantId, ApplicationStatus status, LocalDate applyDate,
+                                 Long positionId, List<Long> techStackIds) {
+            this.applicantId = applicantId;
+            this.status = status;
+            this.applyDate = applyDate;
+            this.positionId = positionId;
+            this.techStackIds = List.copyOf(techStackIds);
+        }
+
+        public Long getApplicantId() {
+            return applicantId;
+        }
+
+        public ApplicationStatus getStatus() {
+            return status;
+        }
+
+        public LocalDate getApplyDate() {
+            return applyDate;
+        }
+
+        public Long getPositionId() {
+            return positionId;
+        }
+
+        public List<Long> getTechStackIds() {
+            return techStackIds;
+        }
+    }
+}
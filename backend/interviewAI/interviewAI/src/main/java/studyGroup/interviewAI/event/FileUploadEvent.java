@@ -0,0 +1,46 @@
+package studyGroup.interviewAI.event;
+
+// 내용 주소 저장소에 새 파일이 저장되거나 마지막 참조가 해제되어 삭제되었음을 알리는 이벤트 (문서 텍스트 추출용)
+public class FileUploadEvent {
+
+    public enum Type {
+        STORED,
+        DELETED
+    }
+
+    private final Type type;
+    private final String sha256;
+    private final String filePath;
+    private final String fileType;
+
+    private FileUploadEvent(Type type, String sha256, String filePath, String fileType) {
+        this.type = type;
+        this.sha256 = sha256;
+        this.filePath = filePath;
+        this.fileType = fileType;
+    }
+
+    public static FileUploadEvent stored(String sha256, String filePath, String fileType) {
+        return new FileUploadEvent(Type.STORED, sha256, filePath, fileType);
+    }
+
+    public static FileUploadEvent deleted(String sha256, String filePath) {
+        return new FileUploadEvent(Type.DELETED, sha256, filePath, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+}
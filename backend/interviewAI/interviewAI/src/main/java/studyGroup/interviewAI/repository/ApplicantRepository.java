@@ -1,10 +1,13 @@
 package studyGroup.interviewAI.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.ApplicationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,4 +45,90 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
     
     // 상태별 지원자 수 카운트
     long countByStatus(ApplicationStatus status);
+    
+    // 상태별 지원자 수 일괄 카운트
+    @Query("SELECT a.status, COUNT(a) FROM Applicant a GROUP BY a.status")
+    List<Object[]> countGroupByStatus();
+    
+    // 지원자 상태만 조회
+    @Query("SELECT a.status FROM Applicant a WHERE a.id = :id")
+    Optional<ApplicationStatus> findStatusById(Long id);
+    
+    // 지원자의 이력서/포트폴리오 파일 경로만 조회
+    @Query("SELECT a.resumeFilePath, a.portfolioFilePath FROM Applicant a WHERE a.id = :id")
+    List<Object[]> findFilePathsById(Long id);
+    
+    // 지원자의 포지션 ID와 경력 ID만 조회
+    @Query("SELECT a.position.id, a.experience.id FROM Applicant a WHERE a.id = :id")
+    List<Object[]> findPositionIdAndExperienceIdById(Long id);
+    
+    // 전체 지원자 ID 조회
+    @Query("SELECT a.id FROM Applicant a")
+    List<Long> findAllIds();
+    
+    // 상태별 지원자 ID 조회 - 사전 리포트 일괄 생성용
+    @Query("SELECT a.id FROM Applicant a WHERE a.status = :status ORDER BY a.id")
+    List<Long> findIdsByStatus(ApplicationStatus status);
+    
+    // 전체 (지원자 ID, 포지션 ID, 경험 ID) 조회 - 랭킹 특징 스냅샷용
+    @Query("SELECT a.id, p.id, e.id FROM Applicant a " +
+           "LEFT JOIN a.position p " +
+           "LEFT JOIN a.experience e " +
+           "ORDER BY a.id")
+    List<Object[]> findAllIdWithPositionIdAndExperienceId();
+    
+    // 지원일과 포지션 ID만 조회 - 처리량 집계용
+    @Query("SELECT a.applyAt, a.position.id FROM Applicant a WHERE a.id = :id")
+    List<Object[]> findApplyAtAndPositionIdById(Long id);
+    
+    // ID 순 청크 단위 (ID, 지원일, 포지션 ID) 조회 - 처리량 재집계용
+    @Query("SELECT a.id, a.applyAt, a.position.id FROM Applicant a " +
+           "WHERE a.id > :afterId " +
+           "ORDER BY a.id")
+    List<Object[]> findApplyAtChunk(Long afterId, Pageable pageable);
+    
+    // 커서 기반 지원자 목록 조회 (applyAt 내림차순 - 지원일 없는 지원자는 맨 뒤, 같으면 id 내림차순 + 서버 측 필터)
+    // techStackCount가 0이면 기술스택 필터 미적용, 아니면 techStackIds를 모두 가진 지원자만 조회
+    // 커서: cursorId가 null이면 첫 페이지, cursorApplyAt이 null이면 지원일 없는 구간 안에서 id로만 이어감
+    @Query("SELECT a FROM Applicant a " +
+           "JOIN FETCH a.position p " +
+           "JOIN FETCH a.experience e " +
+           "WHERE (:status IS NULL OR a.status = :status) " +
+           "AND (:positionId IS NULL OR p.id = :positionId) " +
+           "AND (:experienceId IS NULL OR e.id = :experienceId) " +
+           "AND (:techStackCount = 0 OR a.id IN (" +
+           "SELECT at.applicant.id FROM ApplicantTech at " +
+           "WHERE at.techStack.id IN :techStackIds " +
+           "GROUP BY at.applicant.id " +
+           "HAVING COUNT(DISTINCT at.techStack.id) = :techStackCount)) " +
+           "AND (:cursorId IS NULL " +
+           "OR (:cursorApplyAt IS NULL AND a.applyAt IS NULL AND a.id < :cursorId) " +
+           "OR (:cursorApplyAt IS NOT NULL AND (a.applyAt IS NULL " +
+           "OR a.applyAt < :cursorApplyAt " +
+           "OR (a.applyAt = :cursorApplyAt AND a.id < :cursorId)))) " +
+           "ORDER BY a.applyAt DESC NULLS LAST, a.id DESC")
+    List<Applicant> findPageByCursor(ApplicationStatus status,
+                                     Long positionId,
+                                     Long experienceId,
+                                     Collection<Long> techStackIds,
+                                     long techStackCount,
+                                     LocalDateTime cursorApplyAt,
+                                     Long cursorId,
+                                     Pageable pageable);
+    
+    // 필터 조건에 맞는 전체 지원자 수
+    @Query("SELECT COUNT(a) FROM Applicant a " +
+           "WHERE (:status IS NULL OR a.status = :status) " +
+           "AND (:positionId IS NULL OR a.position.id = :positionId) " +
+           "AND (:experienceId IS NULL OR a.experience.id = :experienceId) " +
+           "AND (:techStackCount = 0 OR a.id IN (" +
+           "SELECT at.applicant.id FROM ApplicantTech at " +
+           "WHERE at.techStack.id IN :techStackIds " +
+           "GROUP BY at.applicant.id " +
+           "HAVING COUNT(DISTINCT at.techStack.id) = :techStackCount))")
+    long countByFilters(ApplicationStatus status,
+                        Long positionId,
+                        Long experienceId,
+                        Collection<Long> techStackIds,
+                        long techStackCount);
 } 
\ No newline at end of file
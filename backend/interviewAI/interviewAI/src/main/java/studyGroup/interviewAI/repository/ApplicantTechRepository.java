@@ -1,8 +1,10 @@
 package studyGroup.interviewAI.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.ApplicantTech;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicantTechRepository extends JpaRepository<ApplicantTech, Long> {
@@ -11,4 +13,21 @@ public interface ApplicantTechRepository extends JpaRepository<ApplicantTech, Lo
     
     // 특정 기술스택을 가진 지원자들 조회
     List<ApplicantTech> findByTechStackId(Long techStackId);
+    
+    // 전체 (지원자 ID, 기술스택) 쌍 일괄 조회 - 대시보드용
+    @Query("SELECT at.applicant.id, ts FROM ApplicantTech at " +
+           "JOIN at.techStack ts " +
+           "ORDER BY at.id")
+    List<Object[]> findAllApplicantIdWithTechStack();
+    
+    // 지정한 지원자들의 (지원자 ID, 기술스택) 쌍 일괄 조회
+    @Query("SELECT at.applicant.id, ts FROM ApplicantTech at " +
+           "JOIN at.techStack ts " +
+           "WHERE at.applicant.id IN :applicantIds " +
+           "ORDER BY at.id")
+    List<Object[]> findApplicantIdWithTechStackByApplicantIdIn(Collection<Long> applicantIds);
+    
+    // 전체 (지원자 ID, 기술스택 ID) 쌍 조회 - 비트맵 인덱스 적재용
+    @Query("SELECT at.applicant.id, at.techStack.id FROM ApplicantTech at")
+    List<Object[]> findAllApplicantIdAndTechStackId();
 } 
\ No newline at end of file
@@ -1,11 +1,31 @@
 package studyGroup.interviewAI.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.Conversation;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
     // 특정 면접의 대화 조회
     List<Conversation> findByInterviewIdOrderById(Long interviewId);
-} 
\ No newline at end of file
+
+    // 특정 대화 이후에 추가된 대화만 조회 (LLM 컨텍스트 증분 갱신용)
+    List<Conversation> findByInterviewIdAndIdGreaterThanOrderById(Long interviewId, Long afterId);
+
+    // 면접의 마지막 대화 ID
+    @Query("SELECT MAX(c.id) FROM Conversation c WHERE c.interview.id = :interviewId")
+    Optional<Long> findLastIdByInterviewId(Long interviewId);
+
+    // 대화가 속한 면접 ID만 조회
+    @Query("SELECT c.interview.id FROM Conversation c WHERE c.id = :id")
+    Optional<Long> findInterviewIdById(Long id);
+
+    // 특정 순번 이후의 대화만 순번 순으로 조회 ((interview_id, seq) 인덱스 범위 조회)
+    List<Conversation> findByInterviewIdAndSeqGreaterThanOrderBySeq(Long interviewId, Long afterSeq);
+
+    // 대화의 (면접 ID, 순번) 조회
+    @Query("SELECT c.interview.id, c.seq FROM Conversation c WHERE c.id = :id")
+    List<Object[]> findInterviewIdAndSeqById(Long id);
+}
@@ -0,0 +1,29 @@
+package studyGroup.interviewAI.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import studyGroup.interviewAI.entity.DocumentText;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentTextRepository extends JpaRepository<DocumentText, Long> {
+    Optional<DocumentText> findBySha256(String sha256);
+
+    boolean existsBySha256(String sha256);
+
+    // 지원자에 저장된 파일 경로로 추출 텍스트 조회 (경로 → 파일 해시 → 텍스트, 모두 인덱스 조회)
+    @Query("SELECT d FROM DocumentText d WHERE d.sha256 IN (SELECT f.sha256 FROM FileUpload f WHERE f.filePath = :filePath)")
+    Optional<DocumentText> findByFilePath(String filePath);
+
+    // 아직 추출 결과가 없는 업로드 파일 (sha256, 경로, 파일 형식) - 재시작/큐 초과로 빠진 파일 보충용
+    @Query("SELECT f.sha256, f.filePath, f.fileType FROM FileUpload f " +
+           "WHERE NOT EXISTS (SELECT d.id FROM DocumentText d WHERE d.sha256 = f.sha256) ORDER BY f.id")
+    List<Object[]> findUploadsWithoutText(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DocumentText d WHERE d.sha256 = :sha256")
+    int deleteBySha256(String sha256);
+}
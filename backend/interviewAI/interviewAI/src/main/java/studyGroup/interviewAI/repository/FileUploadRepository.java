@@ -0,0 +1,45 @@
+package studyGroup.interviewAI.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import studyGroup.interviewAI.entity.FileUpload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileUploadRepository extends JpaRepository<FileUpload, Long> {
+    // 같은 내용의 파일 조회 (중복 업로드 판별)
+    Optional<FileUpload> findBySha256(String sha256);
+
+    // 지원자에 저장된 경로로 파일 조회
+    Optional<FileUpload> findByFilePath(String filePath);
+
+    // 지원자에 경로가 연결됨 (행을 읽지 않고 UPDATE 한 번, 저장소 밖의 경로면 0건)
+    @Modifying
+    @Query("UPDATE FileUpload f SET f.refCount = f.refCount + :count WHERE f.filePath = :filePath")
+    int acquireByFilePath(String filePath, int count);
+
+    // 지원자에서 경로가 빠짐 (0 아래로 내려가지 않음, 만료 기준 시각 갱신)
+    @Modifying
+    @Query("UPDATE FileUpload f SET f.refCount = f.refCount - 1, f.lastReferencedAt = :now " +
+           "WHERE f.filePath = :filePath AND f.refCount > 0")
+    int releaseByFilePath(String filePath, LocalDateTime now);
+
+    // 같은 내용을 다시 올림 (연결 전 만료되지 않도록 기준 시각 갱신)
+    @Modifying
+    @Query("UPDATE FileUpload f SET f.lastReferencedAt = :now WHERE f.id = :id")
+    int touch(Long id, LocalDateTime now);
+
+    // 참조 없이 만료된 파일 (ID, SHA-256, 경로)
+    @Query("SELECT f.id, f.sha256, f.filePath FROM FileUpload f " +
+           "WHERE f.refCount <= 0 AND (f.lastReferencedAt IS NULL OR f.lastReferencedAt < :threshold)")
+    List<Object[]> findUnreferencedBefore(LocalDateTime threshold);
+
+    // 그 사이 연결되지 않았을 때만 삭제 (조건부 DELETE라 연결과 경쟁해도 안전)
+    @Modifying
+    @Query("DELETE FROM FileUpload f WHERE f.id = :id AND f.refCount <= 0 " +
+           "AND (f.lastReferencedAt IS NULL OR f.lastReferencedAt < :threshold)")
+    int deleteIfUnreferenced(Long id, LocalDateTime threshold);
+}
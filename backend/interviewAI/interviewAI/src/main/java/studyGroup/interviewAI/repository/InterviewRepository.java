@@ -1,9 +1,14 @@
 package studyGroup.interviewAI.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.Interview;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
     // 완료된 면접 수 조회
@@ -14,4 +19,50 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
     
     // 특정 지원자의 면접 조회
     List<Interview> findByApplicantId(Long applicantId);
-} 
\ No newline at end of file
+    
+    // 전체 면접 요약 (면접 ID, 지원자 ID, 완료 시각) 일괄 조회 - 대시보드용
+    @Query("SELECT i.id, i.applicant.id, i.doneAt FROM Interview i " +
+           "WHERE i.applicant IS NOT NULL " +
+           "ORDER BY i.id")
+    List<Object[]> findAllSummaries();
+    
+    // 지정한 지원자들의 면접 요약 일괄 조회
+    @Query("SELECT i.id, i.applicant.id, i.doneAt FROM Interview i " +
+           "WHERE i.applicant.id IN :applicantIds " +
+           "ORDER BY i.id")
+    List<Object[]> findSummariesByApplicantIdIn(Collection<Long> applicantIds);
+    
+    // 면접의 지원자 ID만 조회
+    @Query("SELECT i.applicant.id FROM Interview i WHERE i.id = :id")
+    Optional<Long> findApplicantIdById(Long id);
+    
+    // 면접 지원자의 (포지션 ID, 경험 ID) 조회 - 질문 추천 대체 응답용
+    @Query("SELECT p.id, e.id FROM Interview i " +
+           "JOIN i.applicant a " +
+           "LEFT JOIN a.position p " +
+           "LEFT JOIN a.experience e " +
+           "WHERE i.id = :id")
+    List<Object[]> findPositionIdAndExperienceIdById(Long id);
+    
+    // 완료 시각과 지원자 포지션 ID만 조회 - 처리량 집계용
+    @Query("SELECT i.doneAt, a.position.id FROM Interview i " +
+           "JOIN i.applicant a " +
+           "WHERE i.id = :id")
+    List<Object[]> findDoneAtAndPositionIdById(Long id);
+    
+    // ID 순 청크 단위 완료 면접 (ID, 완료 시각, 포지션 ID) 조회 - 처리량 재집계용
+    @Query("SELECT i.id, i.doneAt, a.position.id FROM Interview i " +
+           "JOIN i.applicant a " +
+           "WHERE i.id > :afterId AND i.doneAt IS NOT NULL " +
+           "ORDER BY i.id")
+    List<Object[]> findDoneAtChunk(Long afterId, Pageable pageable);
+    
+    // 대화 순번 count개 예약 (면접 행 잠금으로 면접별 순번 직렬화, 0이면 면접 없음)
+    @Modifying
+    @Query("UPDATE Interview i SET i.conversationSeq = COALESCE(i.conversationSeq, 0) + :count WHERE i.id = :id")
+    int reserveConversationSeq(Long id, long count);
+    
+    // 마지막으로 부여한 대화 순번
+    @Query("SELECT i.conversationSeq FROM Interview i WHERE i.id = :id")
+    Optional<Long> findConversationSeqById(Long id);
+}
@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.PostReport;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
@@ -13,4 +15,35 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     // 평균 점수 계산
     @Query("SELECT AVG(p.score) FROM PostReport p WHERE p.score IS NOT NULL")
     Double findAverageScore();
+    
+    // 점수 개수와 합계 조회
+    @Query("SELECT COUNT(p.score), SUM(p.score) FROM PostReport p WHERE p.score IS NOT NULL")
+    List<Object[]> findScoreCountAndSum();
+    
+    // 평가 점수만 조회
+    @Query("SELECT p.score FROM PostReport p WHERE p.id = :id")
+    Optional<Integer> findScoreById(Long id);
+    
+    // 평가의 면접 ID만 조회
+    @Query("SELECT p.interview.id FROM PostReport p WHERE p.id = :id")
+    Optional<Long> findInterviewIdById(Long id);
+    
+    // 전체 (점수, 포지션 ID, 경력 ID) 조회 - 점수 분포 적재용
+    @Query("SELECT p.score, a.position.id, a.experience.id FROM PostReport p " +
+           "JOIN p.interview i " +
+           "JOIN i.applicant a " +
+           "WHERE p.score IS NOT NULL")
+    List<Object[]> findAllScoresWithPositionAndExperience();
+    
+    // 전체 (면접 ID, 점수) 쌍 일괄 조회 - 대시보드용
+    @Query("SELECT p.interview.id, p.score FROM PostReport p " +
+           "WHERE p.interview IS NOT NULL " +
+           "ORDER BY p.id")
+    List<Object[]> findAllInterviewIdAndScore();
+    
+    // 지정한 면접들의 (면접 ID, 점수) 쌍 일괄 조회
+    @Query("SELECT p.interview.id, p.score FROM PostReport p " +
+           "WHERE p.interview.id IN :interviewIds " +
+           "ORDER BY p.id")
+    List<Object[]> findInterviewIdAndScoreByInterviewIdIn(Collection<Long> interviewIds);
 } 
\ No newline at end of file
@@ -34,4 +34,8 @@ public interface PreReportRepository extends JpaRepository<PreReport, Long> {
            "JOIN FETCH a.experience " +
            "WHERE a.id = :applicantId")
     List<PreReport> findByApplicantIdWithRelations(Long applicantId);
-} 
\ No newline at end of file
+    
+    // 지원자 ID만 조회 (삭제 전 번들 무효화용)
+    @Query("SELECT p.applicant.id FROM PreReport p WHERE p.id = :id")
+    Optional<Long> findApplicantIdById(Long id);
+}
\ No newline at end of file
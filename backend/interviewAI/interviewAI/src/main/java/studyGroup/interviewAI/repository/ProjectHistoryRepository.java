@@ -1,6 +1,8 @@
 package studyGroup.interviewAI.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import studyGroup.interviewAI.entity.ProjectHistory;
 
@@ -37,4 +39,21 @@ public interface ProjectHistoryRepository extends JpaRepository<ProjectHistory,
            "JOIN FETCH p.techStack " +
            "WHERE a.id = :applicantId")
     List<ProjectHistory> findByApplicantIdWithRelations(Long applicantId);
-} 
\ No newline at end of file
+    
+    // (ID, 주 기술스택 ID, 설명) ID 순 청크 조회 - ProjectTech 마이그레이션용
+    @Query("SELECT p.id, p.techStack.id, p.description FROM ProjectHistory p " +
+           "WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findTechMigrationChunk(Long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE ProjectHistory p SET p.description = :description WHERE p.id = :id")
+    int updateDescription(Long id, String description);
+    
+    // 지원자 ID만 조회 (삭제 전 번들 무효화용)
+    @Query("SELECT p.applicant.id FROM ProjectHistory p WHERE p.id = :id")
+    Optional<Long> findApplicantIdById(Long id);
+    
+    // 주 기술스택 ID만 조회 - 수정 시 이전 주 기술스택 연결 정리용
+    @Query("SELECT p.techStack.id FROM ProjectHistory p WHERE p.id = :id")
+    Optional<Long> findTechStackIdById(Long id);
+}
\ No newline at end of file
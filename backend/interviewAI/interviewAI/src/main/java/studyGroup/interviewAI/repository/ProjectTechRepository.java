@@ -0,0 +1,42 @@
+package studyGroup.interviewAI.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import studyGroup.interviewAI.entity.ProjectTech;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectTechRepository extends JpaRepository<ProjectTech, Long> {
+
+    // 특정 지원자의 프로젝트 기술스택을 기술스택과 함께 조회 (프로젝트 순, 등록 순)
+    @Query("SELECT pt FROM ProjectTech pt " +
+           "JOIN FETCH pt.techStack " +
+           "WHERE pt.projectHistory.applicant.id = :applicantId " +
+           "ORDER BY pt.projectHistory.id, pt.id")
+    List<ProjectTech> findByApplicantIdWithTechStack(Long applicantId);
+
+    // 특정 프로젝트의 기술스택 ID 조회
+    @Query("SELECT pt.techStack.id FROM ProjectTech pt WHERE pt.projectHistory.id = :projectHistoryId")
+    List<Long> findTechStackIdsByProjectHistoryId(Long projectHistoryId);
+
+    // 연결이 하나라도 있는 프로젝트 ID 조회 - 마이그레이션용
+    @Query("SELECT DISTINCT pt.projectHistory.id FROM ProjectTech pt WHERE pt.projectHistory.id IN :projectHistoryIds")
+    List<Long> findProjectHistoryIdsIn(Collection<Long> projectHistoryIds);
+
+    // 전체 (지원자 ID, 기술스택 ID) 조회 - 랭킹 특징 스냅샷용
+    @Query("SELECT pt.projectHistory.applicant.id, pt.techStack.id FROM ProjectTech pt")
+    List<Object[]> findAllApplicantIdAndTechStackId();
+
+    @Modifying
+    @Query("DELETE FROM ProjectTech pt WHERE pt.projectHistory.id = :projectHistoryId")
+    int deleteByProjectHistoryId(Long projectHistoryId);
+
+    // 주 기술스택을 따라 만들어진 연결 삭제 (명시적으로 추가된 기술스택 연결은 유지)
+    @Modifying
+    @Query("DELETE FROM ProjectTech pt WHERE pt.projectHistory.id = :projectHistoryId " +
+           "AND pt.techStack.id = :techStackId " +
+           "AND (pt.mainStack IS NULL OR pt.mainStack = true)")
+    int deleteMainStackLink(Long projectHistoryId, Long techStackId);
+}
@@ -0,0 +1,32 @@
+package studyGroup.interviewAI.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import studyGroup.interviewAI.entity.ThroughputMetric;
+import studyGroup.interviewAI.entity.ThroughputRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ThroughputRollupRepository extends JpaRepository<ThroughputRollup, Long> {
+    
+    // 집계 행 건수 증감 (대상 행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE ThroughputRollup r SET r.eventCount = r.eventCount + :delta " +
+           "WHERE r.metric = :metric AND r.bucketDate = :bucketDate AND r.positionId = :positionId")
+    int addToCount(ThroughputMetric metric, LocalDate bucketDate, Long positionId, long delta);
+    
+    // 기간별 집계 조회
+    List<ThroughputRollup> findByMetricAndBucketDateBetweenOrderByBucketDate(ThroughputMetric metric, LocalDate from, LocalDate to);
+    
+    // 기간 + 포지션별 집계 조회
+    List<ThroughputRollup> findByMetricAndPositionIdAndBucketDateBetweenOrderByBucketDate(ThroughputMetric metric, Long positionId, LocalDate from, LocalDate to);
+    
+    // 지표 전체 삭제 (재집계용)
+    @Modifying
+    @Query("DELETE FROM ThroughputRollup r WHERE r.metric = :metric")
+    int deleteByMetric(ThroughputMetric metric);
+    
+    boolean existsByMetric(ThroughputMetric metric);
+}
@@ -37,4 +37,12 @@ public interface WorkHistoryRepository extends JpaRepository<WorkHistory, Long>
            "JOIN FETCH w.position " +
            "WHERE a.id = :applicantId")
     List<WorkHistory> findByApplicantIdWithRelations(Long applicantId);
-} 
\ No newline at end of file
+    
+    // 전체 (지원자 ID, 포지션 ID, 시작일, 종료일) 조회 - 랭킹 특징 스냅샷용
+    @Query("SELECT w.applicant.id, w.position.id, w.startDate, w.endDate FROM WorkHistory w")
+    List<Object[]> findAllApplicantIdWithPositionIdAndPeriod();
+    
+    // 지원자 ID만 조회 (삭제 전 번들 무효화용)
+    @Query("SELECT w.applicant.id FROM WorkHistory w WHERE w.id = :id")
+    Optional<Long> findApplicantIdById(Long id);
+}
\ No newline at end of file
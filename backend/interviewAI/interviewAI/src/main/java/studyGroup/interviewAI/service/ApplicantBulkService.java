@@ -0,0 +1,314 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.ApplicantTech;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.Experience;
+import studyGroup.interviewAI.entity.Position;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 지원자 일괄 등록 (캠퍼스 리크루팅 등 대량 import)
+// 참조 ID(포지션/경험/기술스택)는 참조 데이터 카탈로그로 확인하고,
+// 지원자와 ApplicantTech는 청크 단위로 flush해 JDBC 배치 insert로 저장한다.
+// 인메모리 통계/비트맵 인덱스는 커밋 후 이벤트로 반영해 롤백된 지원자가 남지 않게 한다.
+@Service
+public class ApplicantBulkService {
+    private static final int MAX_BULK_SIZE = 5000;
+
+    private final ApplicantRepository applicantRepository;
+    private final ApplicantTechRepository applicantTechRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final DashboardStatistics dashboardStatistics;
+    private final TechStackBitmapIndex techStackBitmapIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileUploadService fileUploadService;
+    private final int flushChunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ApplicantBulkService(ApplicantRepository applicantRepository,
+                                ApplicantTechRepository applicantTechRepository,
+                                ReferenceCatalog referenceCatalog,
+                                DashboardStatistics dashboardStatistics,
+                                TechStackBitmapIndex techStackBitmapIndex,
+                                ApplicationEventPublisher eventPublisher,
+                                FileUploadService fileUploadService,
+                                @Value("${applicant.bulk.flush-chunk-size:500}") int flushChunkSize) {
+        this.applicantRepository = applicantRepository;
+        this.applicantTechRepository = applicantTechRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.dashboardStatistics = dashboardStatistics;
+        this.techStackBitmapIndex = techStackBitmapIndex;
+        this.eventPublisher = eventPublisher;
+        this.fileUploadService = fileUploadService;
+        this.flushChunkSize = flushChunkSize;
+    }
+
+    // allOrNothing=true면 한 행이라도 오류가 있을 때 아무것도 저장하지 않는다.
+    @Transactional
+    public Map<String, Object> registerAll(List<Map<String, Object>> rows, boolean allOrNothing) {
+        if (rows == null || rows.isEmpty()) {
+            throw new RuntimeException("등록할 지원자가 없습니다.");
+        }
+        if (rows.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("한 번에 등록할 수 있는 지원자는 최대 " + MAX_BULK_SIZE + "명입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 행 단위 형식 검증 및 참조 ID 수집
+        List<BulkRow> parsedRows = new ArrayList<>();
+        List<Map<String, Object>> errors = new ArrayList<>();
+        Set<Long> positionIds = new HashSet<>();
+        Set<Long> experienceIds = new HashSet<>();
+        Set<Long> techStackIds = new HashSet<>();
+        for (int index = 0; index < rows.size(); index++) {
+            try {
+                BulkRow row = parseRow(index, rows.get(index));
+                positionIds.add(row.positionId);
+                experienceIds.add(row.experienceId);
+                techStackIds.addAll(row.techStackIds);
+                parsedRows.add(row);
+            } catch (RuntimeException e) {
+                errors.add(error(index, e.getMessage()));
+            }
+        }
+
+        // 2. 참조 엔티티는 카탈로그에서 확인 (DB 조회 없음)
+        Map<Long, Position> positions = new HashMap<>();
+        positionIds.forEach(id -> referenceCatalog.findPosition(id).ifPresent(position -> positions.put(id, position)));
+        Map<Long, Experience> experiences = new HashMap<>();
+        experienceIds.forEach(id -> referenceCatalog.findExperience(id).ifPresent(experience -> experiences.put(id, experience)));
+        Map<Long, TechStack> techStacks = new HashMap<>();
+        techStackIds.forEach(id -> referenceCatalog.findTechStack(id).ifPresent(techStack -> techStacks.put(id, techStack)));
+
+        List<BulkRow> validRows = new ArrayList<>();
+        for (BulkRow row : parsedRows) {
+            String message = missingReference(row, positions, experiences, techStacks);
+            if (message != null) {
+                errors.add(error(row.index, message));
+            } else {
+                validRows.add(row);
+            }
+        }
+        errors.sort((a, b) -> Integer.compare((Integer) a.get("index"), (Integer) b.get("index")));
+
+        List<Long> createdIds = new ArrayList<>();
+        if (!errors.isEmpty() && allOrNothing) {
+            return result(rows.size(), createdIds, errors, startedAt);
+        }
+
+        // 3. 청크 단위 저장 (시퀀스 풀에서 ID를 받으므로 insert가 배치로 묶인다)
+        List<DashboardEvent.ImportedApplicant> imported = new ArrayList<>();
+        Map<String, Integer> fileReferences = new HashMap<>();
+        for (int start = 0; start < validRows.size(); start += flushChunkSize) {
+            List<BulkRow> chunk = validRows.subList(start, Math.min(start + flushChunkSize, validRows.size()));
+            List<Applicant> applicants = new ArrayList<>(chunk.size());
+            for (BulkRow row : chunk) {
+                Applicant applicant = row.applicant;
+                applicant.setPosition(positions.get(row.positionId));
+                applicant.setExperience(experiences.get(row.experienceId));
+                applicants.add(applicant);
+            }
+            applicantRepository.saveAll(applicants);
+
+            List<ApplicantTech> applicantTechs = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                Applicant applicant = applicants.get(i);
+                for (Long techStackId : chunk.get(i).techStackIds) {
+                    ApplicantTech applicantTech = new ApplicantTech();
+                    applicantTech.setApplicant(applicant);
+                    applicantTech.setTechStack(techStacks.get(techStackId));
+                    applicantTechs.add(applicantTech);
+                }
+                createdIds.add(applicant.getId());
+                if (applicant.getResumeFilePath() != null) {
+                    fileReferences.merge(applicant.getResumeFilePath(), 1, Integer::sum);
+                }
+                if (applicant.getPortfolioFilePath() != null) {
+                    fileReferences.merge(applicant.getPortfolioFilePath(), 1, Integer::sum);
+                }
+                imported.add(new DashboardEvent.ImportedApplicant(applicant.getId(), applicant.getStatus(),
+                    applicant.getApplyAt().toLocalDate(), chunk.get(i).positionId, new ArrayList<>(chunk.get(i).techStackIds)));
+            }
+            applicantTechRepository.saveAll(applicantTechs);
+
+            // 영속성 컨텍스트가 커지지 않도록 청크마다 비움
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        // 업로드 파일 참조 수 (같은 트랜잭션이라 등록이 롤백되면 함께 롤백)
+        fileUploadService.acquireAll(fileReferences);
+        if (!createdIds.isEmpty()) {
+            eventPublisher.publishEvent(DashboardEvent.applicantsImported(imported));
+        }
+        return result(rows.size(), createdIds, errors, startedAt);
+    }
+
+    // 일괄 등록 커밋 후 통계 카운터와 기술스택 인덱스 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicantsImported(DashboardEvent event) {
+        if (event.getType() != DashboardEvent.Type.APPLICANTS_IMPORTED) {
+            return;
+        }
+        Map<Long, List<Long>> techStackIdsByApplicant = new LinkedHashMap<>();
+        for (DashboardEvent.ImportedApplicant applicant : event.getImportedApplicants()) {
+            dashboardStatistics.applicantAdded(applicant.getStatus());
+            techStackIdsByApplicant.put(applicant.getApplicantId(), applicant.getTechStackIds());
+        }
+        techStackBitmapIndex.addAll(techStackIdsByApplicant);
+    }
+
+    // 요청 행 → 지원자 엔티티 (참조 엔티티는 나중에 연결)
+    private BulkRow parseRow(int index, Map<String, Object> data) {
+        if (data == null) {
+            throw new RuntimeException("빈 행입니다.");
+        }
+        String username = text(data.get("username"));
+        String email = text(data.get("email"));
+        if (username == null) {
+            throw new RuntimeException("username은 필수입니다.");
+        }
+        if (email == null) {
+            throw new RuntimeException("email은 필수입니다.");
+        }
+
+        Applicant applicant = new Applicant();
+        applicant.setUsername(username);
+        applicant.setEmail(email);
+        applicant.setLocation(text(data.get("location")));
+        applicant.setResumeFilePath(text(data.get("resumeFilePath")));
+        applicant.setGithubUrl(text(data.get("githubUrl")));
+        applicant.setPortfolioUrl(text(data.get("portfolioUrl")));
+        applicant.setPortfolioFilePath(text(data.get("portfolioFilePath")));
+
+        String applyAt = text(data.get("applyAt"));
+        try {
+            applicant.setApplyAt(applyAt != null ? LocalDateTime.parse(applyAt) : LocalDateTime.now());
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("applyAt 형식이 올바르지 않습니다: " + applyAt);
+        }
+
+        String status = text(data.get("status"));
+        try {
+            applicant.setStatus(status != null ? ApplicationStatus.valueOf(status) : ApplicationStatus.WAITING);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("알 수 없는 상태입니다: " + status);
+        }
+
+        Long positionId = id(data.get("positionId"), "positionId");
+        Long experienceId = id(data.get("experienceId"), "experienceId");
+        if (positionId == null) {
+            throw new RuntimeException("positionId는 필수입니다.");
+        }
+        if (experienceId == null) {
+            throw new RuntimeException("experienceId는 필수입니다.");
+        }
+
+        // 중복 기술스택은 한 번만 연결
+        Set<Long> techStackIds = new LinkedHashSet<>();
+        if (data.get("techStackIds") != null) {
+            if (!(data.get("techStackIds") instanceof List)) {
+                throw new RuntimeException("techStackIds는 배열이어야 합니다.");
+            }
+            for (Object techStackId : (List<Object>) data.get("techStackIds")) {
+                Long id = id(techStackId, "techStackIds");
+                if (id == null) {
+                    throw new RuntimeException("techStackIds에 빈 값이 있습니다.");
+                }
+                techStackIds.add(id);
+            }
+        }
+        return new BulkRow(index, applicant, positionId, experienceId, techStackIds);
+    }
+
+    private String missingReference(BulkRow row, Map<Long, Position> positions,
+                                    Map<Long, Experience> experiences, Map<Long, TechStack> techStacks) {
+        if (!positions.containsKey(row.positionId)) {
+            return "Position not found: " + row.positionId;
+        }
+        if (!experiences.containsKey(row.experienceId)) {
+            return "Experience not found: " + row.experienceId;
+        }
+        for (Long techStackId : row.techStackIds) {
+            if (!techStacks.containsKey(techStackId)) {
+                return "TechStack not found: " + techStackId;
+            }
+        }
+        return null;
+    }
+
+    private String text(Object value) {
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+        return value.toString().trim();
+    }
+
+    private Long id(Object value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private Map<String, Object> error(int index, String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("index", index);
+        error.put("message", message);
+        return error;
+    }
+
+    private Map<String, Object> result(int requested, List<Long> createdIds, List<Map<String, Object>> errors, long startedAt) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("requested", requested);
+        result.put("created", createdIds.size());
+        result.put("failed", errors.size());
+        result.put("applicantIds", createdIds);
+        result.put("errors", errors);
+        result.put("elapsedMs", System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    private static class BulkRow {
+        final int index;
+        final Applicant applicant;
+        final Long positionId;
+        final Long experienceId;
+        final Set<Long> techStackIds;
+
+        BulkRow(int index, Applicant applicant, Long positionId, Long experienceId, Set<Long> techStackIds) {
+            this.index = index;
+            this.applicant = applicant;
+            this.positionId = positionId;
+            this.experienceId = experienceId;
+            this.techStackIds = techStackIds;
+        }
+    }
+}
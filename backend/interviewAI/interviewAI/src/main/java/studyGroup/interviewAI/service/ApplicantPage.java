@@ -0,0 +1,36 @@
+package studyGroup.interviewAI.service;
+
+import studyGroup.interviewAI.entity.Applicant;
+
+import java.util.List;
+
+// 커서 기반 지원자 목록 조회 결과
+public class ApplicantPage {
+    private final List<Applicant> applicants;
+    private final String nextCursor;
+    private final Long totalCount;
+
+    public ApplicantPage(List<Applicant> applicants, String nextCursor, Long totalCount) {
+        this.applicants = applicants;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+
+    public List<Applicant> getApplicants() {
+        return applicants;
+    }
+
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    // 전체 개수 (카운트를 끈 경우 null)
+    public Long getTotalCount() {
+        return totalCount;
+    }
+}
@@ -1,49 +1,65 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.ApplicationStatus;
 import studyGroup.interviewAI.entity.TechStack;
 import studyGroup.interviewAI.entity.WorkHistory;
 import studyGroup.interviewAI.entity.ProjectHistory;
 import studyGroup.interviewAI.entity.ApplicantTech;
+import studyGroup.interviewAI.event.ApplicantProfileChangedEvent;
+import studyGroup.interviewAI.event.DashboardEvent;
 import studyGroup.interviewAI.repository.ApplicantRepository;
 import studyGroup.interviewAI.repository.ApplicantTechRepository;
 import studyGroup.interviewAI.repository.WorkHistoryRepository;
 import studyGroup.interviewAI.repository.ProjectHistoryRepository;
-import studyGroup.interviewAI.repository.TechStackRepository;
-import studyGroup.interviewAI.repository.PositionRepository;
-import studyGroup.interviewAI.repository.ExperienceRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class ApplicantService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ApplicantRepository applicantRepository;
     private final ApplicantTechRepository applicantTechRepository;
     private final WorkHistoryRepository workHistoryRepository;
     private final ProjectHistoryRepository projectHistoryRepository;
-    private final TechStackRepository techStackRepository;
-    private final PositionRepository positionRepository;
-    private final ExperienceRepository experienceRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final DashboardStatistics dashboardStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TechStackBitmapIndex techStackBitmapIndex;
+    private final FileUploadService fileUploadService;
 
     public ApplicantService(ApplicantRepository applicantRepository,
                           ApplicantTechRepository applicantTechRepository,
                           WorkHistoryRepository workHistoryRepository,
                           ProjectHistoryRepository projectHistoryRepository,
-                          TechStackRepository techStackRepository,
-                          PositionRepository positionRepository,
-                          ExperienceRepository experienceRepository) {
+                          ReferenceCatalog referenceCatalog,
+                          DashboardStatistics dashboardStatistics,
+                          ApplicationEventPublisher eventPublisher,
+                          TechStackBitmapIndex techStackBitmapIndex,
+                          FileUploadService fileUploadService) {
         this.applicantRepository = applicantRepository;
         this.applicantTechRepository = applicantTechRepository;
         this.workHistoryRepository = workHistoryRepository;
         this.projectHistoryRepository = projectHistoryRepository;
-        this.techStackRepository = techStackRepository;
-        this.positionRepository = positionRepository;
-        this.experienceRepository = experienceRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.dashboardStatistics = dashboardStatistics;
+        this.eventPublisher = eventPublisher;
+        this.techStackBitmapIndex = techStackBitmapIndex;
+        this.fileUploadService = fileUploadService;
     }
 
     public List<Applicant> findAll() {
@@ -54,26 +70,50 @@ public class ApplicantService {
         return applicantRepository.findByIdWithAllRelations(id);
     }
 
+    // 이전 경로 조회, 지원자 저장, 업로드 파일 참조 수 변경을 한 트랜잭션에서
+    @Transactional
     public Applicant save(Applicant applicant) {
         if (applicant.getApplyAt() == null) {
             applicant.setApplyAt(LocalDateTime.now());
         }
-        return applicantRepository.save(applicant);
+        // 수정인 경우 통계 반영을 위해 이전 상태 확인
+        ApplicationStatus previousStatus = applicant.getId() != null
+            ? applicantRepository.findStatusById(applicant.getId()).orElse(null)
+            : null;
+        List<Object[]> previousFilePaths = previousStatus != null
+            ? applicantRepository.findFilePathsById(applicant.getId())
+            : List.of();
+        Applicant savedApplicant = applicantRepository.save(applicant);
+        // 업로드 파일 참조: 새로 연결된 경로는 증가, 바뀐 이전 경로는 해제
+        String previousResume = previousFilePaths.isEmpty() ? null : (String) previousFilePaths.get(0)[0];
+        String previousPortfolio = previousFilePaths.isEmpty() ? null : (String) previousFilePaths.get(0)[1];
+        fileUploadService.replace(previousResume, savedApplicant.getResumeFilePath());
+        fileUploadService.replace(previousPortfolio, savedApplicant.getPortfolioFilePath());
+        if (previousStatus == null) {
+            dashboardStatistics.applicantAdded(savedApplicant.getStatus());
+            techStackBitmapIndex.addApplicant(savedApplicant.getId());
+            eventPublisher.publishEvent(DashboardEvent.applicantRegistered(savedApplicant.getId(), savedApplicant.getStatus()));
+        } else {
+            dashboardStatistics.statusChanged(previousStatus, savedApplicant.getStatus());
+            if (previousStatus != savedApplicant.getStatus()) {
+                eventPublisher.publishEvent(DashboardEvent.statusChanged(savedApplicant.getId(), previousStatus, savedApplicant.getStatus()));
+            }
+            // 이름/이메일/포지션 등 사전 리포트 번들에 들어가는 정보가 바뀌었을 수 있음
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(savedApplicant.getId()));
+        }
+        return savedApplicant;
     }
 
-    // 통합 지원자 등록 (기술스택 포함)
+    // 통합 지원자 등록 (기술스택 포함, 지원자/기술스택/파일 참조 수를 한 트랜잭션에서)
+    @Transactional
     public Applicant saveWithTechStacks(Applicant applicant, List<Long> techStackIds) {
-        // Position과 Experience 엔티티 완전 로드
+        // Position과 Experience 엔티티는 참조 데이터 카탈로그에서
         if (applicant.getPosition() != null && applicant.getPosition().getId() != null) {
-            studyGroup.interviewAI.entity.Position position = positionRepository.findById(applicant.getPosition().getId())
-                .orElseThrow(() -> new RuntimeException("Position not found: " + applicant.getPosition().getId()));
-            applicant.setPosition(position);
+            applicant.setPosition(referenceCatalog.getPosition(applicant.getPosition().getId()));
         }
         
         if (applicant.getExperience() != null && applicant.getExperience().getId() != null) {
-            studyGroup.interviewAI.entity.Experience experience = experienceRepository.findById(applicant.getExperience().getId())
-                .orElseThrow(() -> new RuntimeException("Experience not found: " + applicant.getExperience().getId()));
-            applicant.setExperience(experience);
+            applicant.setExperience(referenceCatalog.getExperience(applicant.getExperience().getId()));
         }
         
         // 1. 지원자 저장
@@ -81,6 +121,10 @@ public class ApplicantService {
             applicant.setApplyAt(LocalDateTime.now());
         }
         Applicant savedApplicant = applicantRepository.save(applicant);
+        fileUploadService.acquire(savedApplicant.getResumeFilePath());
+        fileUploadService.acquire(savedApplicant.getPortfolioFilePath());
+        dashboardStatistics.applicantAdded(savedApplicant.getStatus());
+        eventPublisher.publishEvent(DashboardEvent.applicantRegistered(savedApplicant.getId(), savedApplicant.getStatus()));
         
         // 2. 기술스택 연결
         if (techStackIds != null && !techStackIds.isEmpty()) {
@@ -90,15 +134,16 @@ public class ApplicantService {
                     applicantTech.setApplicant(savedApplicant);
                     
                     // TechStack 조회 및 설정
-                    TechStack techStack = techStackRepository.findById(techStackId)
-                        .orElseThrow(() -> new RuntimeException("TechStack not found: " + techStackId));
-                    applicantTech.setTechStack(techStack);
+                    applicantTech.setTechStack(referenceCatalog.getTechStack(techStackId));
                     
                     return applicantTech;
                 })
                 .collect(Collectors.toList());
             
             applicantTechRepository.saveAll(applicantTechs);
+            techStackBitmapIndex.addTechStacks(savedApplicant.getId(), techStackIds);
+        } else {
+            techStackBitmapIndex.addApplicant(savedApplicant.getId());
         }
         
         // 3. 완전한 정보로 다시 조회해서 반환
@@ -106,8 +151,88 @@ public class ApplicantService {
             .orElse(savedApplicant);
     }
 
+    // 커서 기반 지원자 목록 조회 (applyAt 내림차순 - 지원일 없으면 맨 뒤, id 내림차순, 서버 측 필터)
+    public ApplicantPage findPage(ApplicationStatus status,
+                                  Long positionId,
+                                  Long experienceId,
+                                  List<Long> techStackIds,
+                                  String cursor,
+                                  int size,
+                                  boolean includeTotal) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        
+        // 기술스택 필터 (모두 보유한 지원자만). IN 절이 비지 않도록 필터가 없으면 더미 값 전달
+        List<Long> techStackFilter = techStackIds != null
+            ? techStackIds.stream().distinct().collect(Collectors.toList())
+            : new ArrayList<>();
+        List<Long> techStackParam = techStackFilter.isEmpty() ? List.of(-1L) : techStackFilter;
+        
+        // 커서 디코딩 ("applyAt_id" 형식, 지원일이 없으면 "_id")
+        LocalDateTime cursorApplyAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                String applyAt = decoded.substring(0, separator);
+                cursorApplyAt = applyAt.isEmpty() ? null : LocalDateTime.parse(applyAt);
+                cursorId = Long.valueOf(decoded.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+            }
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Applicant> rows = applicantRepository.findPageByCursor(
+            status, positionId, experienceId, techStackParam, techStackFilter.size(),
+            cursorApplyAt, cursorId, PageRequest.of(0, pageSize + 1));
+        
+        List<Applicant> applicants = new ArrayList<>(rows.subList(0, Math.min(rows.size(), pageSize)));
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            Applicant last = applicants.get(applicants.size() - 1);
+            String raw = (last.getApplyAt() != null ? last.getApplyAt().toString() : "") + "_" + last.getId();
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        Long totalCount = includeTotal
+            ? applicantRepository.countByFilters(status, positionId, experienceId, techStackParam, techStackFilter.size())
+            : null;
+        
+        return new ApplicantPage(applicants, nextCursor, totalCount);
+    }
+
+    // 여러 지원자의 기술스택 일괄 조회 (지원자 ID -> 기술스택 목록)
+    public Map<Long, List<TechStack>> findTechStacksByApplicantIds(Collection<Long> applicantIds) {
+        Map<Long, List<TechStack>> techStacksByApplicant = new HashMap<>();
+        if (applicantIds.isEmpty()) {
+            return techStacksByApplicant;
+        }
+        for (Object[] row : applicantTechRepository.findApplicantIdWithTechStackByApplicantIdIn(applicantIds)) {
+            techStacksByApplicant.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                .add((TechStack) row[1]);
+        }
+        return techStacksByApplicant;
+    }
+
+    // 파일 경로 조회, 삭제, 참조 해제를 한 트랜잭션에서
+    @Transactional
     public void deleteById(Long id) {
+        Optional<ApplicationStatus> status = applicantRepository.findStatusById(id);
+        List<Object[]> filePaths = applicantRepository.findFilePathsById(id);
         applicantRepository.deleteById(id);
+        // 업로드 파일 참조 해제 (다른 지원자가 같은 파일을 쓰고 있으면 파일은 남음)
+        for (Object[] paths : filePaths) {
+            fileUploadService.release((String) paths[0]);
+            fileUploadService.release((String) paths[1]);
+        }
+        techStackBitmapIndex.removeApplicant(id);
+        // 없는 지원자였으면 통계/구독자에게 알릴 삭제가 없음
+        if (status.isPresent()) {
+            dashboardStatistics.applicantRemoved(status.get());
+            eventPublisher.publishEvent(DashboardEvent.applicantDeleted(id, status.get()));
+        }
     }
 
     // 지원자의 기술 스택 조회
@@ -133,8 +258,13 @@ public class ApplicantService {
         Optional<Applicant> applicantOpt = applicantRepository.findByIdWithAllRelations(id);
         if (applicantOpt.isPresent()) {
             Applicant applicant = applicantOpt.get();
+            ApplicationStatus previousStatus = applicant.getStatus();
             applicant.setStatus(status);
             applicantRepository.save(applicant);
+            dashboardStatistics.statusChanged(previousStatus, status);
+            if (previousStatus != status) {
+                eventPublisher.publishEvent(DashboardEvent.statusChanged(id, previousStatus, status));
+            }
             // 저장 후 다시 모든 관계를 포함하여 조회
             return applicantRepository.findByIdWithAllRelations(id).orElse(applicant);
         } else {
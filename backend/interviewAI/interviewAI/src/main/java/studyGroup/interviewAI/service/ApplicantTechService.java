@@ -4,15 +4,20 @@ import org.springframework.stereotype.Service;
 import studyGroup.interviewAI.entity.ApplicantTech;
 import studyGroup.interviewAI.repository.ApplicantTechRepository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ApplicantTechService {
     private final ApplicantTechRepository applicantTechRepository;
+    private final TechStackBitmapIndex techStackBitmapIndex;
 
-    public ApplicantTechService(ApplicantTechRepository applicantTechRepository) {
+    public ApplicantTechService(ApplicantTechRepository applicantTechRepository,
+                              TechStackBitmapIndex techStackBitmapIndex) {
         this.applicantTechRepository = applicantTechRepository;
+        this.techStackBitmapIndex = techStackBitmapIndex;
     }
 
     public List<ApplicantTech> findAll() {
@@ -24,16 +29,49 @@ public class ApplicantTechService {
     }
 
     public ApplicantTech save(ApplicantTech applicantTech) {
-        return applicantTechRepository.save(applicantTech);
+        ApplicantTech savedApplicantTech = applicantTechRepository.save(applicantTech);
+        addToIndex(savedApplicantTech);
+        return savedApplicantTech;
     }
 
     // 배치 저장: 여러 기술스택 한 번에 저장
     public List<ApplicantTech> saveAll(List<ApplicantTech> applicantTechs) {
-        return applicantTechRepository.saveAll(applicantTechs);
+        List<ApplicantTech> savedApplicantTechs = applicantTechRepository.saveAll(applicantTechs);
+        savedApplicantTechs.forEach(this::addToIndex);
+        return savedApplicantTechs;
     }
 
     public void deleteById(Long id) {
+        Optional<ApplicantTech> applicantTech = applicantTechRepository.findById(id);
         applicantTechRepository.deleteById(id);
+        applicantTech.ifPresent(at -> {
+            if (at.getApplicant() != null && at.getTechStack() != null) {
+                techStackBitmapIndex.removeTechStack(at.getApplicant().getId(), at.getTechStack().getId());
+            }
+        });
+    }
+
+    // 기술스택 비트맵 인덱스 반영
+    private void addToIndex(ApplicantTech applicantTech) {
+        if (applicantTech.getApplicant() != null && applicantTech.getApplicant().getId() != null
+            && applicantTech.getTechStack() != null && applicantTech.getTechStack().getId() != null) {
+            techStackBitmapIndex.addTechStacks(applicantTech.getApplicant().getId(),
+                List.of(applicantTech.getTechStack().getId()));
+        }
+    }
+
+    // 기술스택 조건으로 지원자 ID 조회 (비트맵 인덱스 사용)
+    public Map<String, Object> matchApplicants(List<Long> allOf, List<List<Long>> anyOf, List<Long> noneOf, int limit) {
+        long startedAt = System.nanoTime();
+        CompressedBitmap matched = techStackBitmapIndex.match(allOf, anyOf, noneOf);
+        int[] applicantIds = matched.toArray(Math.max(0, limit));
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1000;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("count", matched.cardinality());
+        result.put("applicantIds", applicantIds);
+        result.put("elapsedMicros", elapsedMicros);
+        return result;
     }
 
     // 특정 지원자의 기술스택 조회
@@ -0,0 +1,367 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 이어 올리기 가능한 청크 업로드
+// 세션을 만들면 전체 크기만큼 파일을 미리 잡아 두고, 청크는 (번호 × 청크 크기) 위치에 positional write로 쓴다.
+// 받은 청크는 비트셋으로 관리하고 세션 메타 파일에 같이 기록해 서버가 재시작돼도 이어 받을 수 있다.
+// 청크를 쓰기 전에 받은 표시를 지워 메타에 먼저 기록하고, 크기/체크섬 검증을 통과한 뒤에만 다시 표시한다.
+// (재전송 도중 끊겨 데이터가 반쯤 덮여도 재시작 후 그 청크가 받은 것으로 남지 않음)
+// 청크는 64KB 버퍼 하나로 흘려 쓰므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+// 완료하면 전체 해시를 계산해 내용 주소 저장소로 옮긴다 (같은 내용이 있으면 참조 수만 증가).
+@Service
+public class ChunkedUploadService {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String DATA_SUFFIX = ".part";
+    private static final String META_SUFFIX = ".meta";
+
+    private static final ThreadLocal<ByteBuffer> STREAM_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(STREAM_BUFFER_SIZE));
+
+    private final ContentAddressedFileStore fileStore;
+    private final FileUploadService fileUploadService;
+    private final Path sessionDir;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final long sessionTtlMs;
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(ContentAddressedFileStore fileStore,
+                                FileUploadService fileUploadService,
+                                @Value("${file.upload.base-dir:uploads}") String baseDir,
+                                @Value("${file.upload.chunked.chunk-size:8388608}") int chunkSize,
+                                @Value("${file.upload.chunked.max-bytes:1073741824}") long maxBytes,
+                                @Value("${file.upload.chunked.session-ttl-ms:86400000}") long sessionTtlMs) throws IOException {
+        this.fileStore = fileStore;
+        this.fileUploadService = fileUploadService;
+        // 완료 시 저장소로 원자적 이동하도록 같은 기준 디렉토리 아래에 둠
+        this.sessionDir = Paths.get(baseDir, ".chunked");
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.sessionTtlMs = sessionTtlMs;
+
+        Files.createDirectories(sessionDir);
+        loadSessions();
+    }
+
+    // 업로드 세션 생성 (전체 크기만큼 파일 확보)
+    public Map<String, Object> createSession(String fileName, long totalSize) throws IOException {
+        if (totalSize <= 0 || totalSize > maxBytes) {
+            throw new IllegalArgumentException("파일 크기는 1 ~ " + maxBytes + " bytes 사이여야 합니다.");
+        }
+        Session session = new Session(UUID.randomUUID().toString(), fileName, totalSize, chunkSize, System.currentTimeMillis());
+        try (RandomAccessFile file = new RandomAccessFile(dataPath(session.id).toFile(), "rw")) {
+            file.setLength(totalSize);
+        }
+        writeMeta(session);
+        sessions.put(session.id, session);
+        return describe(session);
+    }
+
+    // 청크 하나 기록 (같은 청크를 다시 보내도 됨, 체크섬을 주면 검증)
+    public Map<String, Object> writeChunk(String uploadId, int index, InputStream body, String expectedSha256) throws IOException {
+        Session session = getSession(uploadId);
+        if (index < 0 || index >= session.totalChunks()) {
+            throw new IllegalArgumentException("청크 번호는 0 ~ " + (session.totalChunks() - 1) + " 사이여야 합니다.");
+        }
+        long offset = (long) index * session.chunkSize;
+        long expectedLength = Math.min(session.chunkSize, session.totalSize - offset);
+
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalStateException("이미 완료되었거나 취소된 업로드입니다: " + uploadId);
+            }
+            synchronized (session) {
+                if (session.writing.get(index)) {
+                    throw new IllegalStateException("같은 청크를 이미 받고 있습니다: " + index);
+                }
+                session.writing.set(index);
+                if (session.received.get(index)) {
+                    session.received.clear(index);
+                    try {
+                        writeMeta(session);
+                    } catch (IOException | RuntimeException e) {
+                        session.received.set(index);
+                        session.writing.clear(index);
+                        throw e;
+                    }
+                }
+            }
+            try {
+                writeChunkData(session, offset, expectedLength, body, expectedSha256);
+                synchronized (session) {
+                    session.received.set(index);
+                    session.lastActivityMs = System.currentTimeMillis();
+                    writeMeta(session);
+                }
+            } finally {
+                synchronized (session) {
+                    session.writing.clear(index);
+                }
+            }
+        } finally {
+            session.lock.readLock().unlock();
+        }
+        return describe(session);
+    }
+
+    // 청크 내용을 제 위치에 쓰고 크기/체크섬 검증 (실패하면 예외, 받은 표시는 하지 않음)
+    private void writeChunkData(Session session, long offset, long expectedLength,
+                                InputStream body, String expectedSha256) throws IOException {
+        MessageDigest digest = expectedSha256 != null ? sha256() : null;
+        ByteBuffer buffer = STREAM_BUFFER.get();
+        byte[] array = buffer.array();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(dataPath(session.id), StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(array, 0, array.length)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new IllegalArgumentException("청크 크기가 " + expectedLength + " bytes를 넘습니다.");
+                }
+                if (digest != null) {
+                    digest.update(array, 0, read);
+                }
+                buffer.clear().limit(read);
+                long position = offset + written;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                written += read;
+            }
+        } finally {
+            buffer.clear();
+        }
+        if (written != expectedLength) {
+            throw new IllegalArgumentException("청크 크기가 맞지 않습니다: " + written + " / " + expectedLength + " bytes");
+        }
+        if (digest != null && !HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(expectedSha256)) {
+            throw new IllegalArgumentException("청크 체크섬이 일치하지 않습니다.");
+        }
+    }
+
+    // 받은 바이트 범위와 남은 청크 조회 (이어 올리기용)
+    public Map<String, Object> getStatus(String uploadId) {
+        return describe(getSession(uploadId));
+    }
+
+    // 모든 청크를 받았으면 저장소로 옮기고 파일 정보 반환
+    public StoredFile complete(String uploadId) throws IOException {
+        Session session = getSession(uploadId);
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalStateException("이미 완료되었거나 취소된 업로드입니다: " + uploadId);
+            }
+            int missing = session.totalChunks() - session.received.cardinality();
+            if (missing > 0) {
+                throw new IllegalStateException("받지 못한 청크가 " + missing + "개 있습니다.");
+            }
+            session.closed = true;
+            StoredFile stored = fileUploadService.storeStaged(fileStore.stageFile(dataPath(uploadId)), session.fileName);
+            sessions.remove(uploadId);
+            Files.deleteIfExists(dataPath(uploadId));
+            Files.deleteIfExists(metaPath(uploadId));
+            return stored;
+        } catch (IOException | RuntimeException e) {
+            if (sessions.containsKey(uploadId)) {
+                session.closed = false;
+            }
+            throw e;
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    public void abort(String uploadId) throws IOException {
+        Session session = getSession(uploadId);
+        session.lock.writeLock().lock();
+        try {
+            session.closed = true;
+            remove(session);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    // 오래 방치된 세션 정리
+    @Scheduled(fixedDelayString = "${file.upload.chunked.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - sessionTtlMs;
+        for (Session session : sessions.values()) {
+            if (session.lastActivityMs < threshold && session.lock.writeLock().tryLock()) {
+                try {
+                    session.closed = true;
+                    remove(session);
+                } catch (IOException e) {
+                    System.err.println("만료된 업로드 세션 정리 실패: " + session.id + " - " + e.getMessage());
+                } finally {
+                    session.lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private void remove(Session session) throws IOException {
+        sessions.remove(session.id);
+        Files.deleteIfExists(dataPath(session.id));
+        Files.deleteIfExists(metaPath(session.id));
+    }
+
+    private Session getSession(String uploadId) {
+        Session session = sessions.get(uploadId);
+        if (session == null) {
+            throw new RuntimeException("Upload session not found: " + uploadId);
+        }
+        return session;
+    }
+
+    private Map<String, Object> describe(Session session) {
+        Map<String, Object> result = new HashMap<>();
+        List<long[]> ranges = new ArrayList<>();
+        List<Integer> missingChunks = new ArrayList<>();
+        long receivedBytes = 0;
+        synchronized (session) {
+            int totalChunks = session.totalChunks();
+            for (int index = 0; index < totalChunks; index++) {
+                if (!session.received.get(index)) {
+                    missingChunks.add(index);
+                    continue;
+                }
+                long start = (long) index * session.chunkSize;
+                long end = Math.min(start + session.chunkSize, session.totalSize) - 1;
+                receivedBytes += end - start + 1;
+                // 연속된 청크는 한 범위로 합침
+                if (!ranges.isEmpty() && ranges.get(ranges.size() - 1)[1] == start - 1) {
+                    ranges.get(ranges.size() - 1)[1] = end;
+                } else {
+                    ranges.add(new long[]{start, end});
+                }
+            }
+        }
+        result.put("uploadId", session.id);
+        result.put("fileName", session.fileName);
+        result.put("totalSize", session.totalSize);
+        result.put("chunkSize", session.chunkSize);
+        result.put("totalChunks", session.totalChunks());
+        result.put("receivedBytes", receivedBytes);
+        result.put("receivedRanges", ranges);
+        result.put("missingChunks", missingChunks);
+        result.put("complete", missingChunks.isEmpty());
+        return result;
+    }
+
+    // 세션 메타: 파일명, 크기, 청크 크기, 받은 청크 비트셋 (임시 파일에 쓰고 원자적 교체)
+    private void writeMeta(Session session) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("fileName", session.fileName != null ? session.fileName : "");
+        meta.setProperty("totalSize", Long.toString(session.totalSize));
+        meta.setProperty("chunkSize", Integer.toString(session.chunkSize));
+        meta.setProperty("lastActivityMs", Long.toString(session.lastActivityMs));
+        meta.setProperty("received", Base64.getEncoder().encodeToString(session.received.toByteArray()));
+        Path temp = sessionDir.resolve(session.id + META_SUFFIX + ".tmp");
+        try (var writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            meta.store(writer, null);
+        }
+        Files.move(temp, metaPath(session.id), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 재시작 시 진행 중이던 세션 복구 (메타나 데이터 파일이 없으면 버림)
+    private void loadSessions() throws IOException {
+        try (DirectoryStream<Path> metas = Files.newDirectoryStream(sessionDir, "*" + META_SUFFIX)) {
+            for (Path metaFile : metas) {
+                String id = metaFile.getFileName().toString();
+                id = id.substring(0, id.length() - META_SUFFIX.length());
+                if (!Files.exists(dataPath(id))) {
+                    Files.deleteIfExists(metaFile);
+                    continue;
+                }
+                Properties meta = new Properties();
+                try (var reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+                    meta.load(reader);
+                    Session session = new Session(id, meta.getProperty("fileName"),
+                        Long.parseLong(meta.getProperty("totalSize")),
+                        Integer.parseInt(meta.getProperty("chunkSize")),
+                        Long.parseLong(meta.getProperty("lastActivityMs")));
+                    session.received.or(BitSet.valueOf(Base64.getDecoder().decode(meta.getProperty("received"))));
+                    sessions.put(id, session);
+                } catch (RuntimeException e) {
+                    System.err.println("업로드 세션 메타 손상, 건너뜀: " + metaFile + " - " + e.getMessage());
+                }
+            }
+        }
+        if (!sessions.isEmpty()) {
+            System.out.println("진행 중이던 청크 업로드 세션 " + sessions.size() + "개를 복구했습니다.");
+        }
+    }
+
+    private Path dataPath(String uploadId) {
+        return sessionDir.resolve(uploadId + DATA_SUFFIX);
+    }
+
+    private Path metaPath(String uploadId) {
+        return sessionDir.resolve(uploadId + META_SUFFIX);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 업로드 세션 하나 (청크 기록은 읽기 락으로 동시에, 완료/취소는 쓰기 락으로 단독 실행)
+    private static class Session {
+        final String id;
+        final String fileName;
+        final long totalSize;
+        final int chunkSize;
+        final BitSet received = new BitSet();
+        // 지금 기록 중인 청크 (같은 청크 동시 전송 방지, 메모리에만 유지)
+        final BitSet writing = new BitSet();
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        volatile long lastActivityMs;
+        volatile boolean closed;
+
+        Session(String id, String fileName, long totalSize, int chunkSize, long lastActivityMs) {
+            this.id = id;
+            this.fileName = fileName;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.lastActivityMs = lastActivityMs;
+        }
+
+        int totalChunks() {
+            return (int) ((totalSize + chunkSize - 1) / chunkSize);
+        }
+    }
+}
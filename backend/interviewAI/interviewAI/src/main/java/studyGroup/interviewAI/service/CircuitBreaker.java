@@ -0,0 +1,176 @@
+package studyGroup.interviewAI.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 외부 호출용 서킷 브레이커
+// CLOSED: 최근 windowSize개 호출 중 실패율이 임계치를 넘으면 OPEN
+// OPEN: openDurationMs 동안 호출하지 않고 바로 실패, 시간이 지나면 HALF_OPEN
+// HALF_OPEN: halfOpenProbes개 시험 호출만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+// 상태가 바뀔 때마다 세대 번호를 올리고, 호출 허가(Permit)에 받은 세대를 기록해 둔다.
+// 이전 세대에서 시작한 호출의 결과(예: CLOSED 때 보낸 요청이 HALF_OPEN 중에 끝남)는 시험 호출로 세지 않고 버린다.
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtMs;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    private long shortCircuited;
+    private long openedCount;
+    private long staleResults;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMs, int halfOpenProbes) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenProbes = halfOpenProbes;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출해도 되는지 확인 (null이 아니면 결과를 onSuccess/onFailure/release 중 하나로 반드시 알려야 함)
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMs < openDurationMs) {
+                shortCircuited++;
+                return null;
+            }
+            state = State.HALF_OPEN;
+            generation++;
+            probesInFlight = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probesSucceeded >= halfOpenProbes) {
+                shortCircuited++;
+                return null;
+            }
+            probesInFlight++;
+        }
+        return new Permit(generation, state);
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (!isCurrent(permit)) {
+            staleResults++;
+            return;
+        }
+        if (permit.state == State.HALF_OPEN) {
+            probesInFlight--;
+            probesSucceeded++;
+            if (probesSucceeded >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (!isCurrent(permit)) {
+            staleResults++;
+            return;
+        }
+        if (permit.state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 결과를 판단할 수 없는 경우(취소 등) 시험 호출 자리만 반환
+    public synchronized void release(Permit permit) {
+        if (isCurrent(permit) && permit.state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났으면 다음 호출부터 시험 가능
+        if (state == State.OPEN && System.currentTimeMillis() - openedAtMs >= openDurationMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", getState());
+        stats.put("windowCalls", windowCount);
+        stats.put("windowFailures", windowFailures);
+        stats.put("shortCircuited", shortCircuited);
+        stats.put("opened", openedCount);
+        stats.put("staleResults", staleResults);
+        return stats;
+    }
+
+    // 허가를 받은 뒤 상태가 바뀌지 않았는지 (세대가 같으면 상태도 같음)
+    private boolean isCurrent(Permit permit) {
+        return permit != null && permit.generation == generation;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        generation++;
+        openedAtMs = System.currentTimeMillis();
+        openedCount++;
+        System.err.println("서킷 브레이커 OPEN: " + openDurationMs + "ms 동안 호출 차단");
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    // 호출 허가 (허가를 받은 세대와 그때의 상태)
+    public static final class Permit {
+        private final long generation;
+        private final State state;
+
+        private Permit(long generation, State state) {
+            this.generation = generation;
+            this.state = state;
+        }
+    }
+}
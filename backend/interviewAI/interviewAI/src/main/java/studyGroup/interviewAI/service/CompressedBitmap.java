@@ -0,0 +1,482 @@
+package studyGroup.interviewAI.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Roaring 방식의 압축 비트맵 (불변)
+// 값의 상위 16비트로 컨테이너를 나누고, 컨테이너는 원소가 적으면 정렬 배열, 많으면 1024워드 비트맵으로 저장한다.
+// 변경 연산은 새 비트맵을 반환하므로 읽는 쪽은 잠금 없이 사용할 수 있다.
+public final class CompressedBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    public static final CompressedBitmap EMPTY = new CompressedBitmap(new char[0], new Container[0]);
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private CompressedBitmap(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    // 정렬 후 상위 16비트가 같은 구간마다 컨테이너를 한 번에 생성
+    public static CompressedBitmap of(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        Builder builder = new Builder(sorted.length);
+        int start = 0;
+        while (start < sorted.length) {
+            checkValue(sorted[start]);
+            char key = high(sorted[start]);
+            int end = start;
+            while (end < sorted.length && high(sorted[end]) == key) {
+                end++;
+            }
+            char[] lows = new char[end - start];
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                char low = low(sorted[i]);
+                if (count == 0 || lows[count - 1] != low) {
+                    lows[count++] = low;
+                }
+            }
+            if (count > ARRAY_MAX) {
+                long[] words = new long[BITMAP_WORDS];
+                for (int i = 0; i < count; i++) {
+                    words[lows[i] >>> 6] |= 1L << lows[i];
+                }
+                builder.append(key, new BitmapContainer(words, count));
+            } else {
+                builder.append(key, new ArrayContainer(Arrays.copyOf(lows, count)));
+            }
+            start = end;
+        }
+        return builder.build();
+    }
+
+    // 여러 비트맵의 합집합
+    public static CompressedBitmap orAll(Collection<CompressedBitmap> bitmaps) {
+        CompressedBitmap result = EMPTY;
+        for (CompressedBitmap bitmap : bitmaps) {
+            result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, high(value));
+        return index >= 0 && containers[index].contains(low(value));
+    }
+
+    public CompressedBitmap add(int value) {
+        checkValue(value);
+        char high = high(value);
+        int index = Arrays.binarySearch(keys, high);
+        if (index >= 0) {
+            if (containers[index].contains(low(value))) {
+                return this;
+            }
+            Container[] newContainers = containers.clone();
+            newContainers[index] = containers[index].add(low(value));
+            return new CompressedBitmap(keys, newContainers);
+        }
+        int insertAt = -index - 1;
+        char[] newKeys = new char[keys.length + 1];
+        Container[] newContainers = new Container[containers.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insertAt);
+        System.arraycopy(containers, 0, newContainers, 0, insertAt);
+        newKeys[insertAt] = high;
+        newContainers[insertAt] = new ArrayContainer(new char[]{low(value)});
+        System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+        System.arraycopy(containers, insertAt, newContainers, insertAt + 1, containers.length - insertAt);
+        return new CompressedBitmap(newKeys, newContainers);
+    }
+
+    public CompressedBitmap remove(int value) {
+        int index = Arrays.binarySearch(keys, high(value));
+        if (index < 0 || !containers[index].contains(low(value))) {
+            return this;
+        }
+        Container updated = containers[index].remove(low(value));
+        if (updated != null) {
+            Container[] newContainers = containers.clone();
+            newContainers[index] = updated;
+            return new CompressedBitmap(keys, newContainers);
+        }
+        char[] newKeys = new char[keys.length - 1];
+        Container[] newContainers = new Container[containers.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(containers, 0, newContainers, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+        System.arraycopy(containers, index + 1, newContainers, index, containers.length - index - 1);
+        return new CompressedBitmap(newKeys, newContainers);
+    }
+
+    // 교집합
+    public CompressedBitmap and(CompressedBitmap other) {
+        Builder builder = new Builder(Math.min(keys.length, other.keys.length));
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] == other.keys[j]) {
+                builder.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    // 합집합
+    public CompressedBitmap or(CompressedBitmap other) {
+        Builder builder = new Builder(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j >= other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                builder.append(keys[i], containers[i]);
+                i++;
+            } else if (i >= keys.length || other.keys[j] < keys[i]) {
+                builder.append(other.keys[j], other.containers[j]);
+                j++;
+            } else {
+                builder.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    // 차집합 (this - other)
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        Builder builder = new Builder(keys.length);
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                builder.append(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                builder.append(keys[i], containers[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    // 오름차순 값 배열 (limit 개까지)
+    public int[] toArray(int limit) {
+        int size = Math.min(limit, cardinality);
+        int[] result = new int[size];
+        int position = 0;
+        for (int i = 0; i < keys.length && position < size; i++) {
+            position = containers[i].fill(keys[i] << 16, result, position);
+        }
+        return result;
+    }
+
+    public int[] toArray() {
+        return toArray(cardinality);
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수 값은 저장할 수 없습니다: " + value);
+        }
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    // 빈 컨테이너를 건너뛰며 결과 비트맵 구성
+    private static class Builder {
+        private final char[] keys;
+        private final Container[] containers;
+        private int size;
+
+        private Builder(int capacity) {
+            this.keys = new char[capacity];
+            this.containers = new Container[capacity];
+        }
+
+        private void append(char key, Container container) {
+            if (container != null && container.cardinality() > 0) {
+                keys[size] = key;
+                containers[size] = container;
+                size++;
+            }
+        }
+
+        private CompressedBitmap build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new CompressedBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+    }
+
+    private abstract static class Container {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        // 비면 null 반환
+        abstract Container remove(char low);
+
+        abstract long[] toWords();
+
+        abstract int fill(int base, int[] target, int position);
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, true);
+            }
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            long[] words = toWords().clone();
+            long[] otherWords = other.toWords();
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                words[k] &= otherWords[k];
+            }
+            return fromWords(words);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer) {
+                return ((ArrayContainer) this).merge((ArrayContainer) other);
+            }
+            long[] words = toWords().clone();
+            long[] otherWords = other.toWords();
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                words[k] |= otherWords[k];
+            }
+            return fromWords(words);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, false);
+            }
+            long[] words = toWords().clone();
+            long[] otherWords = other.toWords();
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                words[k] &= ~otherWords[k];
+            }
+            return fromWords(words);
+        }
+
+        // 원소 수에 따라 배열/비트맵 컨테이너 선택
+        static Container fromWords(long[] words) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            if (count == 0) {
+                return null;
+            }
+            if (count > ARRAY_MAX) {
+                return new BitmapContainer(words, count);
+            }
+            char[] values = new char[count];
+            int position = 0;
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                long word = words[k];
+                while (word != 0) {
+                    values[position++] = (char) ((k << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values);
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private final char[] values;
+
+        private ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (values.length >= ARRAY_MAX) {
+                long[] words = toWords();
+                words[low >>> 6] |= 1L << low;
+                return new BitmapContainer(words, values.length + 1);
+            }
+            int insertAt = -index - 1;
+            char[] newValues = new char[values.length + 1];
+            System.arraycopy(values, 0, newValues, 0, insertAt);
+            newValues[insertAt] = low;
+            System.arraycopy(values, insertAt, newValues, insertAt + 1, values.length - insertAt);
+            return new ArrayContainer(newValues);
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, low);
+            if (index < 0) {
+                return this;
+            }
+            if (values.length == 1) {
+                return null;
+            }
+            char[] newValues = new char[values.length - 1];
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+            return new ArrayContainer(newValues);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+            return words;
+        }
+
+        @Override
+        int fill(int base, int[] target, int position) {
+            for (int k = 0; k < values.length && position < target.length; k++) {
+                target[position++] = base | values[k];
+            }
+            return position;
+        }
+
+        // keep=true면 other에 포함된 값만, false면 포함되지 않은 값만 남김
+        Container filter(Container other, boolean keep) {
+            char[] result = new char[values.length];
+            int size = 0;
+            for (char value : values) {
+                if (other.contains(value) == keep) {
+                    result[size++] = value;
+                }
+            }
+            return size == 0 ? null : new ArrayContainer(Arrays.copyOf(result, size));
+        }
+
+        Container merge(ArrayContainer other) {
+            char[] result = new char[values.length + other.values.length];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < values.length || j < other.values.length) {
+                if (j >= other.values.length || (i < values.length && values[i] < other.values[j])) {
+                    result[size++] = values[i++];
+                } else if (i >= values.length || other.values[j] < values[i]) {
+                    result[size++] = other.values[j++];
+                } else {
+                    result[size++] = values[i++];
+                    j++;
+                }
+            }
+            if (size > ARRAY_MAX) {
+                return fromWords(new ArrayContainer(Arrays.copyOf(result, size)).toWords());
+            }
+            return new ArrayContainer(Arrays.copyOf(result, size));
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private final int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (contains(low)) {
+                return this;
+            }
+            long[] newWords = words.clone();
+            newWords[low >>> 6] |= 1L << low;
+            return new BitmapContainer(newWords, cardinality + 1);
+        }
+
+        @Override
+        Container remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+            long[] newWords = words.clone();
+            newWords[low >>> 6] &= ~(1L << low);
+            if (cardinality - 1 <= ARRAY_MAX) {
+                return fromWords(newWords);
+            }
+            return new BitmapContainer(newWords, cardinality - 1);
+        }
+
+        @Override
+        long[] toWords() {
+            return words;
+        }
+
+        @Override
+        int fill(int base, int[] target, int position) {
+            for (int k = 0; k < BITMAP_WORDS && position < target.length; k++) {
+                long word = words[k];
+                while (word != 0 && position < target.length) {
+                    target[position++] = base | ((k << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return position;
+        }
+    }
+}
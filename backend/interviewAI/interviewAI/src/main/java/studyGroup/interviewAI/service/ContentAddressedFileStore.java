@@ -0,0 +1,161 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// 내용 주소 기반 파일 저장소: 파일은 SHA-256으로 식별하고 <base>/store/ab/cd/<sha256> 에 한 번만 저장한다.
+// 업로드 본문은 임시 파일에 받으면서 해시와 크기를 계산하고(stage), 해시가 정해진 뒤 최종 위치로 원자적 이동(commit)한다.
+// 같은 내용이 이미 있으면 임시 파일만 지운다. 참조 수 관리는 FileUploadService가 한다.
+@Component
+public class ContentAddressedFileStore {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    // 요청 스레드별로 재사용하는 복사 버퍼 (업로드마다 새로 할당하지 않음)
+    private static final ThreadLocal<ByteBuffer> STREAM_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(STREAM_BUFFER_SIZE));
+
+    private final String storeDir;
+    private final Path tempDir;
+    private final long maxBytes;
+
+    public ContentAddressedFileStore(@Value("${file.upload.base-dir:uploads}") String baseDir,
+                                     @Value("${file.upload.stream-max-bytes:104857600}") long maxBytes) throws IOException {
+        this.storeDir = baseDir + "/store/";
+        // 임시 파일은 최종 위치와 같은 파일시스템에 두어야 원자적 이동이 가능
+        this.tempDir = Paths.get(baseDir, ".tmp");
+        this.maxBytes = maxBytes;
+
+        // 저장 디렉토리는 시작 시 한 번만 생성 (샤드 디렉토리는 처음 쓸 때 생성)
+        Files.createDirectories(Paths.get(storeDir));
+        Files.createDirectories(tempDir);
+    }
+
+    // 본문을 임시 파일에 FileChannel로 쓰면서 SHA-256과 크기 계산
+    // 중간에 실패하거나 크기 제한을 넘으면 임시 파일을 지우고 예외
+    public StagedFile stage(InputStream body) throws IOException {
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = STREAM_BUFFER.get();
+        byte[] array = buffer.array();
+        long size = 0;
+        boolean completed = false;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(array, 0, array.length)) != -1) {
+                size += read;
+                if (size > maxBytes) {
+                    throw new IOException("파일 크기가 제한(" + maxBytes + " bytes)을 초과했습니다.");
+                }
+                digest.update(array, 0, read);
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            completed = true;
+        } finally {
+            buffer.clear();
+            if (!completed) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        return new StagedFile(temp, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // 이미 디스크에 받아 둔 파일(청크 업로드 결과)의 해시를 계산해 저장 대상으로 만듦 (파일은 같은 파일시스템에 있어야 함)
+    public StagedFile stageFile(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = STREAM_BUFFER.get();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                digest.update(buffer.array(), 0, read);
+                size += read;
+                buffer.clear();
+            }
+        } finally {
+            buffer.clear();
+        }
+        return new StagedFile(file, size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // 임시 파일을 해시 경로로 이동하고 저장 경로 반환 (같은 내용이 이미 있으면 임시 파일만 삭제)
+    public String commit(StagedFile staged) throws IOException {
+        String storedPath = pathFor(staged.getSha256());
+        Path target = Paths.get(storedPath);
+        if (Files.exists(target)) {
+            discard(staged);
+            return storedPath;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.getTempPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            discard(staged);
+        }
+        return storedPath;
+    }
+
+    public void discard(StagedFile staged) throws IOException {
+        Files.deleteIfExists(staged.getTempPath());
+    }
+
+    // 참조가 모두 사라진 파일 삭제
+    public void delete(String sha256) throws IOException {
+        Files.deleteIfExists(Paths.get(pathFor(sha256)));
+    }
+
+    // <base>/store/ab/cd/<sha256>
+    public String pathFor(String sha256) {
+        return storeDir + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 해시까지 계산된 임시 파일
+    public static class StagedFile {
+        private final Path tempPath;
+        private final long size;
+        private final String sha256;
+
+        StagedFile(Path tempPath, long size, String sha256) {
+            this.tempPath = tempPath;
+            this.size = size;
+            this.sha256 = sha256;
+        }
+
+        public Path getTempPath() {
+            return tempPath;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+    }
+}
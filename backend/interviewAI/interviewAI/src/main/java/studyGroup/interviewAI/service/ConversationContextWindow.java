@@ -0,0 +1,290 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import studyGroup.interviewAI.entity.Conversation;
+import studyGroup.interviewAI.repository.ConversationRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+// 면접별 LLM 대화 컨텍스트 (롤링 윈도우)
+// 최근 recentTurns개 발화는 원문 그대로, 그 이전 발화는 압축 요약 한 덩어리로 유지한다.
+// DB에서는 마지막으로 본 대화 ID 이후만 읽고, 윈도우에서 밀려난 발화는 백그라운드에서 요약에 합친다.
+// 최종 메시지 목록이 토큰 예산(maxTokens)을 넘으면 요약은 남기고 그 뒤의 오래된 원문 발화부터 잘라낸다.
+@Service
+public class ConversationContextWindow {
+    private static final String SUMMARY_HEADER = "[이전 대화 요약]";
+    private static final int SUMMARY_LINE_MAX_CHARS = 80;
+
+    private final ConversationRepository conversationRepository;
+    private final int recentTurns;
+    private final int summaryBatchTurns;
+    private final int summaryMaxTokens;
+    private final int maxTokens;
+    private final long idleEvictMs;
+
+    private final ConcurrentHashMap<Long, Context> contexts = new ConcurrentHashMap<>();
+    private final ExecutorService summaryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "conversation-summary");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder fullTranscriptTokens = new LongAdder();
+    private final LongAdder sentTokens = new LongAdder();
+    private final LongAdder summaryRefreshes = new LongAdder();
+
+    public ConversationContextWindow(ConversationRepository conversationRepository,
+                                     @Value("${llm.context.recent-turns:12}") int recentTurns,
+                                     @Value("${llm.context.summary-batch-turns:6}") int summaryBatchTurns,
+                                     @Value("${llm.context.summary-max-tokens:400}") int summaryMaxTokens,
+                                     @Value("${llm.context.max-tokens:1500}") int maxTokens,
+                                     @Value("${llm.context.idle-evict-ms:1800000}") long idleEvictMs) {
+        this.conversationRepository = conversationRepository;
+        this.recentTurns = recentTurns;
+        this.summaryBatchTurns = summaryBatchTurns;
+        this.summaryMaxTokens = summaryMaxTokens;
+        this.maxTokens = maxTokens;
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    // LLM에 보낼 메시지 목록 (요약 1개 + 요약 대기 발화 + 최근 발화, 토큰 예산 이내)
+    public Window build(Long interviewId) {
+        Context context = contexts.computeIfAbsent(interviewId, id -> new Context());
+        List<Map<String, String>> messages;
+        int totalTurns;
+        long transcriptTokens;
+        boolean scheduleSummary;
+        boolean hasSummary;
+        synchronized (context) {
+            // 마지막으로 본 대화 이후만 조회
+            List<Conversation> added = conversationRepository.findByInterviewIdAndIdGreaterThanOrderById(interviewId, context.lastConversationId);
+            for (Conversation conversation : added) {
+                context.append(LlmClient.toMessage(conversation), conversation.getId());
+            }
+            while (context.recent.size() > recentTurns) {
+                context.pending.add(context.recent.pollFirst());
+            }
+            context.lastAccessMs = System.currentTimeMillis();
+
+            // 요약은 schema상 화자가 둘뿐이라 면접관 메모 형태로 맨 앞에 둔다
+            messages = new ArrayList<>();
+            hasSummary = !context.summaryLines.isEmpty() || context.omittedTurns > 0;
+            if (hasSummary) {
+                messages.add(LlmClient.message(LlmClient.SPEAKER_INTERVIEWER, context.summaryText()));
+            }
+            messages.addAll(context.pending);
+            messages.addAll(context.recent);
+            totalTurns = context.totalTurns;
+            transcriptTokens = context.transcriptTokens;
+            scheduleSummary = context.pending.size() >= summaryBatchTurns && !context.summarizing;
+            if (scheduleSummary) {
+                context.summarizing = true;
+            }
+        }
+        if (scheduleSummary) {
+            scheduleSummary(interviewId, context);
+        }
+
+        List<Map<String, String>> trimmed = trimToBudget(messages, hasSummary);
+        int tokens = TokenEstimator.estimate(trimmed);
+        builds.increment();
+        fullTranscriptTokens.add(transcriptTokens);
+        sentTokens.add(tokens);
+        return new Window(trimmed, totalTurns, tokens, transcriptTokens);
+    }
+
+    // 기존 대화가 수정/삭제되면 처음부터 다시 구성
+    public void invalidate(Long interviewId) {
+        if (interviewId != null) {
+            contexts.remove(interviewId);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long full = fullTranscriptTokens.sum();
+        long sent = sentTokens.sum();
+        stats.put("interviews", contexts.size());
+        stats.put("builds", builds.sum());
+        stats.put("summaryRefreshes", summaryRefreshes.sum());
+        stats.put("fullTranscriptTokens", full);
+        stats.put("sentTokens", sent);
+        stats.put("reductionRatio", sent > 0 ? (double) full / sent : 0.0);
+        return stats;
+    }
+
+    // 오래 쓰지 않은 면접 컨텍스트 정리
+    @Scheduled(fixedDelayString = "${llm.context.idle-evict-ms:1800000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleEvictMs;
+        contexts.entrySet().removeIf(entry -> entry.getValue().lastAccessMs < threshold && !entry.getValue().summarizing);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        summaryExecutor.shutdownNow();
+    }
+
+    // 요약 대기 발화를 요약에 합침 (컨텍스트가 무효화됐으면 결과를 버림)
+    private void scheduleSummary(Long interviewId, Context context) {
+        try {
+            summaryExecutor.execute(() -> {
+                List<Map<String, String>> batch;
+                List<String> lines;
+                int omitted;
+                synchronized (context) {
+                    batch = new ArrayList<>(context.pending);
+                    lines = new ArrayList<>(context.summaryLines);
+                    omitted = context.omittedTurns;
+                }
+                for (Map<String, String> message : batch) {
+                    lines.add(condense(message));
+                }
+                // 요약 예산을 넘으면 가장 오래된 줄부터 생략
+                int tokens = TokenEstimator.estimate(SUMMARY_HEADER);
+                for (String line : lines) {
+                    tokens += TokenEstimator.estimate(line) + 1;
+                }
+                while (tokens > summaryMaxTokens && !lines.isEmpty()) {
+                    tokens -= TokenEstimator.estimate(lines.remove(0)) + 1;
+                    omitted++;
+                }
+
+                synchronized (context) {
+                    if (contexts.get(interviewId) == context) {
+                        context.pending.subList(0, batch.size()).clear();
+                        context.summaryLines = lines;
+                        context.omittedTurns = omitted;
+                        summaryRefreshes.increment();
+                    }
+                    context.summarizing = false;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (context) {
+                context.summarizing = false;
+            }
+        }
+    }
+
+    // 발화 한 건 → "역할: 첫 문장(최대 80자)"
+    private String condense(Map<String, String> message) {
+        String content = message.get("content") != null ? message.get("content").trim().replaceAll("\\s+", " ") : "";
+        int sentenceEnd = -1;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '.' || c == '?' || c == '!' || c == '。') {
+                sentenceEnd = i;
+                break;
+            }
+        }
+        String firstSentence = sentenceEnd >= 0 ? content.substring(0, sentenceEnd + 1) : content;
+        if (firstSentence.length() > SUMMARY_LINE_MAX_CHARS) {
+            firstSentence = firstSentence.substring(0, SUMMARY_LINE_MAX_CHARS) + "…";
+        }
+        String speaker = LlmClient.SPEAKER_INTERVIEWER.equals(message.get("speaker")) ? "면접관" : "지원자";
+        return speaker + ": " + firstSentence;
+    }
+
+    // 토큰 예산을 넘으면 요약 다음의 요약 대기/오래된 원문 발화부터 제거하고, 마지막 발화만 남아도 넘칠 때 요약을 뺀다
+    private List<Map<String, String>> trimToBudget(List<Map<String, String>> messages, boolean hasSummary) {
+        int total = TokenEstimator.estimate(messages);
+        int first = hasSummary ? 1 : 0;
+        int start = first;
+        while (total > maxTokens && start < messages.size() - 1) {
+            total -= TokenEstimator.estimate(messages.get(start));
+            start++;
+        }
+        List<Map<String, String>> trimmed = new ArrayList<>();
+        if (hasSummary) {
+            if (total > maxTokens && messages.size() > 1) {
+                total -= TokenEstimator.estimate(messages.get(0));
+            } else {
+                trimmed.add(messages.get(0));
+            }
+        }
+        trimmed.addAll(messages.subList(start, messages.size()));
+        if (total > maxTokens && !trimmed.isEmpty()) {
+            // 마지막 발화 하나만으로도 넘치면 뒷부분만 보냄
+            Map<String, String> last = trimmed.get(trimmed.size() - 1);
+            String content = TokenEstimator.keepTail(last.get("content"), maxTokens - TokenEstimator.MESSAGE_OVERHEAD_TOKENS);
+            trimmed.set(trimmed.size() - 1, LlmClient.message(last.get("speaker"), content));
+        }
+        return trimmed;
+    }
+
+    // 면접 한 건의 컨텍스트 (Context 객체 락으로 보호)
+    private static class Context {
+        final ArrayDeque<Map<String, String>> recent = new ArrayDeque<>();
+        final List<Map<String, String>> pending = new ArrayList<>();
+        List<String> summaryLines = new ArrayList<>();
+        int omittedTurns;
+        long lastConversationId;
+        int totalTurns;
+        long transcriptTokens;
+        volatile boolean summarizing;
+        volatile long lastAccessMs = System.currentTimeMillis();
+
+        void append(Map<String, String> message, Long conversationId) {
+            recent.addLast(message);
+            lastConversationId = conversationId;
+            totalTurns++;
+            transcriptTokens += TokenEstimator.estimate(message);
+        }
+
+        String summaryText() {
+            StringBuilder text = new StringBuilder(SUMMARY_HEADER);
+            if (omittedTurns > 0) {
+                text.append("\n(앞선 발화 ").append(omittedTurns).append("개 생략)");
+            }
+            for (String line : summaryLines) {
+                text.append('\n').append(line);
+            }
+            return text.toString();
+        }
+    }
+
+    // 요청에 실을 메시지와 크기 정보
+    public static class Window {
+        private final List<Map<String, String>> messages;
+        private final int totalTurns;
+        private final int estimatedTokens;
+        private final long fullTranscriptTokens;
+
+        Window(List<Map<String, String>> messages, int totalTurns, int estimatedTokens, long fullTranscriptTokens) {
+            this.messages = messages;
+            this.totalTurns = totalTurns;
+            this.estimatedTokens = estimatedTokens;
+            this.fullTranscriptTokens = fullTranscriptTokens;
+        }
+
+        public List<Map<String, String>> getMessages() {
+            return messages;
+        }
+
+        public int getTotalTurns() {
+            return totalTurns;
+        }
+
+        public int getEstimatedTokens() {
+            return estimatedTokens;
+        }
+
+        public long getFullTranscriptTokens() {
+            return fullTranscriptTokens;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package studyGroup.interviewAI.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.Conversation;
 import studyGroup.interviewAI.repository.ConversationRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,9 +12,21 @@ import java.util.Optional;
 @Service
 public class ConversationService {
     private final ConversationRepository conversationRepository;
+    private final InterviewRepository interviewRepository;
+    private final ConversationContextWindow conversationContextWindow;
+    private final SuggestedQuestionService suggestedQuestionService;
+    private final ConversationWriteBehindService conversationWriteBehind;
 
-    public ConversationService(ConversationRepository conversationRepository) {
+    public ConversationService(ConversationRepository conversationRepository,
+                               InterviewRepository interviewRepository,
+                               ConversationContextWindow conversationContextWindow,
+                               SuggestedQuestionService suggestedQuestionService,
+                               ConversationWriteBehindService conversationWriteBehind) {
         this.conversationRepository = conversationRepository;
+        this.interviewRepository = interviewRepository;
+        this.conversationContextWindow = conversationContextWindow;
+        this.suggestedQuestionService = suggestedQuestionService;
+        this.conversationWriteBehind = conversationWriteBehind;
     }
 
     public List<Conversation> findAll() {
@@ -23,16 +37,50 @@ public class ConversationService {
         return conversationRepository.findById(id);
     }
 
+    @Transactional
     public Conversation save(Conversation conversation) {
-        return conversationRepository.save(conversation);
+        // 기존 대화 수정이면 LLM 컨텍스트와 선행 생성 결과를 폐기 (원래 면접과 바뀐 면접 모두)
+        Long interviewId = conversation.getInterview() != null ? conversation.getInterview().getId() : null;
+        List<Object[]> existing = conversation.getId() != null
+            ? conversationRepository.findInterviewIdAndSeqById(conversation.getId())
+            : List.of();
+        if (!existing.isEmpty()) {
+            invalidateInterview((Long) existing.get(0)[0]);
+        }
+        // 같은 면접 안에서 수정이면 순번 유지, 새 대화이거나 면접이 바뀌면 새 순번
+        if (!existing.isEmpty() && existing.get(0)[0].equals(interviewId)) {
+            conversation.setSeq((Long) existing.get(0)[1]);
+        } else if (interviewId != null) {
+            conversation.setSeq(nextSeq(interviewId));
+        }
+        Conversation savedConversation = conversationRepository.save(conversation);
+        if (conversation.getId() != null && savedConversation.getInterview() != null) {
+            invalidateInterview(savedConversation.getInterview().getId());
+        }
+        return savedConversation;
     }
 
     public void deleteById(Long id) {
+        conversationRepository.findInterviewIdById(id).ifPresent(this::invalidateInterview);
         conversationRepository.deleteById(id);
     }
 
+    private Long nextSeq(Long interviewId) {
+        if (interviewRepository.reserveConversationSeq(interviewId, 1) == 0) {
+            throw new RuntimeException("Interview not found with id: " + interviewId);
+        }
+        return interviewRepository.findConversationSeqById(interviewId)
+            .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
+    }
+
+    private void invalidateInterview(Long interviewId) {
+        conversationContextWindow.invalidate(interviewId);
+        suggestedQuestionService.discard(interviewId);
+    }
+
     // 특정 면접의 대화 조회
     public List<Conversation> findByInterviewId(Long interviewId) {
+        conversationWriteBehind.flush(interviewId);
         return conversationRepository.findByInterviewIdOrderById(interviewId);
     }
 } 
\ No newline at end of file
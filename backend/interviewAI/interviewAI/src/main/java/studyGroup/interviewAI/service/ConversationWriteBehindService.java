@@ -0,0 +1,576 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyGroup.interviewAI.entity.Conversation;
+import studyGroup.interviewAI.event.ConversationAddedEvent;
+import studyGroup.interviewAI.repository.ConversationRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+// 면접 발화 write-behind 저장 (conversation.write-behind.enabled=true일 때만 사용)
+// 발화는 로컬 저널 파일에 한 줄 추가하고 면접별 메모리 큐에 넣은 시점에 응답하고,
+// flushIntervalMs마다 또는 batchSize개가 쌓이면 JDBC 배치 insert로 한 트랜잭션에 저장한다.
+// 저널 줄 순서 = 큐 순서 = insert 순서라서 면접별 발화 순서가 유지된다.
+// 저장이 끝난 지점(watermark)은 별도 파일에 기록하고, 재시작 시 그 이후 저널만 다시 넣는다.
+// 저장 직후 watermark 기록 전에 죽으면 같은 발화가 한 번 더 저장될 수 있다 (at-least-once).
+// 저장에 계속 실패하는 발화는 면접별로 백오프하며 재시도하고, maxAttempts번 실패하면
+// dead-letter 파일로 옮겨 같은 면접의 다음 발화가 막히지 않게 한다.
+@Service
+public class ConversationWriteBehindService {
+    private static final String INSERT_SQL = "INSERT INTO conversation (content, is_manager, interview_id, seq) VALUES (?, ?, ?, ?)";
+    private static final String RESERVE_SEQ_SQL = "UPDATE interview SET conversation_seq = COALESCE(conversation_seq, 0) + ? WHERE id = ?";
+    private static final String SELECT_SEQ_SQL = "SELECT conversation_seq FROM interview WHERE id = ?";
+    private static final String JOURNAL_FILE = "conversations.journal";
+    private static final String WATERMARK_FILE = "conversations.watermark";
+    private static final String DEAD_LETTER_FILE = "conversations.deadletter";
+    private static final long MAX_RETRY_BACKOFF_MS = 60_000;
+
+    private final InterviewRepository interviewRepository;
+    private final ConversationRepository conversationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final boolean journalFsync;
+    private final Path journalPath;
+    private final Path watermarkPath;
+    private final Path deadLetterPath;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    // 면접별 저장 대기 발화 (저널 순서대로)
+    private final ConcurrentHashMap<Long, ConcurrentLinkedQueue<Turn>> queues = new ConcurrentHashMap<>();
+    // 존재가 확인된 면접 (첫 발화만 DB 조회)
+    private final Set<Long> knownInterviews = ConcurrentHashMap.newKeySet();
+    // 저장 실패로 재시도 대기 중인 면접 (면접 ID → 다음 시도 시각)
+    private final ConcurrentHashMap<Long, Long> retryAt = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    // 저널 추가와 큐 적재를 한 번에 (순서 보장)
+    private final Object journalLock = new Object();
+    // 배치 저장은 한 번에 하나만
+    private final Object flushLock = new Object();
+    private FileChannel journal;
+    private long lastSeq;
+    private long watermark;
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "conversation-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public ConversationWriteBehindService(InterviewRepository interviewRepository,
+                                          ConversationRepository conversationRepository,
+                                          JdbcTemplate jdbcTemplate,
+                                          PlatformTransactionManager transactionManager,
+                                          ApplicationEventPublisher eventPublisher,
+                                          @Value("${conversation.write-behind.enabled:false}") boolean enabled,
+                                          @Value("${conversation.write-behind.flush-interval-ms:20}") long flushIntervalMs,
+                                          @Value("${conversation.write-behind.batch-size:200}") int batchSize,
+                                          @Value("${conversation.write-behind.journal-dir:data/journal}") String journalDir,
+                                          @Value("${conversation.write-behind.journal-fsync:false}") boolean journalFsync,
+                                          @Value("${conversation.write-behind.max-attempts:8}") int maxAttempts,
+                                          @Value("${conversation.write-behind.retry-backoff-ms:1000}") long retryBackoffMs) throws IOException {
+        this.interviewRepository = interviewRepository;
+        this.conversationRepository = conversationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.journalFsync = journalFsync;
+        this.journalPath = Paths.get(journalDir, JOURNAL_FILE);
+        this.watermarkPath = Paths.get(journalDir, WATERMARK_FILE);
+        this.deadLetterPath = Paths.get(journalDir, DEAD_LETTER_FILE);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+
+        if (enabled) {
+            Files.createDirectories(Paths.get(journalDir));
+            recover();
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 발화를 저널과 큐에 넣고 저널 순번 반환 (DB 저장은 나중에)
+    public long enqueue(Long interviewId, String content, boolean isManager) {
+        if (!enabled) {
+            throw new IllegalStateException("write-behind 저장이 비활성화되어 있습니다.");
+        }
+        if (content == null) {
+            throw new RuntimeException("대화 내용이 비어 있습니다.");
+        }
+        // 배치 insert가 거부할 입력은 저널에 넣기 전에 거절 (응답 후에는 실패를 알릴 수 없음)
+        if (content.length() > Conversation.CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("대화 내용은 " + Conversation.CONTENT_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        if (!knownInterviews.contains(interviewId)) {
+            if (!interviewRepository.existsById(interviewId)) {
+                throw new RuntimeException("Interview not found with id: " + interviewId);
+            }
+            knownInterviews.add(interviewId);
+        }
+
+        long seq;
+        synchronized (journalLock) {
+            seq = lastSeq + 1;
+            Turn turn = new Turn(seq, interviewId, content, isManager);
+            try {
+                writeJournal(turn.toJournalLine());
+            } catch (IOException e) {
+                throw new RuntimeException("대화 저널 기록 실패: " + e.getMessage(), e);
+            }
+            lastSeq = seq;
+            queues.computeIfAbsent(interviewId, id -> new ConcurrentLinkedQueue<>()).add(turn);
+        }
+        enqueued.increment();
+        if (pending.incrementAndGet() >= batchSize) {
+            requestFlush();
+        }
+        return seq;
+    }
+
+    // 해당 면접의 대기 발화를 바로 저장 (조회 전에 호출해 방금 받은 발화도 보이게)
+    public void flush(Long interviewId) {
+        if (!enabled || interviewId == null) {
+            return;
+        }
+        ConcurrentLinkedQueue<Turn> queue = queues.get(interviewId);
+        while (queue != null && !queue.isEmpty()) {
+            if (flushPending() == 0) {
+                break;
+            }
+        }
+    }
+
+    // 면접 삭제 시 대기 발화 폐기
+    public void discard(Long interviewId) {
+        if (!enabled || interviewId == null) {
+            return;
+        }
+        knownInterviews.remove(interviewId);
+        retryAt.remove(interviewId);
+        synchronized (journalLock) {
+            ConcurrentLinkedQueue<Turn> queue = queues.remove(interviewId);
+            if (queue != null) {
+                pending.addAndGet(-queue.size());
+                dropped.add(queue.size());
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long batchCount = batches.sum();
+        long flushedCount = flushed.sum();
+        stats.put("enabled", enabled);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("flushed", flushedCount);
+        stats.put("batches", batchCount);
+        stats.put("averageBatchSize", batchCount > 0 ? (double) flushedCount / batchCount : 0.0);
+        stats.put("pending", pending.get());
+        stats.put("failedFlushes", failedFlushes.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("replayed", replayed.sum());
+        stats.put("deadLettered", deadLettered.sum());
+        stats.put("retryWaitingInterviews", retryAt.size());
+        synchronized (journalLock) {
+            try {
+                stats.put("journalBytes", journal != null ? journal.size() : 0L);
+            } catch (IOException e) {
+                stats.put("journalBytes", -1L);
+            }
+            stats.put("lastSeq", lastSeq);
+            stats.put("watermark", watermark);
+        }
+        return stats;
+    }
+
+    // 종료 전 남은 발화 저장
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (pending.get() > 0 && flushPending() > 0) {
+                // 모두 저장될 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            System.err.println("종료 전 대화 저장 실패 (저널에서 복구 예정): " + e.getMessage());
+        }
+        synchronized (journalLock) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("대화 저널 닫기 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        flushRequested.set(false);
+        try {
+            while (flushPending() >= batchSize) {
+                // 한 배치를 가득 채웠으면 더 쌓여 있을 수 있음
+            }
+        } catch (RuntimeException e) {
+            System.err.println("대화 배치 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 대기 발화를 최대 batchSize개 저장하고 저장한 수 반환
+    private int flushPending() {
+        synchronized (flushLock) {
+            // 면접별로 큐 앞에서부터 복사 (저장 성공 후에만 큐에서 제거)
+            Map<Long, List<Turn>> batch = new LinkedHashMap<>();
+            int count = 0;
+            long now = System.currentTimeMillis();
+            for (Map.Entry<Long, ConcurrentLinkedQueue<Turn>> entry : queues.entrySet()) {
+                if (count >= batchSize) {
+                    break;
+                }
+                Long nextAttemptAt = retryAt.get(entry.getKey());
+                if (nextAttemptAt != null && nextAttemptAt > now) {
+                    // 실패한 면접은 백오프 시간이 지날 때까지 건너뜀
+                    continue;
+                }
+                List<Turn> turns = new ArrayList<>();
+                Iterator<Turn> iterator = entry.getValue().iterator();
+                while (iterator.hasNext() && count < batchSize) {
+                    turns.add(iterator.next());
+                    count++;
+                }
+                if (!turns.isEmpty()) {
+                    batch.put(entry.getKey(), turns);
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+
+            // saved: DB에 저장된 발화 (이벤트 발행 대상), handled: 큐에서 뺄 발화 (저장 + 폐기 + dead-letter)
+            Map<Long, List<Turn>> saved = new LinkedHashMap<>();
+            Map<Long, List<Turn>> handled = new LinkedHashMap<>();
+            try {
+                insert(batch);
+                saved.putAll(batch);
+                handled.putAll(batch);
+            } catch (RuntimeException e) {
+                // 한 면접 때문에 전체가 실패했을 수 있으므로 면접 단위로 다시 시도
+                failedFlushes.increment();
+                System.err.println("대화 배치 저장 실패, 면접별로 재시도: " + e.getMessage());
+                for (Map.Entry<Long, List<Turn>> entry : batch.entrySet()) {
+                    Map<Long, List<Turn>> single = Map.of(entry.getKey(), entry.getValue());
+                    try {
+                        insert(single);
+                        saved.put(entry.getKey(), entry.getValue());
+                        handled.put(entry.getKey(), entry.getValue());
+                    } catch (RuntimeException retryError) {
+                        if (!interviewRepository.existsById(entry.getKey())) {
+                            // 면접이 삭제됐으면 저장할 곳이 없으므로 버림
+                            System.err.println("삭제된 면접의 대화 " + entry.getValue().size() + "건 폐기: interviewId=" + entry.getKey());
+                            knownInterviews.remove(entry.getKey());
+                            handled.put(entry.getKey(), entry.getValue());
+                            dropped.add(entry.getValue().size());
+                        } else {
+                            retryOneByOne(entry.getKey(), entry.getValue(), saved, handled);
+                        }
+                    }
+                }
+            }
+            for (Long interviewId : saved.keySet()) {
+                retryAt.remove(interviewId);
+            }
+
+            int done = 0;
+            synchronized (journalLock) {
+                for (Map.Entry<Long, List<Turn>> entry : handled.entrySet()) {
+                    ConcurrentLinkedQueue<Turn> queue = queues.get(entry.getKey());
+                    for (Turn turn : entry.getValue()) {
+                        // 그 사이 discard 됐으면 큐가 없거나 다른 객체
+                        if (queue != null && queue.peek() == turn) {
+                            queue.poll();
+                            pending.decrementAndGet();
+                        }
+                        done++;
+                    }
+                }
+            }
+            advanceWatermark();
+            publishAdded(saved);
+            return done;
+        }
+    }
+
+    // 어떤 발화가 실패하는지 앞에서부터 하나씩 저장 (순서 유지를 위해 첫 실패에서 멈춤)
+    // 실패한 발화는 시도 횟수를 늘려 백오프하고, maxAttempts번 실패하면 dead-letter로 옮겨 뒤 발화를 진행시킴
+    private void retryOneByOne(Long interviewId, List<Turn> turns, Map<Long, List<Turn>> saved, Map<Long, List<Turn>> handled) {
+        List<Turn> savedTurns = new ArrayList<>();
+        List<Turn> handledTurns = new ArrayList<>();
+        for (Turn turn : turns) {
+            try {
+                insert(Map.of(interviewId, List.of(turn)));
+                savedTurns.add(turn);
+                handledTurns.add(turn);
+            } catch (RuntimeException turnError) {
+                turn.attempts++;
+                if (turn.attempts >= maxAttempts) {
+                    deadLetter(turn, turnError);
+                    handledTurns.add(turn);
+                    retryAt.remove(interviewId);
+                } else {
+                    long backoff = Math.min(retryBackoffMs << Math.min(turn.attempts - 1, 20), MAX_RETRY_BACKOFF_MS);
+                    retryAt.put(interviewId, System.currentTimeMillis() + backoff);
+                }
+                break;
+            }
+        }
+        if (!savedTurns.isEmpty()) {
+            saved.put(interviewId, savedTurns);
+        }
+        if (!handledTurns.isEmpty()) {
+            handled.put(interviewId, handledTurns);
+        }
+    }
+
+    // 저장을 포기한 발화는 저널과 같은 형식으로 dead-letter 파일에 남김 (수동 복구용)
+    private void deadLetter(Turn turn, RuntimeException error) {
+        deadLettered.increment();
+        System.err.println("대화 저장 " + turn.attempts + "회 실패, dead-letter로 이동: interviewId=" + turn.interviewId
+            + ", seq=" + turn.seq + " - " + error.getMessage());
+        try {
+            Files.writeString(deadLetterPath, turn.toJournalLine() + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("dead-letter 기록 실패 (발화 내용은 로그로만 남음): " + turn.toJournalLine());
+        }
+    }
+
+    // 면접별로 순번을 한 번에 예약하고 (면접당 UPDATE 1회) 전체를 배치 insert
+    private void insert(Map<Long, List<Turn>> batch) {
+        int count = transactionTemplate.execute(status -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Map.Entry<Long, List<Turn>> entry : batch.entrySet()) {
+                List<Turn> turns = entry.getValue();
+                if (jdbcTemplate.update(RESERVE_SEQ_SQL, turns.size(), entry.getKey()) == 0) {
+                    throw new RuntimeException("Interview not found with id: " + entry.getKey());
+                }
+                long seq = jdbcTemplate.queryForObject(SELECT_SEQ_SQL, Long.class, entry.getKey()) - turns.size();
+                for (Turn turn : turns) {
+                    rows.add(new Object[]{turn.content, turn.isManager, turn.interviewId, ++seq});
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            return rows.size();
+        });
+        batches.increment();
+        flushed.add(count);
+    }
+
+    // 저장된 발화가 있는 면접마다 마지막 발화 기준으로 이벤트 발행 (선행 생성 등)
+    private void publishAdded(Map<Long, List<Turn>> saved) {
+        for (Map.Entry<Long, List<Turn>> entry : saved.entrySet()) {
+            List<Turn> turns = entry.getValue();
+            Turn last = turns.get(turns.size() - 1);
+            conversationRepository.findLastIdByInterviewId(entry.getKey()).ifPresent(lastId ->
+                eventPublisher.publishEvent(new ConversationAddedEvent(entry.getKey(), lastId, last.isManager)));
+        }
+    }
+
+    // 남은 발화 중 가장 오래된 순번 직전까지 저장 완료로 기록, 전부 저장됐으면 저널 비움
+    private void advanceWatermark() {
+        synchronized (journalLock) {
+            long oldestPending = Long.MAX_VALUE;
+            for (ConcurrentLinkedQueue<Turn> queue : queues.values()) {
+                Turn head = queue.peek();
+                if (head != null && head.seq < oldestPending) {
+                    oldestPending = head.seq;
+                }
+            }
+            long next = oldestPending == Long.MAX_VALUE ? lastSeq : oldestPending - 1;
+            try {
+                if (next != watermark) {
+                    writeWatermark(next);
+                    watermark = next;
+                }
+                if (oldestPending == Long.MAX_VALUE && journal.size() > 0) {
+                    journal.truncate(0);
+                }
+            } catch (IOException e) {
+                // 다음 저장 때 다시 기록 (재시작 시 중복 저장될 수 있음)
+                System.err.println("대화 저널 watermark 기록 실패: " + e.getMessage());
+            }
+            queues.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+        }
+    }
+
+    private void writeJournal(String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        if (journalFsync) {
+            journal.force(false);
+        }
+    }
+
+    private void writeWatermark(long value) throws IOException {
+        Path temp = watermarkPath.resolveSibling(WATERMARK_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(value), StandardCharsets.UTF_8);
+        Files.move(temp, watermarkPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 시작 시 watermark 이후 저널을 큐에 다시 넣고, 저널은 남은 발화만으로 다시 씀
+    private void recover() throws IOException {
+        if (Files.exists(watermarkPath)) {
+            try {
+                watermark = Long.parseLong(Files.readString(watermarkPath, StandardCharsets.UTF_8).trim());
+            } catch (NumberFormatException e) {
+                System.err.println("대화 저널 watermark 손상, 저널 전체를 다시 저장합니다.");
+            }
+        }
+        lastSeq = watermark;
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<Turn> remaining = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Turn turn = Turn.parse(line);
+                if (turn == null) {
+                    // 기록 도중 죽어서 잘린 줄 등
+                    continue;
+                }
+                lastSeq = Math.max(lastSeq, turn.seq);
+                if (turn.seq > watermark) {
+                    remaining.add(turn);
+                }
+            }
+        }
+
+        StringBuilder rewritten = new StringBuilder();
+        for (Turn turn : remaining) {
+            queues.computeIfAbsent(turn.interviewId, id -> new ConcurrentLinkedQueue<>()).add(turn);
+            rewritten.append(turn.toJournalLine()).append('\n');
+        }
+        Path temp = journalPath.resolveSibling(JOURNAL_FILE + ".tmp");
+        Files.writeString(temp, rewritten.toString(), StandardCharsets.UTF_8);
+        Files.move(temp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        pending.set(remaining.size());
+        replayed.add(remaining.size());
+        if (!remaining.isEmpty()) {
+            System.out.println("저장되지 않은 대화 " + remaining.size() + "건을 저널에서 복구했습니다.");
+        }
+    }
+
+    // 저널 한 줄: 순번|면접ID|면접관 여부(1/0)|내용(Base64)|앞 네 항목의 CRC32 (잘린 줄 판별용)
+    private static class Turn {
+        final long seq;
+        final Long interviewId;
+        final String content;
+        final boolean isManager;
+        // 저장 실패 횟수 (메모리에만 유지, 재시작하면 0부터 다시 셈)
+        int attempts;
+
+        Turn(long seq, Long interviewId, String content, boolean isManager) {
+            this.seq = seq;
+            this.interviewId = interviewId;
+            this.content = content;
+            this.isManager = isManager;
+        }
+
+        String toJournalLine() {
+            String body = seq + "|" + interviewId + "|" + (isManager ? "1" : "0") + "|"
+                + Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+            return body + "|" + checksum(body);
+        }
+
+        static Turn parse(String line) {
+            int last = line.lastIndexOf('|');
+            if (last < 0 || !line.substring(last + 1).equals(checksum(line.substring(0, last)))) {
+                return null;
+            }
+            String[] parts = line.substring(0, last).split("\\|", -1);
+            if (parts.length != 4 || !("1".equals(parts[2]) || "0".equals(parts[2]))) {
+                return null;
+            }
+            try {
+                return new Turn(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    new String(Base64.getDecoder().decode(parts[3]), StandardCharsets.UTF_8), "1".equals(parts[2]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        static String checksum(String body) {
+            CRC32 crc = new CRC32();
+            crc.update(body.getBytes(StandardCharsets.UTF_8));
+            return Long.toHexString(crc.getValue());
+        }
+    }
+}
@@ -1,16 +1,16 @@
 package studyGroup.interviewAI.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.TechStack;
-import studyGroup.interviewAI.entity.Interview;
-import studyGroup.interviewAI.entity.PostReport;
 import studyGroup.interviewAI.entity.ApplicationStatus;
 import studyGroup.interviewAI.repository.ApplicantRepository;
 import studyGroup.interviewAI.repository.InterviewRepository;
 import studyGroup.interviewAI.repository.PostReportRepository;
 import studyGroup.interviewAI.repository.ApplicantTechRepository;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,41 +22,50 @@ public class DashboardService {
     private final InterviewRepository interviewRepository;
     private final PostReportRepository postReportRepository;
     private final ApplicantTechRepository applicantTechRepository;
+    private final DashboardStatistics dashboardStatistics;
+    private final ApplicantService applicantService;
 
     public DashboardService(ApplicantRepository applicantRepository,
                           InterviewRepository interviewRepository,
                           PostReportRepository postReportRepository,
-                          ApplicantTechRepository applicantTechRepository) {
+                          ApplicantTechRepository applicantTechRepository,
+                          DashboardStatistics dashboardStatistics,
+                          ApplicantService applicantService) {
         this.applicantRepository = applicantRepository;
         this.interviewRepository = interviewRepository;
         this.postReportRepository = postReportRepository;
         this.applicantTechRepository = applicantTechRepository;
+        this.dashboardStatistics = dashboardStatistics;
+        this.applicantService = applicantService;
     }
 
+    // 통계는 인메모리 집계에서 조회 (요청마다 COUNT/AVG 쿼리 실행하지 않음)
     public Map<String, Object> getDashboardStats() {
         Map<String, Object> stats = new HashMap<>();
         
         // 전체 지원자 수
-        long totalApplicants = applicantRepository.count();
+        long totalApplicants = dashboardStatistics.getTotalCount();
         
         // 지원자 상태별 카운트
-        long waitingApplicants = applicantRepository.countByStatus(ApplicationStatus.WAITING);
-        long interviewingApplicants = applicantRepository.countByStatus(ApplicationStatus.INTERVIEWING);
-        long completedApplicants = applicantRepository.countByStatus(ApplicationStatus.COMPLETED);
+        long waitingApplicants = dashboardStatistics.getCount(ApplicationStatus.WAITING);
+        long interviewingApplicants = dashboardStatistics.getCount(ApplicationStatus.INTERVIEWING);
+        long completedApplicants = dashboardStatistics.getCount(ApplicationStatus.COMPLETED);
         
         // 평균 점수
-        Double averageScore = postReportRepository.findAverageScore();
+        double averageScore = dashboardStatistics.getAverageScore();
         
         stats.put("totalApplicants", totalApplicants);
         stats.put("pendingApplicants", waitingApplicants);
         stats.put("interviewingApplicants", interviewingApplicants);
         stats.put("completedApplicants", completedApplicants);
-        stats.put("averageScore", averageScore != null ? averageScore : 0.0);
+        stats.put("averageScore", averageScore);
         
         return stats;
     }
 
     // 메인 화면용 완전한 대시보드 데이터
+    // 지원자 수와 관계없이 고정된 개수의 쿼리로 조회 (지원자별 기술스택/면접/평가 조회 제거)
+    @Transactional(readOnly = true)
     public Map<String, Object> getMainDashboardData() {
         Map<String, Object> dashboardData = new HashMap<>();
         
@@ -65,8 +74,84 @@ public class DashboardService {
         
         // 2. 지원자 목록 (상세 정보 포함)
         List<Applicant> applicants = applicantRepository.findAllWithPositionAndExperience();
+        List<Map<String, Object>> applicantDetails = buildApplicantDetails(
+            applicants,
+            applicantTechRepository.findAllApplicantIdWithTechStack(),
+            interviewRepository.findAllSummaries(),
+            postReportRepository.findAllInterviewIdAndScore()
+        );
         
-        List<Map<String, Object>> applicantDetails = applicants.stream()
+        dashboardData.put("applicants", applicantDetails);
+        
+        return dashboardData;
+    }
+
+    // 커서 기반 대시보드 지원자 목록 (서버 측 필터, 페이지 단위 일괄 조회)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getApplicantPage(ApplicationStatus status,
+                                                Long positionId,
+                                                Long experienceId,
+                                                List<Long> techStackIds,
+                                                String cursor,
+                                                int size,
+                                                boolean includeTotal) {
+        ApplicantPage page = applicantService.findPage(status, positionId, experienceId, techStackIds, cursor, size, includeTotal);
+        List<Applicant> applicants = page.getApplicants();
+        
+        List<Long> applicantIds = applicants.stream()
+            .map(Applicant::getId)
+            .collect(Collectors.toList());
+        List<Object[]> techStackRows = new ArrayList<>();
+        List<Object[]> interviewRows = new ArrayList<>();
+        List<Object[]> scoreRows = new ArrayList<>();
+        if (!applicantIds.isEmpty()) {
+            techStackRows = applicantTechRepository.findApplicantIdWithTechStackByApplicantIdIn(applicantIds);
+            interviewRows = interviewRepository.findSummariesByApplicantIdIn(applicantIds);
+            List<Long> interviewIds = interviewRows.stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+            if (!interviewIds.isEmpty()) {
+                scoreRows = postReportRepository.findInterviewIdAndScoreByInterviewIdIn(interviewIds);
+            }
+        }
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("applicants", buildApplicantDetails(applicants, techStackRows, interviewRows, scoreRows));
+        result.put("nextCursor", page.getNextCursor());
+        result.put("hasNext", page.hasNext());
+        if (includeTotal) {
+            result.put("totalCount", page.getTotalCount());
+        }
+        return result;
+    }
+
+    // 일괄 조회한 기술스택/면접/평가 결과를 지원자별로 묶어 응답 데이터 구성
+    private List<Map<String, Object>> buildApplicantDetails(List<Applicant> applicants,
+                                                            List<Object[]> techStackRows,
+                                                            List<Object[]> interviewRows,
+                                                            List<Object[]> scoreRows) {
+        // 지원자 ID -> 기술 스택 목록
+        Map<Long, List<TechStack>> techStacksByApplicant = new HashMap<>();
+        for (Object[] row : techStackRows) {
+            techStacksByApplicant.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                .add((TechStack) row[1]);
+        }
+        
+        // 지원자 ID -> 첫 번째 면접 (ID 순 정렬이므로 먼저 나온 면접 유지)
+        Map<Long, Object[]> interviewByApplicant = new HashMap<>();
+        for (Object[] row : interviewRows) {
+            interviewByApplicant.putIfAbsent((Long) row[1], row);
+        }
+        
+        // 면접 ID -> 점수 (점수가 null일 수 있으므로 containsKey로 확인)
+        Map<Long, Integer> scoreByInterview = new HashMap<>();
+        for (Object[] row : scoreRows) {
+            if (!scoreByInterview.containsKey((Long) row[0])) {
+                scoreByInterview.put((Long) row[0], (Integer) row[1]);
+            }
+        }
+        
+        return applicants.stream()
             .map(applicant -> {
                 Map<String, Object> detail = new HashMap<>();
                 
@@ -90,37 +175,20 @@ public class DashboardService {
                 ));
                 
                 // 기술 스택
-                List<TechStack> techStacks = applicantTechRepository.findByApplicantId(applicant.getId())
-                    .stream()
-                    .map(applicantTech -> applicantTech.getTechStack())
-                    .collect(Collectors.toList());
-                detail.put("techStacks", techStacks);
+                detail.put("techStacks", techStacksByApplicant.getOrDefault(applicant.getId(), new ArrayList<>()));
                 
                 // 면접 상태와 점수
-                List<Interview> interviews = interviewRepository.findByApplicantId(applicant.getId());
-                if (interviews.isEmpty()) {
+                Object[] interview = interviewByApplicant.get(applicant.getId());
+                if (interview == null || interview[2] == null) {
                     detail.put("status", "pending");
                     detail.put("score", null);
                 } else {
-                    Interview interview = interviews.get(0); // 최신 면접
-                    if (interview.getDoneAt() == null) {
-                        detail.put("status", "pending");
-                        detail.put("score", null);
-                    } else {
-                        detail.put("status", "completed");
-                        // 점수 조회
-                        PostReport postReport = postReportRepository.findByInterviewId(interview.getId())
-                            .orElse(null);
-                        detail.put("score", postReport != null ? postReport.getScore() : null);
-                    }
+                    detail.put("status", "completed");
+                    detail.put("score", scoreByInterview.get((Long) interview[0]));
                 }
                 
                 return detail;
             })
             .collect(Collectors.toList());
-        
-        dashboardData.put("applicants", applicantDetails);
-        
-        return dashboardData;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.event.DashboardEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// 메인 대시보드 응답 스냅샷 캐시
+// 동시에 들어온 캐시 미스는 하나의 계산을 공유(single-flight)하고, 도메인 이벤트가 오면 세대를 올려 무효화한다.
+@Service
+public class DashboardSnapshotCache {
+    private final DashboardService dashboardService;
+    private final long ttlMs;
+
+    // 무효화될 때마다 증가하는 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private final AtomicReference<Flight> inFlight = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public DashboardSnapshotCache(DashboardService dashboardService,
+                                  @Value("${dashboard.cache.ttl-ms:30000}") long ttlMs) {
+        this.dashboardService = dashboardService;
+        this.ttlMs = ttlMs;
+    }
+
+    public Map<String, Object> getMainDashboardData() {
+        long currentGeneration = generation.get();
+        Snapshot current = snapshot;
+        if (current != null && current.generation == currentGeneration && !current.isExpired(ttlMs)) {
+            hits.increment();
+            return current.data;
+        }
+
+        while (true) {
+            Flight existing = inFlight.get();
+            // 같은 세대의 계산이 이미 진행 중이면 결과를 기다림
+            if (existing != null && existing.generation == currentGeneration) {
+                coalesced.increment();
+                return await(existing.future);
+            }
+            Flight mine = new Flight(currentGeneration);
+            if (inFlight.compareAndSet(existing, mine)) {
+                misses.increment();
+                compute(mine);
+                return await(mine.future);
+            }
+        }
+    }
+
+    // 커밋된 변경이 생기면 스냅샷 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        invalidations.increment();
+    }
+
+    // 캐시 지표
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long coalescedCount = coalesced.sum();
+        long total = hitCount + missCount + coalescedCount;
+
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("misses", missCount);
+        metrics.put("coalesced", coalescedCount);
+        metrics.put("invalidations", invalidations.sum());
+        metrics.put("hitRate", total > 0 ? (double) (hitCount + coalescedCount) / total : 0.0);
+        metrics.put("generation", generation.get());
+        return metrics;
+    }
+
+    private void compute(Flight flight) {
+        try {
+            Map<String, Object> data = Collections.unmodifiableMap(dashboardService.getMainDashboardData());
+            // 계산 도중 무효화되었다면 결과는 반환만 하고 캐시에는 남기지 않음
+            if (generation.get() == flight.generation) {
+                snapshot = new Snapshot(flight.generation, data);
+            }
+            flight.future.complete(data);
+        } catch (RuntimeException e) {
+            flight.future.completeExceptionally(e);
+        } finally {
+            inFlight.compareAndSet(flight, null);
+        }
+    }
+
+    private Map<String, Object> await(CompletableFuture<Map<String, Object>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class Snapshot {
+        private final long generation;
+        private final Map<String, Object> data;
+        private final long createdAt = System.currentTimeMillis();
+
+        private Snapshot(long generation, Map<String, Object> data) {
+            this.generation = generation;
+            this.data = data;
+        }
+
+        private boolean isExpired(long ttlMs) {
+            return System.currentTimeMillis() - createdAt > ttlMs;
+        }
+    }
+
+    private static class Flight {
+        private final long generation;
+        private final CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+
+        private Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+}
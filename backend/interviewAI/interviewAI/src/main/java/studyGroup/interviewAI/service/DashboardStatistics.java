@@ -0,0 +1,181 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.PostReportRepository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// 대시보드 통계 인메모리 집계
+// 시작 시 한 번 DB에서 적재한 뒤 쓰기 경로에서 증분 갱신하고, 주기적으로 DB와 대조해 오차를 보정한다.
+// 보정은 새 카운터 묶음을 DB 값으로 다 채운 뒤 참조 하나로 교체해, 읽는 쪽이 0으로 초기화된 중간 상태를 보지 않게 한다.
+// DB를 읽는 동안 들어온 증분은 따로 모아 두었다가 교체 직전에 새 묶음에도 더해, 이전 묶음과 함께 버려지지 않게 한다.
+@Component
+public class DashboardStatistics {
+    private final ApplicantRepository applicantRepository;
+    private final PostReportRepository postReportRepository;
+
+    private volatile Counters counters = new Counters();
+    // 보정끼리 직렬화
+    private final Object reconcileLock = new Object();
+    // 보정 중 도착한 증분 (null이면 보정 중 아님) - pendingLock으로 보호, 증분 반영과 교체도 이 잠금 안에서
+    private final Object pendingLock = new Object();
+    private Counters pendingDuringReconcile;
+
+    public DashboardStatistics(ApplicantRepository applicantRepository,
+                               PostReportRepository postReportRepository) {
+        this.applicantRepository = applicantRepository;
+        this.postReportRepository = postReportRepository;
+    }
+
+    // 애플리케이션 시작 시 초기 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    // DB 기준으로 카운터 교체 (증분 갱신 중 누락/롤백으로 생긴 오차 보정)
+    @Scheduled(initialDelayString = "${dashboard.stats.reconcile-interval-ms:60000}",
+               fixedDelayString = "${dashboard.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (pendingLock) {
+                pendingDuringReconcile = new Counters();
+            }
+            try {
+                Map<ApplicationStatus, Long> dbCounts = new EnumMap<>(ApplicationStatus.class);
+                for (Object[] row : applicantRepository.countGroupByStatus()) {
+                    dbCounts.put((ApplicationStatus) row[0], (Long) row[1]);
+                }
+
+                long dbScoreCount = 0;
+                long dbScoreSum = 0;
+                List<Object[]> scoreRows = postReportRepository.findScoreCountAndSum();
+                if (!scoreRows.isEmpty()) {
+                    Object[] row = scoreRows.get(0);
+                    dbScoreCount = row[0] != null ? ((Number) row[0]).longValue() : 0;
+                    dbScoreSum = row[1] != null ? ((Number) row[1]).longValue() : 0;
+                }
+
+                Counters reconciled = new Counters();
+                for (ApplicationStatus status : ApplicationStatus.values()) {
+                    reconciled.statusCounts.get(status).add(dbCounts.getOrDefault(status, 0L));
+                }
+                reconciled.scoreCount.add(dbScoreCount);
+                reconciled.scoreSum.add(dbScoreSum);
+
+                // DB를 읽는 동안 이전 묶음에만 반영된 증분을 새 묶음에도 더한 뒤 교체
+                synchronized (pendingLock) {
+                    reconciled.addAll(pendingDuringReconcile);
+                    counters = reconciled;
+                }
+            } finally {
+                // 실패했으면 증분은 이미 기존 묶음에 반영되어 있으므로 버림
+                synchronized (pendingLock) {
+                    pendingDuringReconcile = null;
+                }
+            }
+        }
+    }
+
+    // 지원자 등록
+    public void applicantAdded(ApplicationStatus status) {
+        if (status != null) {
+            apply(current -> current.statusCounts.get(status).increment());
+        }
+    }
+
+    // 지원자 삭제
+    public void applicantRemoved(ApplicationStatus status) {
+        if (status != null) {
+            apply(current -> current.statusCounts.get(status).decrement());
+        }
+    }
+
+    // 지원자 상태 변경
+    public void statusChanged(ApplicationStatus previousStatus, ApplicationStatus newStatus) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        apply(current -> {
+            if (previousStatus != null) {
+                current.statusCounts.get(previousStatus).decrement();
+            }
+            if (newStatus != null) {
+                current.statusCounts.get(newStatus).increment();
+            }
+        });
+    }
+
+    // 평가 점수 저장/수정/삭제 (null은 점수 없음)
+    public void scoreChanged(Integer previousScore, Integer newScore) {
+        apply(current -> {
+            if (previousScore != null) {
+                current.scoreSum.add(-previousScore);
+                current.scoreCount.decrement();
+            }
+            if (newScore != null) {
+                current.scoreSum.add(newScore);
+                current.scoreCount.increment();
+            }
+        });
+    }
+
+    // 증분을 현재 묶음에 반영하고, 보정 중이면 보정 후 묶음에 더할 몫으로도 기록
+    // 교체와 같은 잠금 안에서 하므로 증분이 교체되는 이전 묶음에만 남는 일이 없음
+    private void apply(Consumer<Counters> delta) {
+        synchronized (pendingLock) {
+            delta.accept(counters);
+            if (pendingDuringReconcile != null) {
+                delta.accept(pendingDuringReconcile);
+            }
+        }
+    }
+
+    public long getCount(ApplicationStatus status) {
+        return counters.statusCounts.get(status).sum();
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (LongAdder counter : counters.statusCounts.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    public double getAverageScore() {
+        Counters current = counters;
+        long count = current.scoreCount.sum();
+        return count > 0 ? (double) current.scoreSum.sum() / count : 0.0;
+    }
+
+    // 함께 교체되는 카운터 묶음
+    private static final class Counters {
+        final Map<ApplicationStatus, LongAdder> statusCounts = new EnumMap<>(ApplicationStatus.class);
+        final LongAdder scoreSum = new LongAdder();
+        final LongAdder scoreCount = new LongAdder();
+
+        Counters() {
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                statusCounts.put(status, new LongAdder());
+            }
+        }
+
+        void addAll(Counters other) {
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                statusCounts.get(status).add(other.statusCounts.get(status).sum());
+            }
+            scoreSum.add(other.scoreSum.sum());
+            scoreCount.add(other.scoreCount.sum());
+        }
+    }
+}
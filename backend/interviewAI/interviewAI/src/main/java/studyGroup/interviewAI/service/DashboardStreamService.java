@@ -0,0 +1,138 @@
+package studyGroup.interviewAI.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studyGroup.interviewAI.event.DashboardEvent;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 대시보드 변경분(delta) SSE 브로드캐스트
+// 변경 1건당 이벤트를 한 번만 직렬화해 연결된 모든 대시보드에 같은 프레임을 전송한다.
+@Service
+public class DashboardStreamService {
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // 느린 클라이언트가 이벤트 발행 스레드를 붙잡지 않도록 전송은 별도 스레드에서 처리
+    private final ExecutorService broadcastExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DashboardStreamService(ObjectMapper objectMapper,
+                                  @Value("${dashboard.stream.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    // 새 대시보드 연결 등록
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(Map.of("subscribers", emitters.size())));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // 커밋된 변경만 전송 (트랜잭션 밖에서 발행된 이벤트는 즉시 전송)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(toPayload(event));
+        } catch (JsonProcessingException e) {
+            System.err.println("대시보드 이벤트 직렬화 실패: " + e.getMessage());
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+            .name(event.getType().name())
+            .data(json, MediaType.APPLICATION_JSON)
+            .build();
+        broadcastExecutor.execute(() -> broadcast(frame));
+    }
+
+    // 프록시/브라우저의 유휴 연결 종료 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        broadcastExecutor.execute(() -> broadcast(frame));
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcastExecutor.shutdownNow();
+        for (SseEmitter emitter : emitters) {
+            emitter.complete();
+        }
+        emitters.clear();
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(frame);
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 클라이언트가 로컬 상태에 적용할 최소한의 변경 정보
+    private Map<String, Object> toPayload(DashboardEvent event) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", event.getType().name());
+        payload.put("applicantId", event.getApplicantId());
+        payload.put("occurredAt", event.getOccurredAt());
+        if (event.getInterviewId() != null) {
+            payload.put("interviewId", event.getInterviewId());
+        }
+        if (event.getPreviousStatus() != null) {
+            payload.put("previousStatus", event.getPreviousStatus());
+        }
+        if (event.getStatus() != null) {
+            payload.put("status", event.getStatus());
+        }
+        if (event.getType() == DashboardEvent.Type.SCORE_RECORDED) {
+            payload.put("previousScore", event.getPreviousScore());
+            payload.put("score", event.getScore());
+        }
+        if (event.getCount() != null) {
+            payload.put("count", event.getCount());
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,165 @@
+package studyGroup.interviewAI.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+// 업로드 문서에서 텍스트 추출 (PDF: PDFBox, DOCX: word/document.xml을 StAX로 스트리밍 파싱, 텍스트 파일: UTF-8)
+// 결과는 최대 글자 수까지만 담고 나머지는 잘라낸다.
+@Component
+public class DocumentTextExtractor {
+    private static final Set<String> PLAIN_TEXT_TYPES = Set.of("txt", "text", "md", "csv");
+    private static final String DOCX_BODY = "word/document.xml";
+    private static final String WORD_NAMESPACE = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private final int maxChars;
+    private final int maxPdfPages;
+    private final XMLInputFactory xmlInputFactory;
+
+    public DocumentTextExtractor(@Value("${document.extraction.max-chars:1000000}") int maxChars,
+                                 @Value("${document.extraction.max-pdf-pages:300}") int maxPdfPages) {
+        this.maxChars = maxChars;
+        this.maxPdfPages = maxPdfPages;
+        // 업로드 문서는 신뢰할 수 없으므로 DTD/외부 엔티티 처리 차단
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public boolean supports(String fileType) {
+        return "pdf".equals(fileType) || "docx".equals(fileType) || PLAIN_TEXT_TYPES.contains(fileType);
+    }
+
+    public Result extract(Path file, String fileType) throws IOException {
+        if ("pdf".equals(fileType)) {
+            return extractPdf(file);
+        }
+        if ("docx".equals(fileType)) {
+            return extractDocx(file);
+        }
+        if (PLAIN_TEXT_TYPES.contains(fileType)) {
+            return extractPlainText(file);
+        }
+        throw new IllegalArgumentException("지원하지 않는 문서 형식입니다: " + fileType);
+    }
+
+    // 페이지 수가 많은 포트폴리오는 앞쪽 maxPdfPages 페이지만 추출
+    // 파싱 중 풀어낸 스트림은 힙 대신 임시 파일에 캐시 (큰 PDF 여러 개를 동시에 추출해도 힙이 늘지 않음)
+    private Result extractPdf(Path file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            stripper.setEndPage(maxPdfPages);
+            Result result = limit(new StringBuilder(stripper.getText(document)));
+            if (document.getNumberOfPages() > maxPdfPages && !result.isTruncated()) {
+                return new Result(result.getText(), true);
+            }
+            return result;
+        }
+    }
+
+    // 문단(w:p)마다 줄바꿈, w:tab/w:br은 탭/줄바꿈으로 변환
+    private Result extractDocx(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry body = zip.getEntry(DOCX_BODY);
+            if (body == null) {
+                throw new IOException("DOCX 본문(" + DOCX_BODY + ")이 없습니다.");
+            }
+            StringBuilder text = new StringBuilder();
+            try (InputStream in = zip.getInputStream(body)) {
+                XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+                try {
+                    boolean inText = false;
+                    while (reader.hasNext() && text.length() <= maxChars) {
+                        int event = reader.next();
+                        if (event == XMLStreamConstants.START_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            String name = reader.getLocalName();
+                            if ("t".equals(name)) {
+                                inText = true;
+                            } else if ("tab".equals(name)) {
+                                text.append('\t');
+                            } else if ("br".equals(name)) {
+                                text.append('\n');
+                            }
+                        } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NAMESPACE.equals(reader.getNamespaceURI())) {
+                            String name = reader.getLocalName();
+                            if ("t".equals(name)) {
+                                inText = false;
+                            } else if ("p".equals(name)) {
+                                text.append('\n');
+                            }
+                        } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("DOCX 본문을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+            return limit(text);
+        }
+    }
+
+    // 잘못된 UTF-8 바이트는 대체 문자로 바꿈
+    private Result extractPlainText(Path file) throws IOException {
+        StringBuilder text = new StringBuilder();
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE))) {
+            char[] buffer = new char[8192];
+            int read;
+            while (text.length() <= maxChars && (read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        }
+        return limit(text);
+    }
+
+    private Result limit(StringBuilder text) {
+        if (text.length() > maxChars) {
+            text.setLength(maxChars);
+            return new Result(text.toString(), true);
+        }
+        return new Result(text.toString(), false);
+    }
+
+    // 추출 결과 (텍스트, 최대 글자 수에서 잘렸는지)
+    public static class Result {
+        private final String text;
+        private final boolean truncated;
+
+        Result(String text, boolean truncated) {
+            this.text = text;
+            this.truncated = truncated;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyGroup.interviewAI.entity.DocumentText;
+import studyGroup.interviewAI.event.FileUploadEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.DocumentTextRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+// 업로드 문서 텍스트 추출 파이프라인
+// 새 파일이 저장되면 고정 크기 워커 풀 + 크기 제한 큐에 추출 작업을 넣고, 결과 텍스트는 압축해 DocumentText에 저장한다.
+// 큐가 가득 차 접수하지 못한 파일이나 재시작 전에 끝나지 않은 파일은 주기적인 보충 작업이 다시 넣는다.
+// 사전 리포트/질문 생성 쪽은 파일을 다시 읽지 않고 getApplicantTexts()로 저장된 텍스트를 바로 읽는다.
+@Service
+public class DocumentTextService {
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final DocumentTextRepository documentTextRepository;
+    private final ApplicantRepository applicantRepository;
+    private final DocumentTextExtractor extractor;
+    private final TransactionTemplate transactionTemplate;
+    private final int sweepBatchSize;
+
+    private final ThreadPoolExecutor workers;
+
+    // 대기/진행 중인 파일 (sha256 → 접수 시각) - 같은 내용을 중복 접수하지 않음
+    private final ConcurrentHashMap<String, Long> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder extracted = new LongAdder();
+    private final LongAdder unsupported = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder extractionMs = new LongAdder();
+    private final LongAdder queueWaitMs = new LongAdder();
+    private final LongAdder textBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final AtomicLong maxExtractionMs = new AtomicLong();
+
+    public DocumentTextService(DocumentTextRepository documentTextRepository,
+                               ApplicantRepository applicantRepository,
+                               DocumentTextExtractor extractor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${document.extraction.workers:2}") int workerCount,
+                               @Value("${document.extraction.queue-capacity:500}") int queueCapacity,
+                               @Value("${document.extraction.sweep-batch-size:100}") int sweepBatchSize) {
+        this.documentTextRepository = documentTextRepository;
+        this.applicantRepository = applicantRepository;
+        this.extractor = extractor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweepBatchSize = sweepBatchSize;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory("document-text-"));
+    }
+
+    // 새 파일은 추출 대기열에, 삭제된 파일은 추출 결과도 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileUploadEvent(FileUploadEvent event) {
+        if (event.getType() == FileUploadEvent.Type.STORED) {
+            submit(event.getSha256(), event.getFilePath(), event.getFileType());
+        } else {
+            transactionTemplate.executeWithoutResult(status -> documentTextRepository.deleteBySha256(event.getSha256()));
+        }
+    }
+
+    // 추출 결과가 없는 업로드 파일을 큐 여유만큼 다시 넣음 (시작 직후 한 번 실행되어 재시작 전 빠진 파일도 보충)
+    @Scheduled(fixedDelayString = "${document.extraction.sweep-interval-ms:300000}")
+    public void sweep() {
+        int capacity = workers.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        // 대기/진행 중인 파일도 결과가 아직 없어 조회되므로 그만큼 더 읽음
+        int limit = Math.min(capacity + pending.size(), sweepBatchSize);
+        List<Object[]> uploads = documentTextRepository.findUploadsWithoutText(PageRequest.of(0, limit));
+        for (Object[] upload : uploads) {
+            submit((String) upload[0], (String) upload[1], (String) upload[2]);
+        }
+    }
+
+    // 지원자 이력서/포트폴리오의 추출 텍스트 (경로 → 파일 해시 → 텍스트 인덱스 조회 후 압축 해제만 함)
+    public Map<String, Object> getApplicantTexts(Long applicantId) {
+        List<Object[]> filePaths = applicantRepository.findFilePathsById(applicantId);
+        if (filePaths.isEmpty()) {
+            throw new RuntimeException("Applicant not found with id: " + applicantId);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("applicantId", applicantId);
+        result.put("resume", describe((String) filePaths.get(0)[0]));
+        result.put("portfolio", describe((String) filePaths.get(0)[1]));
+        return result;
+    }
+
+    public Optional<String> findTextByFilePath(String filePath) {
+        return documentTextRepository.findByFilePath(filePath)
+            .filter(documentText -> documentText.getStatus() == DocumentText.Status.EXTRACTED)
+            .map(this::decompress);
+    }
+
+    // 추출 지연/적체 지표
+    public Map<String, Object> getStats() {
+        long processed = extracted.sum() + unsupported.sum() + failed.sum();
+        long now = System.currentTimeMillis();
+        long oldestPendingMs = pending.values().stream().mapToLong(queuedAt -> now - queuedAt).max().orElse(0L);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queued", workers.getQueue().size());
+        stats.put("running", workers.getActiveCount());
+        stats.put("backlog", pending.size());
+        stats.put("oldestPendingMs", oldestPendingMs);
+        stats.put("extracted", extracted.sum());
+        stats.put("unsupported", unsupported.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("averageExtractionMs", processed > 0 ? (double) extractionMs.sum() / processed : 0.0);
+        stats.put("maxExtractionMs", maxExtractionMs.get());
+        stats.put("averageQueueWaitMs", processed > 0 ? (double) queueWaitMs.sum() / processed : 0.0);
+        stats.put("textBytes", textBytes.sum());
+        stats.put("compressedBytes", compressedBytes.sum());
+        stats.put("workers", workers.getMaximumPoolSize());
+        stats.put("queueCapacity", workers.getQueue().size() + workers.getQueue().remainingCapacity());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void submit(String sha256, String filePath, String fileType) {
+        if (pending.putIfAbsent(sha256, System.currentTimeMillis()) != null) {
+            return;
+        }
+        try {
+            workers.execute(() -> run(sha256, filePath, fileType));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참 - 다음 보충 작업에서 다시 넣음
+            pending.remove(sha256);
+            rejected.increment();
+        }
+    }
+
+    private void run(String sha256, String filePath, String fileType) {
+        try {
+            Long queuedAt = pending.get(sha256);
+            if (queuedAt != null) {
+                queueWaitMs.add(System.currentTimeMillis() - queuedAt);
+            }
+            Path path = Paths.get(filePath);
+            if (documentTextRepository.existsBySha256(sha256) || !Files.isRegularFile(path)) {
+                // 이미 추출했거나 그 사이 파일이 삭제됨
+                return;
+            }
+
+            DocumentText documentText = new DocumentText();
+            documentText.setSha256(sha256);
+            documentText.setFileType(fileType);
+            long startedAt = System.nanoTime();
+            if (!extractor.supports(fileType)) {
+                documentText.setStatus(DocumentText.Status.UNSUPPORTED);
+            } else {
+                try {
+                    DocumentTextExtractor.Result result = extractor.extract(path, fileType);
+                    byte[] utf8 = result.getText().getBytes(StandardCharsets.UTF_8);
+                    byte[] compressed = compress(utf8);
+                    documentText.setStatus(DocumentText.Status.EXTRACTED);
+                    documentText.setCompressedText(compressed);
+                    documentText.setTextBytes(utf8.length);
+                    documentText.setTextLength(result.getText().length());
+                    documentText.setTruncated(result.isTruncated());
+                    textBytes.add(utf8.length);
+                    compressedBytes.add(compressed.length);
+                } catch (IOException | RuntimeException e) {
+                    // 손상/암호화된 문서 등은 재시도해도 결과가 같으므로 실패로 기록
+                    String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                    System.err.println("문서 텍스트 추출 실패: " + filePath + " - " + message);
+                    documentText.setStatus(DocumentText.Status.FAILED);
+                    documentText.setErrorMessage(message.length() > MAX_ERROR_MESSAGE_LENGTH
+                        ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message);
+                }
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            documentText.setExtractionMs(elapsedMs);
+
+            try {
+                documentTextRepository.save(documentText);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 내용을 다른 경로(보충 작업 등)에서 먼저 저장함
+                return;
+            }
+            extractionMs.add(elapsedMs);
+            maxExtractionMs.accumulateAndGet(elapsedMs, Math::max);
+            switch (documentText.getStatus()) {
+                case EXTRACTED -> extracted.increment();
+                case UNSUPPORTED -> unsupported.increment();
+                case FAILED -> failed.increment();
+            }
+        } catch (RuntimeException e) {
+            System.err.println("문서 텍스트 저장 실패: " + filePath + " - " + e.getMessage());
+        } finally {
+            pending.remove(sha256);
+        }
+    }
+
+    private Map<String, Object> describe(String filePath) {
+        if (filePath == null) {
+            return null;
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("filePath", filePath);
+        Optional<DocumentText> found = documentTextRepository.findByFilePath(filePath);
+        if (found.isEmpty()) {
+            // 아직 추출 전이거나 저장소 밖의 경로
+            result.put("status", "PENDING");
+            return result;
+        }
+        DocumentText documentText = found.get();
+        result.put("status", documentText.getStatus());
+        result.put("fileType", documentText.getFileType());
+        result.put("extractedAt", documentText.getExtractedAt());
+        result.put("extractionMs", documentText.getExtractionMs());
+        if (documentText.getStatus() == DocumentText.Status.EXTRACTED) {
+            result.put("textLength", documentText.getTextLength());
+            result.put("truncated", documentText.getTruncated());
+            result.put("text", decompress(documentText));
+        } else if (documentText.getErrorMessage() != null) {
+            result.put("error", documentText.getErrorMessage());
+        }
+        return result;
+    }
+
+    private byte[] compress(byte[] utf8) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, utf8.length / 4));
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(utf8);
+        }
+        return out.toByteArray();
+    }
+
+    // 원래 바이트 수를 알고 있으므로 결과 버퍼를 한 번만 할당
+    private String decompress(DocumentText documentText) {
+        byte[] utf8 = new byte[documentText.getTextBytes()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(documentText.getCompressedText());
+            int offset = 0;
+            while (offset < utf8.length && !inflater.finished()) {
+                int inflated = inflater.inflate(utf8, offset, utf8.length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != utf8.length) {
+                throw new IllegalStateException("압축된 문서 텍스트가 손상되었습니다: " + documentText.getSha256());
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 문서 텍스트가 손상되었습니다: " + documentText.getSha256(), e);
+        } finally {
+            inflater.end();
+        }
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            // 요청 처리 스레드보다 낮은 우선순위로 실행
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+    }
+}
@@ -10,24 +10,31 @@ import java.util.Optional;
 @Service
 public class ExperienceService {
     private final ExperienceRepository experienceRepository;
+    private final ReferenceCatalog referenceCatalog;
 
-    public ExperienceService(ExperienceRepository experienceRepository) {
+    public ExperienceService(ExperienceRepository experienceRepository, ReferenceCatalog referenceCatalog) {
         this.experienceRepository = experienceRepository;
+        this.referenceCatalog = referenceCatalog;
     }
 
+    // 조회는 참조 데이터 카탈로그에서
     public List<Experience> findAll() {
-        return experienceRepository.findAll();
+        return referenceCatalog.getExperiences();
     }
 
     public Optional<Experience> findById(Long id) {
-        return experienceRepository.findById(id);
+        return referenceCatalog.findExperience(id);
     }
 
+    // 쓰기 후 카탈로그 갱신
     public Experience save(Experience experience) {
-        return experienceRepository.save(experience);
+        Experience savedExperience = experienceRepository.save(experience);
+        referenceCatalog.refreshExperiences();
+        return savedExperience;
     }
 
     public void deleteById(Long id) {
         experienceRepository.deleteById(id);
+        referenceCatalog.refreshExperiences();
     }
 } 
\ No newline at end of file
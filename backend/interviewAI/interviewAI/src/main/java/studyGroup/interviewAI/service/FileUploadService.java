@@ -1,73 +1,198 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import studyGroup.interviewAI.entity.FileUpload;
+import studyGroup.interviewAI.event.FileUploadEvent;
+import studyGroup.interviewAI.repository.FileUploadRepository;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+// 업로드 파일 메타데이터와 참조 수 관리 (실제 파일은 ContentAddressedFileStore에 내용 해시로 한 번만 저장)
+// 참조 수는 파일 경로를 쓰는 지원자 수로, 지원자 등록/수정/삭제에서 경로를 연결하거나 해제할 때 바뀐다.
+// 같은 내용을 다시 올리면 해시 계산만 하고 기존 파일을 돌려준다.
+// 참조가 없는 파일(연결하지 않은 업로드, 모든 지원자에서 빠진 파일)은 유예 시간이 지나면 주기적으로 지운다.
 @Service
 public class FileUploadService {
+    private static final int LOCK_STRIPES = 64;
+
+    private final ContentAddressedFileStore fileStore;
+    private final FileUploadRepository fileUploadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long unreferencedTtlMs;
+
+    // 같은 해시에 대한 저장/해제를 직렬화 (행 조회 → 증가/생성 사이 경쟁 방지)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public FileUploadService(ContentAddressedFileStore fileStore,
+                             FileUploadRepository fileUploadRepository,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${file.upload.unreferenced-ttl-ms:86400000}") long unreferencedTtlMs) {
+        this.fileStore = fileStore;
+        this.fileUploadRepository = fileUploadRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.unreferencedTtlMs = unreferencedTtlMs;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
 
     public String uploadResumeFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        String uploadDir = "uploads/resumes/";
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        try (InputStream body = file.getInputStream()) {
+            return store(body, file.getOriginalFilename()).getFilePath();
         }
-        
-        // 파일명 생성 (중복 방지를 위해 타임스탬프 추가)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileExtension = getFileExtension(file.getOriginalFilename());
-        String newFileName = "resume_" + timestamp + fileExtension;
-        
-        // 파일 저장
-        Path filePath = uploadPath.resolve(newFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        
-        // 파일 경로 반환
-        return uploadDir + newFileName;
     }
 
     public String uploadPortfolioFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        String uploadDir = "uploads/portfolios/";
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        try (InputStream body = file.getInputStream()) {
+            return store(body, file.getOriginalFilename()).getFilePath();
+        }
+    }
+
+    // 요청 본문을 그대로 받아 저장 (multipart 임시 파일 없이 한 번만 기록)
+    public StoredFile storeResumeStream(InputStream body, String originalFileName) throws IOException {
+        return store(body, originalFileName);
+    }
+
+    public StoredFile storePortfolioStream(InputStream body, String originalFileName) throws IOException {
+        return store(body, originalFileName);
+    }
+
+    public Optional<FileUpload> findById(Long id) {
+        return fileUploadRepository.findById(id);
+    }
+
+    public Optional<FileUpload> findByFilePath(String filePath) {
+        return fileUploadRepository.findByFilePath(filePath);
+    }
+
+    // 지원자에 경로가 연결됨 (저장소 밖의 경로나 이미 만료된 업로드면 무시)
+    // 호출한 쪽 트랜잭션에 참여하므로 지원자 저장이 롤백되면 참조 수도 함께 롤백된다.
+    public void acquire(String filePath) {
+        acquire(filePath, 1);
+    }
+
+    public void acquire(String filePath, int count) {
+        if (filePath == null || count <= 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> fileUploadRepository.acquireByFilePath(filePath, count));
+    }
+
+    // 일괄 등록: 경로별 연결 수를 모아 경로당 UPDATE 한 번
+    public void acquireAll(Map<String, Integer> countsByFilePath) {
+        countsByFilePath.forEach(this::acquire);
+    }
+
+    // 지원자 삭제 등으로 경로 참조가 하나 사라짐 (저장소 밖의 경로면 무시)
+    // 0이 돼도 바로 지우지 않고 유예 시간 뒤 정리 (그 사이 같은 파일을 다시 연결할 수 있음)
+    public void release(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> fileUploadRepository.releaseByFilePath(filePath, LocalDateTime.now()));
+    }
+
+    // 지원자 수정으로 경로가 바뀜 (새 경로 연결 후 이전 경로 해제)
+    public void replace(String previousFilePath, String filePath) {
+        if (Objects.equals(previousFilePath, filePath)) {
+            return;
+        }
+        acquire(filePath);
+        release(previousFilePath);
+    }
+
+    // 참조 없이 유예 시간이 지난 파일 정리
+    @Scheduled(initialDelayString = "${file.upload.unreferenced-cleanup-interval-ms:3600000}",
+               fixedDelayString = "${file.upload.unreferenced-cleanup-interval-ms:3600000}")
+    public void deleteUnreferenced() {
+        LocalDateTime threshold = LocalDateTime.now().minus(unreferencedTtlMs, ChronoUnit.MILLIS);
+        List<Object[]> candidates = fileUploadRepository.findUnreferencedBefore(threshold);
+        int deleted = 0;
+        for (Object[] row : candidates) {
+            Long id = (Long) row[0];
+            String sha256 = (String) row[1];
+            String filePath = (String) row[2];
+            // 같은 내용 재업로드(storeStaged)와 겹치지 않도록 해시 단위로 잠금
+            synchronized (lockFor(sha256)) {
+                Integer removed = transactionTemplate.execute(status -> fileUploadRepository.deleteIfUnreferenced(id, threshold));
+                if (removed == null || removed == 0) {
+                    continue;
+                }
+                deleted++;
+                eventPublisher.publishEvent(FileUploadEvent.deleted(sha256, filePath));
+                try {
+                    fileStore.delete(sha256);
+                } catch (IOException e) {
+                    System.err.println("참조가 없는 업로드 파일 삭제 실패: " + filePath + " - " + e.getMessage());
+                }
+            }
+        }
+        if (deleted > 0) {
+            System.out.println("참조가 없는 업로드 파일 " + deleted + "개를 정리했습니다.");
         }
-        
-        // 파일명 생성 (중복 방지를 위해 타임스탬프 추가)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileExtension = getFileExtension(file.getOriginalFilename());
-        String newFileName = "portfolio_" + timestamp + fileExtension;
-        
-        // 파일 저장
-        Path filePath = uploadPath.resolve(newFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        
-        // 파일 경로 반환
-        return uploadDir + newFileName;
-    }
-    
-    // 파일 확장자 추출
-    private String getFileExtension(String fileName) {
+    }
+
+    private StoredFile store(InputStream body, String originalFileName) throws IOException {
+        return storeStaged(fileStore.stage(body), originalFileName);
+    }
+
+    // 해시까지 계산된 파일을 저장소에 넣고 메타데이터 등록 (같은 내용이 있으면 참조 수만 증가)
+    public StoredFile storeStaged(ContentAddressedFileStore.StagedFile staged, String originalFileName) throws IOException {
+        synchronized (lockFor(staged.getSha256())) {
+            Optional<FileUpload> existing = fileUploadRepository.findBySha256(staged.getSha256());
+            if (existing.isPresent()) {
+                // 같은 내용이 이미 있으면 기존 파일 사용 (참조 수는 지원자에 연결될 때 증가)
+                fileStore.discard(staged);
+                transactionTemplate.executeWithoutResult(status -> fileUploadRepository.touch(existing.get().getId(), LocalDateTime.now()));
+                return new StoredFile(existing.get().getId(), existing.get().getFilePath(), staged.getSize(), staged.getSha256(), true);
+            }
+
+            String filePath = fileStore.commit(staged);
+            FileUpload fileUpload = new FileUpload();
+            fileUpload.setOriginalFileName(originalFileName != null ? originalFileName : staged.getSha256());
+            fileUpload.setStoredFileName(staged.getSha256());
+            fileUpload.setFilePath(filePath);
+            fileUpload.setFileType(getFileType(originalFileName));
+            fileUpload.setFileSize(staged.getSize());
+            fileUpload.setSha256(staged.getSha256());
+            fileUpload.setRefCount(0);
+            FileUpload saved = fileUploadRepository.save(fileUpload);
+            // 새 내용일 때만 텍스트 추출 대기열에 넣음 (중복 업로드는 기존 추출 결과 재사용)
+            eventPublisher.publishEvent(FileUploadEvent.stored(staged.getSha256(), filePath, saved.getFileType()));
+            return new StoredFile(saved.getId(), filePath, staged.getSize(), staged.getSha256(), false);
+        }
+    }
+
+    private Object lockFor(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 파일 확장자 (소문자, 점 제외) - 없거나 경로 문자가 섞였으면 bin
+    private String getFileType(String fileName) {
         if (fileName == null) {
-            return "";
+            return "bin";
         }
         int lastDotIndex = fileName.lastIndexOf(".");
         if (lastDotIndex == -1) {
-            return "";
+            return "bin";
         }
-        return fileName.substring(lastDotIndex);
+        String extension = fileName.substring(lastDotIndex + 1);
+        return extension.matches("[A-Za-z0-9]{1,10}") ? extension.toLowerCase() : "bin";
     }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.Interview;
@@ -7,6 +8,8 @@ import studyGroup.interviewAI.entity.Conversation;
 import studyGroup.interviewAI.entity.Manager;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.event.ConversationAddedEvent;
+import studyGroup.interviewAI.event.DashboardEvent;
 import studyGroup.interviewAI.repository.InterviewRepository;
 import studyGroup.interviewAI.repository.ConversationRepository;
 import studyGroup.interviewAI.repository.ManagerRepository;
@@ -14,6 +17,7 @@ import studyGroup.interviewAI.repository.ApplicantRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -22,15 +26,30 @@ public class InterviewService {
     private final ConversationRepository conversationRepository;
     private final ManagerRepository managerRepository;
     private final ApplicantRepository applicantRepository;
+    private final DashboardStatistics dashboardStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConversationContextWindow conversationContextWindow;
+    private final SuggestedQuestionService suggestedQuestionService;
+    private final ConversationWriteBehindService conversationWriteBehind;
 
     public InterviewService(InterviewRepository interviewRepository,
                           ConversationRepository conversationRepository,
                           ManagerRepository managerRepository,
-                          ApplicantRepository applicantRepository) {
+                          ApplicantRepository applicantRepository,
+                          DashboardStatistics dashboardStatistics,
+                          ApplicationEventPublisher eventPublisher,
+                          ConversationContextWindow conversationContextWindow,
+                          SuggestedQuestionService suggestedQuestionService,
+                          ConversationWriteBehindService conversationWriteBehind) {
         this.interviewRepository = interviewRepository;
         this.conversationRepository = conversationRepository;
         this.managerRepository = managerRepository;
         this.applicantRepository = applicantRepository;
+        this.dashboardStatistics = dashboardStatistics;
+        this.eventPublisher = eventPublisher;
+        this.conversationContextWindow = conversationContextWindow;
+        this.suggestedQuestionService = suggestedQuestionService;
+        this.conversationWriteBehind = conversationWriteBehind;
     }
 
     public List<Interview> findAll() {
@@ -46,7 +65,10 @@ public class InterviewService {
     }
 
     public void deleteById(Long id) {
+        conversationWriteBehind.discard(id);
         interviewRepository.deleteById(id);
+        conversationContextWindow.invalidate(id);
+        suggestedQuestionService.discard(id);
     }
 
     // 면접 완료 처리
@@ -55,23 +77,38 @@ public class InterviewService {
         Optional<Interview> interviewOpt = interviewRepository.findById(interviewId);
         if (interviewOpt.isPresent()) {
             Interview interview = interviewOpt.get();
+            // 이미 완료된 면접은 완료 시각/상태 집계/처리량 이벤트를 다시 만들지 않음
+            if (interview.getDoneAt() != null) {
+                return interview;
+            }
             interview.setDoneAt(LocalDateTime.now());
             
             // 지원자 상태를 COMPLETED로 변경
             Applicant applicant = interview.getApplicant();
+            ApplicationStatus previousStatus = applicant.getStatus();
             applicant.setStatus(ApplicationStatus.COMPLETED);
             applicantRepository.save(applicant);
+            dashboardStatistics.statusChanged(previousStatus, ApplicationStatus.COMPLETED);
             
-            return interviewRepository.save(interview);
+            Interview savedInterview = interviewRepository.save(interview);
+            eventPublisher.publishEvent(DashboardEvent.interviewCompleted(applicant.getId(), savedInterview.getId(), previousStatus));
+            return savedInterview;
         }
         throw new RuntimeException("Interview not found with id: " + interviewId);
     }
 
     // 특정 면접의 대화 조회
     public List<Conversation> findConversationsByInterviewId(Long interviewId) {
+        conversationWriteBehind.flush(interviewId);
         return conversationRepository.findByInterviewIdOrderById(interviewId);
     }
 
+    // 특정 순번 이후에 추가된 대화만 조회 (클라이언트 폴링용)
+    public List<Conversation> findConversationsAfterSeq(Long interviewId, long afterSeq) {
+        conversationWriteBehind.flush(interviewId);
+        return conversationRepository.findByInterviewIdAndSeqGreaterThanOrderBySeq(interviewId, afterSeq);
+    }
+
     // 특정 지원자의 면접 조회
     public List<Interview> findByApplicantId(Long applicantId) {
         return interviewRepository.findByApplicantId(applicantId);
@@ -88,8 +125,10 @@ public class InterviewService {
 
         // 지원자 상태를 INTERVIEWING으로 변경
         Applicant applicant = applicantOpt.get();
+        ApplicationStatus previousStatus = applicant.getStatus();
         applicant.setStatus(ApplicationStatus.INTERVIEWING);
         applicantRepository.save(applicant);
+        dashboardStatistics.statusChanged(previousStatus, ApplicationStatus.INTERVIEWING);
 
         // 매니저 존재 확인 또는 생성
         Manager manager = managerRepository.findById(managerId).orElseGet(() -> {
@@ -104,23 +143,46 @@ public class InterviewService {
         interview.setManager(manager);
         // doneAt은 null로 두어 진행 중임을 표시
 
-        return interviewRepository.save(interview);
+        Interview savedInterview = interviewRepository.save(interview);
+        eventPublisher.publishEvent(DashboardEvent.interviewStarted(applicantId, savedInterview.getId(), previousStatus));
+        return savedInterview;
     }
 
-    // 인터뷰에 대화 추가
+    // 인터뷰에 대화 추가 (면접 행의 순번 카운터를 증가시켜 면접 내 순번 부여)
+    @Transactional
     public Conversation addConversation(Long interviewId, String content, Boolean isManager) {
-        // 인터뷰 존재 확인
-        Optional<Interview> interviewOpt = interviewRepository.findById(interviewId);
-        if (interviewOpt.isEmpty()) {
+        if (content != null && content.length() > Conversation.CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("대화 내용은 " + Conversation.CONTENT_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        // 인터뷰 존재 확인 겸 순번 예약
+        if (interviewRepository.reserveConversationSeq(interviewId, 1) == 0) {
             throw new RuntimeException("Interview not found with id: " + interviewId);
         }
+        Long seq = interviewRepository.findConversationSeqById(interviewId)
+            .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
 
         // 새 대화 생성
         Conversation conversation = new Conversation();
-        conversation.setInterview(interviewOpt.get());
+        conversation.setInterview(interviewRepository.getReferenceById(interviewId));
         conversation.setContent(content);
         conversation.setIsManager(isManager != null ? isManager : false);
+        conversation.setSeq(seq);
+
+        Conversation savedConversation = conversationRepository.save(conversation);
+        eventPublisher.publishEvent(new ConversationAddedEvent(interviewId, savedConversation.getId(), savedConversation.getIsManager()));
+        return savedConversation;
+    }
+
+    // 인터뷰에 대화 추가 (write-behind: 저널과 큐에만 넣고 저널 순번 반환, DB 저장은 배치로)
+    public long enqueueConversation(Long interviewId, String content, Boolean isManager) {
+        return conversationWriteBehind.enqueue(interviewId, content, isManager != null ? isManager : false);
+    }
+
+    public boolean isConversationWriteBehindEnabled() {
+        return conversationWriteBehind.isEnabled();
+    }
 
-        return conversationRepository.save(conversation);
+    public Map<String, Object> getConversationWriteBehindStats() {
+        return conversationWriteBehind.getStats();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,210 @@
+package studyGroup.interviewAI.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import studyGroup.interviewAI.entity.Conversation;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+// llm-server의 POST /conversation 호출 클라이언트
+// java.net.http.HttpClient 하나를 공유해 keep-alive 연결을 재사용하고, sendAsync로 요청 스레드를 막지 않는다.
+// 동시에 보낼 수 있는 요청 수는 세마포어로 제한하며, 자리가 없으면 기다리지 않고 바로 실패시킨다.
+// 실패가 이어지면 서킷 브레이커가 열려 한동안 호출 없이 즉시 실패한다 (호출자는 대체 응답으로 전환).
+@Service
+public class LlmClient {
+    public static final String SPEAKER_INTERVIEWER = "interviewer";
+    public static final String SPEAKER_CANDIDATE = "candidate";
+
+    private static final TypeReference<Map<String, Object>> RESPONSE_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper;
+    private final URI conversationUri;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentRequests;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyMs = new LongAdder();
+
+    public LlmClient(ObjectMapper objectMapper,
+                     @Value("${llm.server.base-url:http://localhost:8000}") String baseUrl,
+                     @Value("${llm.server.connect-timeout-ms:2000}") long connectTimeoutMs,
+                     @Value("${llm.server.request-timeout-ms:30000}") long requestTimeoutMs,
+                     @Value("${llm.server.max-concurrent-requests:16}") int maxConcurrentRequests,
+                     @Value("${llm.circuit.window-size:20}") int circuitWindowSize,
+                     @Value("${llm.circuit.minimum-calls:10}") int circuitMinimumCalls,
+                     @Value("${llm.circuit.failure-rate-threshold:0.5}") double circuitFailureRateThreshold,
+                     @Value("${llm.circuit.open-duration-ms:30000}") long circuitOpenDurationMs,
+                     @Value("${llm.circuit.half-open-probes:1}") int circuitHalfOpenProbes) {
+        this.objectMapper = objectMapper;
+        this.conversationUri = URI.create(baseUrl.replaceAll("/+$", "") + "/conversation");
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+        this.bulkhead = new Semaphore(maxConcurrentRequests);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.circuitBreaker = new CircuitBreaker(circuitWindowSize, circuitMinimumCalls, circuitFailureRateThreshold,
+            circuitOpenDurationMs, circuitHalfOpenProbes);
+    }
+
+    // 대화 기록 → llm-server 메시지 형식 (isManager면 interviewer, 아니면 candidate)
+    public static List<Map<String, String>> toMessages(List<Conversation> conversations) {
+        List<Map<String, String>> messages = new ArrayList<>(conversations.size());
+        for (Conversation conversation : conversations) {
+            messages.add(toMessage(conversation));
+        }
+        return messages;
+    }
+
+    public static Map<String, String> toMessage(Conversation conversation) {
+        return message(Boolean.TRUE.equals(conversation.getIsManager()) ? SPEAKER_INTERVIEWER : SPEAKER_CANDIDATE,
+            conversation.getContent());
+    }
+
+    public static Map<String, String> message(String speaker, String content) {
+        Map<String, String> message = new HashMap<>();
+        message.put("speaker", speaker);
+        message.put("content", content);
+        return message;
+    }
+
+    // 질문 생성 요청
+    // 결과: {"messageCount": n, "questions": [{question, category, difficulty, reasoning}, ...], "analysis": "..."}
+    public CompletableFuture<Map<String, Object>> generateQuestions(List<Map<String, String>> messages) {
+        if (!bulkhead.tryAcquire()) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(
+                new RuntimeException("LLM 서버 동시 요청 한도(" + maxConcurrentRequests + ")를 초과했습니다."));
+        }
+        CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(new RuntimeException("LLM 서버 서킷이 열려 있어 호출하지 않았습니다."));
+        }
+
+        HttpRequest request;
+        try {
+            Map<String, Object> body = new HashMap<>();
+            body.put("messages", messages);
+            request = HttpRequest.newBuilder(conversationUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        } catch (JsonProcessingException e) {
+            bulkhead.release();
+            circuitBreaker.release(permit);
+            return CompletableFuture.failedFuture(new RuntimeException("LLM 요청 직렬화 실패: " + e.getMessage()));
+        }
+
+        long startedAt = System.currentTimeMillis();
+        CompletableFuture<HttpResponse<String>> sent;
+        try {
+            sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.release(permit);
+            failed.increment();
+            return CompletableFuture.failedFuture(new RuntimeException("LLM 서버 호출 실패: " + e.getMessage(), e));
+        }
+        CompletableFuture<Map<String, Object>> result = sent
+            .handle((response, error) -> {
+                bulkhead.release();
+                if (error != null) {
+                    if (sent.isCancelled() || error instanceof CancellationException || error.getCause() instanceof CancellationException) {
+                        circuitBreaker.release(permit);
+                        throw new CancellationException("LLM 요청이 취소되었습니다.");
+                    }
+                    failed.increment();
+                    circuitBreaker.onFailure(permit);
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    throw new RuntimeException("LLM 서버 호출 실패: " + cause.getClass().getSimpleName()
+                        + (cause.getMessage() != null ? " - " + cause.getMessage() : ""), cause);
+                }
+                try {
+                    Map<String, Object> parsed = parse(response);
+                    circuitBreaker.onSuccess(permit);
+                    succeeded.increment();
+                    latencyMs.add(System.currentTimeMillis() - startedAt);
+                    return parsed;
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    circuitBreaker.onFailure(permit);
+                    throw e;
+                }
+            });
+        // 호출자가 결과를 취소하면 HTTP 요청도 취소 (슬롯은 handle에서 반환됨)
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long success = succeeded.sum();
+        stats.put("inFlight", maxConcurrentRequests - bulkhead.availablePermits());
+        stats.put("maxConcurrentRequests", maxConcurrentRequests);
+        stats.put("succeeded", success);
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("averageLatencyMs", success > 0 ? (double) latencyMs.sum() / success : 0.0);
+        stats.put("circuit", circuitBreaker.getStats());
+        return stats;
+    }
+
+    // 서킷이 닫혀 있지 않으면 호출자는 LLM을 기다리지 말고 대체 응답을 쓰면 된다
+    public boolean isAvailable() {
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    private Map<String, Object> parse(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("LLM 서버 응답 오류: HTTP " + response.statusCode());
+        }
+        Map<String, Object> body;
+        try {
+            body = objectMapper.readValue(response.body(), RESPONSE_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("LLM 서버 응답 파싱 실패: " + e.getMessage());
+        }
+        if (!"OK".equals(body.get("status"))) {
+            throw new RuntimeException("LLM 서버 처리 실패: " + body.get("status"));
+        }
+
+        // questions 필드는 {"questions": [...], "analysis": "..."} 형태
+        Map<String, Object> generated = body.get("questions") instanceof Map
+            ? (Map<String, Object>) body.get("questions")
+            : new HashMap<>();
+        Map<String, Object> result = new HashMap<>();
+        result.put("messageCount", body.get("message_count"));
+        result.put("questions", generated.get("questions") instanceof List ? generated.get("questions") : new ArrayList<>());
+        result.put("analysis", generated.get("analysis"));
+        return result;
+    }
+}
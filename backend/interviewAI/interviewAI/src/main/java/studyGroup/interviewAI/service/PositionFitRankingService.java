@@ -0,0 +1,494 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.Experience;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
+import studyGroup.interviewAI.repository.WorkHistoryRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 포지션 적합도 랭킹 서비스
+// 지원자별 특징(기술스택, 경험 레벨, 경력 기간, 프로젝트 기술)을 원시 배열 스냅샷으로 미리 계산해두고,
+// 요청마다 전체 지원자를 한 번 순회하며 점수를 매긴 뒤 크기 K의 최소 힙으로 상위 N명만 남긴다.
+// 스냅샷이 오래되면 백그라운드 스레드에서 다시 만들고, 그동안 요청은 이전 스냅샷으로 응답한다.
+// (스냅샷이 아직 없는 첫 요청만 직접 만든다)
+@Service
+public class PositionFitRankingService {
+    private static final int MAX_LIMIT = 1000;
+    private static final double TECH_WEIGHT = 0.40;
+    private static final double PROJECT_WEIGHT = 0.15;
+    private static final double EXPERIENCE_WEIGHT = 0.15;
+    private static final double CAREER_WEIGHT = 0.20;
+    private static final double POSITION_WEIGHT = 0.10;
+    // 경력 점수 상한 (10년 = 120개월)
+    private static final double CAREER_CAP_MONTHS = 120.0;
+    private static final Pattern LEADING_NUMBER = Pattern.compile("(\\d+)");
+
+    private final ApplicantRepository applicantRepository;
+    private final ApplicantTechRepository applicantTechRepository;
+    private final WorkHistoryRepository workHistoryRepository;
+    private final ProjectTechRepository projectTechRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final long snapshotTtlMs;
+
+    private volatile FeatureSnapshot snapshot;
+    private volatile boolean dirty = true;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PositionFitRankingService(ApplicantRepository applicantRepository,
+                                     ApplicantTechRepository applicantTechRepository,
+                                     WorkHistoryRepository workHistoryRepository,
+                                     ProjectTechRepository projectTechRepository,
+                                     ReferenceCatalog referenceCatalog,
+                                     @Value("${ranking.snapshot-ttl-ms:60000}") long snapshotTtlMs) {
+        this.applicantRepository = applicantRepository;
+        this.applicantTechRepository = applicantTechRepository;
+        this.workHistoryRepository = workHistoryRepository;
+        this.projectTechRepository = projectTechRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.snapshotTtlMs = snapshotTtlMs;
+    }
+
+    // 지원자 등록/삭제 시 다음 요청에서 재구성 시작 (경력/프로젝트 변경은 TTL 만료 시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        if (event.getType() == DashboardEvent.Type.APPLICANT_REGISTERED
+            || event.getType() == DashboardEvent.Type.APPLICANT_DELETED
+            || event.getType() == DashboardEvent.Type.APPLICANTS_IMPORTED) {
+            dirty = true;
+        }
+    }
+
+    // 포지션 + 가중치 기술스택 기준 상위 N명 조회
+    @Transactional(readOnly = true)
+    public Map<String, Object> rank(Long positionId, List<Long> techStackIds, List<Double> weights, int limit) {
+        if (weights != null && !weights.isEmpty() && techStackIds != null && weights.size() != techStackIds.size()) {
+            throw new RuntimeException("기술스택 수와 가중치 수가 일치하지 않습니다.");
+        }
+        int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+        FeatureSnapshot features = currentSnapshot();
+
+        long startedAt = System.nanoTime();
+
+        // 요청 가중치를 스냅샷의 조밀한 기술스택 인덱스 기준 배열로 변환
+        double[] techWeights = new double[features.techStackIds.length];
+        double totalWeight = 0;
+        if (techStackIds != null) {
+            for (int i = 0; i < techStackIds.size(); i++) {
+                double weight = weights == null || weights.isEmpty() ? 1.0 : weights.get(i);
+                if (weight <= 0) {
+                    continue;
+                }
+                totalWeight += weight;
+                int dense = Arrays.binarySearch(features.techStackIds, techStackIds.get(i));
+                if (dense >= 0) {
+                    techWeights[dense] += weight;
+                }
+            }
+        }
+        int targetPosition = positionId != null ? Math.toIntExact(positionId) : -1;
+
+        TopK topK = new TopK(k);
+        int applicantCount = features.applicantIds.length;
+        for (int i = 0; i < applicantCount; i++) {
+            topK.offer(i, score(features, i, targetPosition, techWeights, totalWeight));
+        }
+
+        int[] indexes = topK.sortedIndexes();
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1000;
+
+        // 상위 K명만 IN 조회로 상세 정보 로드
+        List<Long> rankedIds = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            rankedIds.add(features.applicantIds[index]);
+        }
+        Map<Long, Applicant> applicants = applicantRepository.findAllById(rankedIds).stream()
+            .collect(Collectors.toMap(Applicant::getId, Function.identity()));
+
+        List<Map<String, Object>> rankedApplicants = new ArrayList<>();
+        int rank = 1;
+        for (int index : indexes) {
+            Applicant applicant = applicants.get(features.applicantIds[index]);
+            if (applicant == null) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("rank", rank++);
+            row.put("applicantId", applicant.getId());
+            row.put("name", applicant.getUsername());
+            row.put("email", applicant.getEmail());
+            row.put("status", applicant.getStatus());
+            row.put("position", applicant.getPosition() != null ? applicant.getPosition().getTitle() : null);
+            row.put("experience", applicant.getExperience() != null ? applicant.getExperience().getTitle() : null);
+            row.put("score", round(100 * score(features, index, targetPosition, techWeights, totalWeight)));
+            row.put("breakdown", breakdown(features, index, targetPosition, techWeights, totalWeight));
+            rankedApplicants.add(row);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("positionId", positionId);
+        result.put("candidateCount", applicantCount);
+        result.put("rankedApplicants", rankedApplicants);
+        result.put("elapsedMicros", elapsedMicros);
+        result.put("snapshotBuiltAt", features.builtAtMs);
+        result.put("snapshotRefreshing", rebuilding.get());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 0~1 사이 종합 점수
+    private double score(FeatureSnapshot f, int i, int targetPosition, double[] techWeights, double totalWeight) {
+        return TECH_WEIGHT * techOverlap(f.techOffsets, f.techIndexes, i, techWeights, totalWeight)
+            + PROJECT_WEIGHT * techOverlap(f.projectOffsets, f.projectTechIndexes, i, techWeights, totalWeight)
+            + EXPERIENCE_WEIGHT * f.experienceLevels[i]
+            + CAREER_WEIGHT * careerScore(f, i, targetPosition)
+            + POSITION_WEIGHT * (f.positionIds[i] == targetPosition ? 1.0 : 0.0);
+    }
+
+    private Map<String, Object> breakdown(FeatureSnapshot f, int i, int targetPosition, double[] techWeights, double totalWeight) {
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        breakdown.put("techOverlap", round(techOverlap(f.techOffsets, f.techIndexes, i, techWeights, totalWeight)));
+        breakdown.put("projectTechOverlap", round(techOverlap(f.projectOffsets, f.projectTechIndexes, i, techWeights, totalWeight)));
+        breakdown.put("experienceLevel", round(f.experienceLevels[i]));
+        breakdown.put("career", round(careerScore(f, i, targetPosition)));
+        breakdown.put("positionMatch", f.positionIds[i] == targetPosition);
+        return breakdown;
+    }
+
+    // 보유 기술 가중치 합 / 요청 가중치 합
+    private double techOverlap(int[] offsets, int[] techIndexes, int i, double[] techWeights, double totalWeight) {
+        if (totalWeight <= 0) {
+            return 0;
+        }
+        double matched = 0;
+        for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+            matched += techWeights[techIndexes[j]];
+        }
+        return Math.min(1.0, matched / totalWeight);
+    }
+
+    // 같은 포지션 경력은 전부, 다른 포지션 경력은 절반만 인정
+    private double careerScore(FeatureSnapshot f, int i, int targetPosition) {
+        double months = 0;
+        for (int j = f.workOffsets[i]; j < f.workOffsets[i + 1]; j++) {
+            months += f.workPositionIds[j] == targetPosition ? f.workMonths[j] : f.workMonths[j] * 0.5;
+        }
+        return Math.min(1.0, months / CAREER_CAP_MONTHS);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    // 변경됐거나 TTL이 지났으면 백그라운드 재구성을 걸고 지금 스냅샷 반환 (없을 때만 직접 구성)
+    private FeatureSnapshot currentSnapshot() {
+        FeatureSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    dirty = false;
+                    current = buildSnapshot();
+                    snapshot = current;
+                }
+                return current;
+            }
+        }
+        if (dirty || System.currentTimeMillis() - current.builtAtMs >= snapshotTtlMs) {
+            scheduleRebuild();
+        }
+        return current;
+    }
+
+    // 재구성은 한 번에 하나만 (진행 중에 들어온 변경은 dirty로 남아 다음 요청에서 다시 재구성)
+    private void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    dirty = false;
+                    snapshot = buildSnapshot();
+                } catch (RuntimeException e) {
+                    dirty = true;
+                    System.err.println("랭킹 스냅샷 재구성 실패 (이전 스냅샷 유지): " + e.getMessage());
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+        }
+    }
+
+    // 프로젝션 쿼리 4~5회로 전체 특징 배열 구성
+    private FeatureSnapshot buildSnapshot() {
+        List<Object[]> applicantRows = applicantRepository.findAllIdWithPositionIdAndExperienceId();
+        int n = applicantRows.size();
+        long[] applicantIds = new long[n];
+        int[] positionIds = new int[n];
+        long[] experienceIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            Object[] row = applicantRows.get(i);
+            applicantIds[i] = (Long) row[0];
+            positionIds[i] = row[1] != null ? Math.toIntExact((Long) row[1]) : -1;
+            experienceIds[i] = row[2] != null ? (Long) row[2] : -1;
+        }
+
+        // 경험 레벨: 제목의 첫 숫자("1~2년", "7년 이상") 순서로 0~1 정규화
+        Map<Long, Double> levelByExperience = experienceLevels(referenceCatalog.getExperiences());
+        double[] experienceLevels = new double[n];
+        for (int i = 0; i < n; i++) {
+            experienceLevels[i] = levelByExperience.getOrDefault(experienceIds[i], 0.0);
+        }
+
+        List<Object[]> techRows = applicantTechRepository.findAllApplicantIdAndTechStackId();
+        List<Object[]> projectRows = projectTechRepository.findAllApplicantIdAndTechStackId();
+        long[] techStackIds = distinctSorted(techRows, projectRows);
+
+        CsrBuilder techs = new CsrBuilder(applicantIds);
+        for (Object[] row : techRows) {
+            techs.add((Long) row[0], Arrays.binarySearch(techStackIds, (Long) row[1]), 0);
+        }
+        CsrBuilder projects = new CsrBuilder(applicantIds);
+        for (Object[] row : projectRows) {
+            projects.add((Long) row[0], Arrays.binarySearch(techStackIds, (Long) row[1]), 0);
+        }
+        LocalDate today = LocalDate.now();
+        CsrBuilder works = new CsrBuilder(applicantIds);
+        for (Object[] row : workHistoryRepository.findAllApplicantIdWithPositionIdAndPeriod()) {
+            LocalDate start = (LocalDate) row[2];
+            LocalDate end = row[3] != null ? (LocalDate) row[3] : today;
+            int months = start != null && !end.isBefore(start) ? (int) ChronoUnit.MONTHS.between(start, end) : 0;
+            works.add((Long) row[0], Math.toIntExact((Long) row[1]), months);
+        }
+
+        CsrBuilder.Flattened techArrays = techs.build();
+        CsrBuilder.Flattened projectArrays = projects.build();
+        CsrBuilder.Flattened workArrays = works.build();
+
+        return new FeatureSnapshot(applicantIds, positionIds, experienceLevels, techStackIds,
+            techArrays.offsets, techArrays.values,
+            projectArrays.offsets, projectArrays.values,
+            workArrays.offsets, workArrays.values, workArrays.extras,
+            System.currentTimeMillis());
+    }
+
+    private Map<Long, Double> experienceLevels(List<Experience> experiences) {
+        List<Experience> ordered = new ArrayList<>(experiences);
+        ordered.sort(Comparator.comparingInt((Experience e) -> leadingNumber(e.getTitle()))
+            .thenComparing(Experience::getId));
+        Map<Long, Double> levels = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            levels.put(ordered.get(i).getId(), ordered.size() > 1 ? (double) i / (ordered.size() - 1) : 1.0);
+        }
+        return levels;
+    }
+
+    private int leadingNumber(String title) {
+        Matcher matcher = LEADING_NUMBER.matcher(title != null ? title : "");
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : Integer.MAX_VALUE;
+    }
+
+    private long[] distinctSorted(List<Object[]> first, List<Object[]> second) {
+        return Stream.concat(first.stream(), second.stream())
+            .filter(row -> row[1] != null)
+            .mapToLong(row -> (Long) row[1])
+            .distinct()
+            .sorted()
+            .toArray();
+    }
+
+    // 지원자별 가변 길이 특징을 offsets/values 배열(CSR)로 평탄화
+    private static class CsrBuilder {
+        private final long[] applicantIds;
+        private final List<int[]> entries = new ArrayList<>();
+
+        CsrBuilder(long[] applicantIds) {
+            this.applicantIds = applicantIds;
+        }
+
+        void add(Long applicantId, int value, int extra) {
+            if (applicantId == null || value < 0) {
+                return;
+            }
+            int index = Arrays.binarySearch(applicantIds, applicantId);
+            if (index >= 0) {
+                entries.add(new int[]{index, value, extra});
+            }
+        }
+
+        Flattened build() {
+            int[] offsets = new int[applicantIds.length + 1];
+            for (int[] entry : entries) {
+                offsets[entry[0] + 1]++;
+            }
+            for (int i = 0; i < applicantIds.length; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] cursor = Arrays.copyOf(offsets, applicantIds.length);
+            int[] values = new int[entries.size()];
+            int[] extras = new int[entries.size()];
+            for (int[] entry : entries) {
+                int position = cursor[entry[0]]++;
+                values[position] = entry[1];
+                extras[position] = entry[2];
+            }
+            return new Flattened(offsets, values, extras);
+        }
+
+        record Flattened(int[] offsets, int[] values, int[] extras) {
+        }
+    }
+
+    // 점수 기준 최소 힙 (병렬 배열, 동점이면 먼저 등록된 지원자 우선)
+    private static class TopK {
+        private final int[] indexes;
+        private final double[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.indexes = new int[capacity];
+            this.scores = new double[capacity];
+        }
+
+        void offer(int index, double score) {
+            if (size < indexes.length) {
+                indexes[size] = index;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                indexes[0] = index;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int[] sortedIndexes() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> less(b, a) ? -1 : less(a, b) ? 1 : 0);
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = indexes[order[i]];
+            }
+            return result;
+        }
+
+        // 힙에서 a가 b보다 낮은 순위인지
+        private boolean less(int a, int b) {
+            return scores[a] < scores[b] || (scores[a] == scores[b] && indexes[a] > indexes[b]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!less(i, parent)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int smallest = i;
+                if (left < size && less(left, smallest)) {
+                    smallest = left;
+                }
+                if (right < size && less(right, smallest)) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int index = indexes[a];
+            indexes[a] = indexes[b];
+            indexes[b] = index;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    // 지원자 ID 오름차순으로 정렬된 불변 특징 배열
+    private static class FeatureSnapshot {
+        final long[] applicantIds;
+        final int[] positionIds;
+        final double[] experienceLevels;
+        final long[] techStackIds;
+        final int[] techOffsets;
+        final int[] techIndexes;
+        final int[] projectOffsets;
+        final int[] projectTechIndexes;
+        final int[] workOffsets;
+        final int[] workPositionIds;
+        final int[] workMonths;
+        final long builtAtMs;
+
+        FeatureSnapshot(long[] applicantIds, int[] positionIds, double[] experienceLevels, long[] techStackIds,
+                        int[] techOffsets, int[] techIndexes,
+                        int[] projectOffsets, int[] projectTechIndexes,
+                        int[] workOffsets, int[] workPositionIds, int[] workMonths,
+                        long builtAtMs) {
+            this.applicantIds = applicantIds;
+            this.positionIds = positionIds;
+            this.experienceLevels = experienceLevels;
+            this.techStackIds = techStackIds;
+            this.techOffsets = techOffsets;
+            this.techIndexes = techIndexes;
+            this.projectOffsets = projectOffsets;
+            this.projectTechIndexes = projectTechIndexes;
+            this.workOffsets = workOffsets;
+            this.workPositionIds = workPositionIds;
+            this.workMonths = workMonths;
+            this.builtAtMs = builtAtMs;
+        }
+    }
+}
@@ -10,24 +10,31 @@ import java.util.Optional;
 @Service
 public class PositionService {
     private final PositionRepository positionRepository;
+    private final ReferenceCatalog referenceCatalog;
 
-    public PositionService(PositionRepository positionRepository) {
+    public PositionService(PositionRepository positionRepository, ReferenceCatalog referenceCatalog) {
         this.positionRepository = positionRepository;
+        this.referenceCatalog = referenceCatalog;
     }
 
+    // 조회는 참조 데이터 카탈로그에서
     public List<Position> findAll() {
-        return positionRepository.findAll();
+        return referenceCatalog.getPositions();
     }
 
     public Optional<Position> findById(Long id) {
-        return positionRepository.findById(id);
+        return referenceCatalog.findPosition(id);
     }
 
+    // 쓰기 후 카탈로그 갱신
     public Position save(Position position) {
-        return positionRepository.save(position);
+        Position savedPosition = positionRepository.save(position);
+        referenceCatalog.refreshPositions();
+        return savedPosition;
     }
 
     public void deleteById(Long id) {
         positionRepository.deleteById(id);
+        referenceCatalog.refreshPositions();
     }
 } 
\ No newline at end of file
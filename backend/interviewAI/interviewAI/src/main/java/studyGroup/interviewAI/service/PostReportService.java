@@ -1,7 +1,10 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import studyGroup.interviewAI.entity.PostReport;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.InterviewRepository;
 import studyGroup.interviewAI.repository.PostReportRepository;
 
 import java.util.List;
@@ -10,9 +13,18 @@ import java.util.Optional;
 @Service
 public class PostReportService {
     private final PostReportRepository postReportRepository;
+    private final InterviewRepository interviewRepository;
+    private final DashboardStatistics dashboardStatistics;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PostReportService(PostReportRepository postReportRepository) {
+    public PostReportService(PostReportRepository postReportRepository,
+                           InterviewRepository interviewRepository,
+                           DashboardStatistics dashboardStatistics,
+                           ApplicationEventPublisher eventPublisher) {
         this.postReportRepository = postReportRepository;
+        this.interviewRepository = interviewRepository;
+        this.dashboardStatistics = dashboardStatistics;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<PostReport> findAll() {
@@ -24,11 +36,34 @@ public class PostReportService {
     }
 
     public PostReport save(PostReport postReport) {
-        return postReportRepository.save(postReport);
+        // 수정인 경우 통계 반영을 위해 이전 점수 확인
+        Integer previousScore = postReport.getId() != null
+            ? postReportRepository.findScoreById(postReport.getId()).orElse(null)
+            : null;
+        PostReport savedPostReport = postReportRepository.save(postReport);
+        dashboardStatistics.scoreChanged(previousScore, savedPostReport.getScore());
+        publishScoreRecorded(savedPostReport.getInterview() != null ? savedPostReport.getInterview().getId() : null,
+            previousScore, savedPostReport.getScore());
+        return savedPostReport;
     }
 
     public void deleteById(Long id) {
+        Optional<Integer> previousScore = postReportRepository.findScoreById(id);
+        Optional<Long> interviewId = postReportRepository.findInterviewIdById(id);
         postReportRepository.deleteById(id);
+        previousScore.ifPresent(score -> dashboardStatistics.scoreChanged(score, null));
+        if (previousScore.isPresent()) {
+            publishScoreRecorded(interviewId.orElse(null), previousScore.get(), null);
+        }
+    }
+
+    // 평가 점수 변경 이벤트 발행 (요청 본문의 면접에는 ID만 있으므로 지원자 ID는 별도 조회)
+    private void publishScoreRecorded(Long interviewId, Integer previousScore, Integer score) {
+        if (interviewId == null || (previousScore == null && score == null)) {
+            return;
+        }
+        Long applicantId = interviewRepository.findApplicantIdById(interviewId).orElse(null);
+        eventPublisher.publishEvent(DashboardEvent.scoreRecorded(applicantId, interviewId, previousScore, score));
     }
 
     // 특정 면접의 평가 조회
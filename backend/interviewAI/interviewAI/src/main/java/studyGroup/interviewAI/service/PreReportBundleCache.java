@@ -0,0 +1,260 @@
+package studyGroup.interviewAI.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.event.ApplicantProfileChangedEvent;
+import studyGroup.interviewAI.event.DashboardEvent;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 지원자별 사전 리포트 번들 (직렬화된 JSON + ETag)
+// 경력/프로젝트/사전 리포트, 그리고 번들에 포함된 지원자 정보(상태, 이름, 이메일, 포지션)가 바뀌면
+// 지원자 버전을 올리고 백그라운드에서 다시 만든다.
+// 버전은 전역 순번에서 받으므로 항목을 지웠다 다시 만들어도 예전 번들의 버전과 겹치지 않는다.
+// 조회는 최신 버전 번들이 있으면 맵 조회 한 번으로 끝나고, 재생성 중이면 그 결과를 기다린다.
+@Service
+public class PreReportBundleCache {
+    private final PreReportService preReportService;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Long, Bundle> bundles = new ConcurrentHashMap<>();
+    // 캐시되었거나 재생성 중인 지원자만 버전 항목을 가짐 (번들과 함께 제거)
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, CompletableFuture<Bundle>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    private final ExecutorService rebuildExecutor;
+
+    public PreReportBundleCache(PreReportService preReportService,
+                                ObjectMapper objectMapper,
+                                @Value("${pre-report.bundle.max-entries:10000}") int maxEntries,
+                                @Value("${pre-report.bundle.rebuild-threads:2}") int rebuildThreads) {
+        this.preReportService = preReportService;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.rebuildExecutor = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread thread = new Thread(runnable, "pre-report-bundle-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 현재 버전의 번들 조회 (없거나 오래됐으면 재생성 결과를 기다림)
+    public Bundle get(Long applicantId) {
+        while (true) {
+            long currentVersion = version(applicantId);
+            Bundle bundle = bundles.get(applicantId);
+            if (bundle != null && bundle.version == currentVersion) {
+                hits.increment();
+                return bundle;
+            }
+            misses.increment();
+            Bundle rebuilt = await(rebuild(applicantId));
+            if (rebuilt.version == version(applicantId)) {
+                return rebuilt;
+            }
+            // 기다리는 사이 다시 변경됨 → 새 버전으로 재시도
+        }
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    // 커밋 후 해당 지원자 번들 재생성 예약
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ApplicantProfileChangedEvent event) {
+        if (event.getApplicantId() == null) {
+            return;
+        }
+        // 캐시된 적 없는 지원자는 다음 조회 때 커밋된 내용으로 만들어지므로 버전 항목을 만들지 않음
+        if (bump(event.getApplicantId())) {
+            rebuild(event.getApplicantId());
+        }
+    }
+
+    // 지원자 상태가 바뀌면 번들 재생성, 삭제되면 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        Long applicantId = event.getApplicantId();
+        if (applicantId == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case STATUS_CHANGED, INTERVIEW_STARTED, INTERVIEW_COMPLETED -> {
+                if (bump(applicantId)) {
+                    rebuild(applicantId);
+                }
+            }
+            case APPLICANT_DELETED -> {
+                bump(applicantId);
+                bundles.remove(applicantId);
+                forgetVersion(applicantId);
+            }
+            default -> {
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", bundles.size());
+        stats.put("versions", versions.size());
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("rebuilds", rebuilds.sum());
+        stats.put("notModified", notModified.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 지원자당 동시에 하나의 재생성만 실행하고, 끝났을 때 버전이 또 올라가 있으면 한 번 더 실행
+    private CompletableFuture<Bundle> rebuild(Long applicantId) {
+        CompletableFuture<Bundle> future = inFlight.computeIfAbsent(applicantId,
+            id -> CompletableFuture.supplyAsync(() -> build(id), rebuildExecutor));
+        future.whenComplete((bundle, error) -> {
+            inFlight.remove(applicantId, future);
+            if (bundle == null) {
+                // 실패한 지원자(존재하지 않는 ID 등)의 버전 항목은 남기지 않음
+                if (!bundles.containsKey(applicantId)) {
+                    forgetVersion(applicantId);
+                }
+                return;
+            }
+            Long current = versions.get(applicantId);
+            if (current != null && bundle.version < current) {
+                rebuild(applicantId);
+            }
+        });
+        return future;
+    }
+
+    private Bundle build(Long applicantId) {
+        long buildVersion = version(applicantId);
+        if (!preReportService.existsApplicant(applicantId)) {
+            throw new RuntimeException("Applicant not found with id: " + applicantId);
+        }
+        Map<String, Object> data = preReportService.getApplicantPreReportData(applicantId);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("사전 리포트 번들 직렬화 실패: " + e.getMessage());
+        }
+        Bundle bundle = new Bundle(buildVersion, body, etag(body), System.currentTimeMillis());
+        rebuilds.increment();
+
+        // 더 새로운 번들을 덮어쓰지 않음
+        bundles.merge(applicantId, bundle, (existing, candidate) -> candidate.version >= existing.version ? candidate : existing);
+        evictIfNeeded();
+        return bundle;
+    }
+
+    // 상한을 넘으면 현재 조회 대상이 아닌 항목부터 임의로 제거 (다음 조회 때 다시 생성)
+    private void evictIfNeeded() {
+        Iterator<Long> iterator = bundles.keySet().iterator();
+        while (bundles.size() > maxEntries && iterator.hasNext()) {
+            Long applicantId = iterator.next();
+            if (!inFlight.containsKey(applicantId)) {
+                iterator.remove();
+                forgetVersion(applicantId);
+            }
+        }
+    }
+
+    private long version(Long applicantId) {
+        return versions.computeIfAbsent(applicantId, id -> versionSequence.incrementAndGet());
+    }
+
+    // 버전 항목이 있을 때만 새 버전으로 올림 (올렸으면 true)
+    private boolean bump(Long applicantId) {
+        return versions.computeIfPresent(applicantId, (id, current) -> versionSequence.incrementAndGet()) != null;
+    }
+
+    // 재생성 중이 아니면 버전 항목 제거 (다시 만들면 새 순번을 받으므로 남은 번들과 버전이 겹치지 않음)
+    private void forgetVersion(Long applicantId) {
+        if (!inFlight.containsKey(applicantId)) {
+            versions.remove(applicantId);
+        }
+    }
+
+    private String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Bundle await(CompletableFuture<Bundle> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 직렬화까지 끝난 불변 번들
+    public static class Bundle {
+        private final long version;
+        private final byte[] body;
+        private final String etag;
+        private final long builtAtMs;
+
+        Bundle(long version, byte[] body, String etag, long builtAtMs) {
+            this.version = version;
+            this.body = body;
+            this.etag = etag;
+            this.builtAtMs = builtAtMs;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getBuiltAtMs() {
+            return builtAtMs;
+        }
+    }
+}
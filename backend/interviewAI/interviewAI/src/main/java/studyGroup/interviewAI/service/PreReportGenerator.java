@@ -0,0 +1,12 @@
+package studyGroup.interviewAI.service;
+
+import java.util.Map;
+
+// 사전 리포트 설명 생성기
+// 기본 구현은 규칙 기반(TemplatePreReportGenerator)이고, LLM 연동 구현으로 교체할 수 있다.
+// 예외를 던지면 작업은 재시도 대상이 되고, 인터럽트되면 취소로 처리된다.
+public interface PreReportGenerator {
+
+    // preReportData는 PreReportService.getApplicantPreReportData의 결과
+    String generate(Long applicantId, Map<String, Object> preReportData);
+}
@@ -0,0 +1,179 @@
+package studyGroup.interviewAI.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+// 지원자 한 명의 사전 리포트 생성 작업 (메모리에만 보관)
+// 상태 전이는 이 객체의 락 안에서만 일어나므로 워커/재시도/취소가 동시에 와도 한 번만 끝난다.
+public class PreReportJob {
+    public enum Status {
+        QUEUED,      // 워커 대기
+        RUNNING,     // 생성 중
+        RETRY_WAIT,  // 실패 후 재시도 대기
+        COMPLETED,
+        FAILED,
+        CANCELLED,
+        REJECTED     // 작업 큐가 가득 차 접수되지 않음
+    }
+
+    private final String id;
+    private final String batchId;
+    private final Long applicantId;
+    private final long submittedAtMs;
+
+    private Status status = Status.QUEUED;
+    private int attempts;
+    private boolean cancelRequested;
+    private String lastError;
+    private Long preReportId;
+    private Long startedAtMs;
+    private Long finishedAtMs;
+    private Future<?> future;
+
+    public PreReportJob(String id, String batchId, Long applicantId) {
+        this.id = id;
+        this.batchId = batchId;
+        this.applicantId = applicantId;
+        this.submittedAtMs = System.currentTimeMillis();
+    }
+
+    // 워커가 꺼냈을 때 호출 (대기 중 취소됐으면 false)
+    synchronized boolean start() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status = Status.RUNNING;
+        attempts++;
+        if (startedAtMs == null) {
+            startedAtMs = System.currentTimeMillis();
+        }
+        return true;
+    }
+
+    synchronized boolean complete(Long preReportId) {
+        if (status != Status.RUNNING) {
+            return false;
+        }
+        this.preReportId = preReportId;
+        return finish(Status.COMPLETED);
+    }
+
+    synchronized boolean fail(String error) {
+        if (isFinished()) {
+            return false;
+        }
+        lastError = error;
+        return finish(Status.FAILED);
+    }
+
+    synchronized boolean reject(String error) {
+        if (isFinished()) {
+            return false;
+        }
+        lastError = error;
+        return finish(Status.REJECTED);
+    }
+
+    // 실행 중 취소 요청이 들어왔으면 실행이 끝난 시점에 취소로 마감
+    synchronized boolean cancelIfRequested() {
+        return cancelRequested && !isFinished() && finish(Status.CANCELLED);
+    }
+
+    synchronized boolean waitForRetry(String error) {
+        if (status != Status.RUNNING || cancelRequested) {
+            return false;
+        }
+        lastError = error;
+        status = Status.RETRY_WAIT;
+        return true;
+    }
+
+    synchronized boolean requeue() {
+        if (status != Status.RETRY_WAIT) {
+            return false;
+        }
+        status = Status.QUEUED;
+        return true;
+    }
+
+    // 대기 중이면 바로 취소하고 true, 실행 중이면 취소 요청만 남기고 false
+    // 이미 끝난 작업이면 아무것도 하지 않는다.
+    synchronized boolean requestCancel() {
+        if (isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        if (status == Status.RUNNING) {
+            return false;
+        }
+        return finish(Status.CANCELLED);
+    }
+
+    private boolean finish(Status finalStatus) {
+        status = finalStatus;
+        finishedAtMs = System.currentTimeMillis();
+        return true;
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED
+            || status == Status.CANCELLED || status == Status.REJECTED;
+    }
+
+    public synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    synchronized Future<?> getFuture() {
+        return future;
+    }
+
+    synchronized void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    public synchronized Long getStartedAtMs() {
+        return startedAtMs;
+    }
+
+    public synchronized Long getFinishedAtMs() {
+        return finishedAtMs;
+    }
+
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", id);
+        map.put("batchId", batchId);
+        map.put("applicantId", applicantId);
+        map.put("status", status);
+        map.put("attempts", attempts);
+        map.put("cancelRequested", cancelRequested);
+        map.put("lastError", lastError);
+        map.put("preReportId", preReportId);
+        map.put("submittedAtMs", submittedAtMs);
+        map.put("startedAtMs", startedAtMs);
+        map.put("finishedAtMs", finishedAtMs);
+        return map;
+    }
+}
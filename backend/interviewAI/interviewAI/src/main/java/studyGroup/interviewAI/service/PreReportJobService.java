@@ -0,0 +1,354 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.PreReport;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// 사전 리포트 생성 작업 파이프라인
+// 지원자당 작업 하나를 고정 크기 워커 풀 + 크기 제한 큐에서 실행하고, 실패하면 지수 백오프로 재시도한다.
+// 접수한 작업은 대기 목록에 쌓아 두고 워커 큐에 자리가 날 때마다 옮기므로 "WAITING 전체" 같은 큰 배치도
+// 워커 큐 크기와 관계없이 받으며, 대기 목록마저 가득 찼을 때만 접수 거절(REJECTED)로 돌려준다.
+// 생성 결과는 지원자의 PreReport에 덮어쓴다 (저장 시 사전 리포트 번들도 갱신됨).
+@Service
+public class PreReportJobService {
+    private final PreReportService preReportService;
+    private final ApplicantRepository applicantRepository;
+    private final PreReportGenerator preReportGenerator;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final int maxRetained;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+    // 워커 큐에 아직 넣지 않은 작업 (dispatch가 워커 큐 빈자리만큼 옮김)
+    private final LinkedBlockingQueue<PreReportJob> pending;
+    private final Object dispatchLock = new Object();
+
+    private final ConcurrentHashMap<String, PreReportJob> jobs = new ConcurrentHashMap<>();
+    // 같은 지원자에 대해 동시에 하나의 작업만 유지
+    private final ConcurrentHashMap<Long, PreReportJob> activeByApplicant = new ConcurrentHashMap<>();
+    // 끝난 작업은 오래된 것부터 maxRetained개만 보관
+    private final ConcurrentLinkedQueue<String> finishedOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final AtomicLong batchSequence = new AtomicLong();
+
+    private final EnumMap<PreReportJob.Status, LongAdder> finishedByStatus = new EnumMap<>(PreReportJob.Status.class);
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder processingMs = new LongAdder();
+
+    public PreReportJobService(PreReportService preReportService,
+                               ApplicantRepository applicantRepository,
+                               PreReportGenerator preReportGenerator,
+                               @Value("${pre-report.jobs.workers:4}") int workerCount,
+                               @Value("${pre-report.jobs.queue-capacity:1000}") int queueCapacity,
+                               @Value("${pre-report.jobs.max-pending:100000}") int maxPending,
+                               @Value("${pre-report.jobs.max-attempts:3}") int maxAttempts,
+                               @Value("${pre-report.jobs.retry-backoff-ms:1000}") long retryBackoffMs,
+                               @Value("${pre-report.jobs.max-retained:10000}") int maxRetained) {
+        this.preReportService = preReportService;
+        this.applicantRepository = applicantRepository;
+        this.preReportGenerator = preReportGenerator;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetained = maxRetained;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory("pre-report-job-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("pre-report-job-retry-"));
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+        for (PreReportJob.Status status : PreReportJob.Status.values()) {
+            finishedByStatus.put(status, new LongAdder());
+        }
+    }
+
+    // 작업 접수 (applicantIds가 비어 있으면 WAITING 상태 지원자 전체)
+    public Map<String, Object> submit(List<Long> applicantIds) {
+        List<Long> targets = (applicantIds == null || applicantIds.isEmpty())
+            ? applicantRepository.findIdsByStatus(ApplicationStatus.WAITING)
+            : new ArrayList<>(new LinkedHashSet<>(applicantIds));
+
+        String batchId = "batch-" + batchSequence.incrementAndGet();
+        List<String> jobIds = new ArrayList<>();
+        List<String> alreadyActive = new ArrayList<>();
+        int rejected = 0;
+        for (Long applicantId : targets) {
+            PreReportJob job = new PreReportJob("job-" + jobSequence.incrementAndGet(), batchId, applicantId);
+            PreReportJob existing = activeByApplicant.putIfAbsent(applicantId, job);
+            if (existing != null) {
+                alreadyActive.add(existing.getId());
+                continue;
+            }
+            jobs.put(job.getId(), job);
+            jobIds.add(job.getId());
+            if (!enqueue(job)) {
+                rejected++;
+            }
+        }
+        dispatch();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("batchId", batchId);
+        result.put("submitted", jobIds.size() - rejected);
+        result.put("rejected", rejected);
+        result.put("jobIds", jobIds);
+        result.put("alreadyActiveJobIds", alreadyActive);
+        return result;
+    }
+
+    public Optional<PreReportJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    // 배치 진행 현황 (상태별 개수 + 작업 목록)
+    public Map<String, Object> getBatch(String batchId) {
+        List<PreReportJob> batchJobs = jobs.values().stream()
+            .filter(job -> job.getBatchId().equals(batchId))
+            .sorted(Comparator.comparing(PreReportJob::getApplicantId))
+            .collect(Collectors.toList());
+        if (batchJobs.isEmpty()) {
+            throw new RuntimeException("PreReport job batch not found: " + batchId);
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        for (PreReportJob job : batchJobs) {
+            counts.merge(job.getStatus().name(), 1L, Long::sum);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("batchId", batchId);
+        result.put("total", batchJobs.size());
+        result.put("finished", batchJobs.stream().filter(PreReportJob::isFinished).count());
+        result.put("statusCounts", counts);
+        result.put("jobs", batchJobs.stream().map(PreReportJob::toMap).collect(Collectors.toList()));
+        return result;
+    }
+
+    // 작업 취소 (대기 중이면 큐에서 빼고, 실행 중이면 인터럽트)
+    public PreReportJob cancel(String jobId) {
+        PreReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("PreReport job not found: " + jobId);
+        }
+        cancel(job);
+        pending.remove(job);
+        dispatch();
+        return job;
+    }
+
+    public int cancelBatch(String batchId) {
+        int cancelled = 0;
+        for (PreReportJob job : jobs.values()) {
+            if (job.getBatchId().equals(batchId) && !job.isFinished()) {
+                cancel(job);
+                cancelled++;
+            }
+        }
+        pending.removeIf(job -> job.getBatchId().equals(batchId));
+        dispatch();
+        return cancelled;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long completed = finishedByStatus.get(PreReportJob.Status.COMPLETED).sum();
+        stats.put("queued", workers.getQueue().size() + pending.size());
+        stats.put("pending", pending.size());
+        stats.put("running", workers.getActiveCount());
+        stats.put("waitingRetry", jobs.values().stream().filter(job -> job.getStatus() == PreReportJob.Status.RETRY_WAIT).count());
+        stats.put("completed", completed);
+        stats.put("failed", finishedByStatus.get(PreReportJob.Status.FAILED).sum());
+        stats.put("cancelled", finishedByStatus.get(PreReportJob.Status.CANCELLED).sum());
+        stats.put("rejected", finishedByStatus.get(PreReportJob.Status.REJECTED).sum());
+        stats.put("retries", retries.sum());
+        stats.put("averageProcessingMs", completed > 0 ? (double) processingMs.sum() / completed : 0.0);
+        stats.put("workers", workers.getMaximumPoolSize());
+        stats.put("queueCapacity", workers.getQueue().size() + workers.getQueue().remainingCapacity());
+        stats.put("pendingCapacity", pending.size() + pending.remainingCapacity());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // 대기 목록에 추가 (가득 찼으면 거절)
+    private boolean enqueue(PreReportJob job) {
+        if (pending.offer(job)) {
+            return true;
+        }
+        if (job.reject("작업 대기 목록이 가득 찼습니다.")) {
+            onFinished(job);
+        }
+        return false;
+    }
+
+    // 워커 큐 빈자리만큼 대기 목록에서 옮김 (대기 중 취소된 작업은 건너뜀)
+    private void dispatch() {
+        synchronized (dispatchLock) {
+            while (workers.getQueue().remainingCapacity() > 0) {
+                PreReportJob job = pending.poll();
+                if (job == null) {
+                    return;
+                }
+                if (job.getStatus() != PreReportJob.Status.QUEUED) {
+                    continue;
+                }
+                try {
+                    job.setFuture(workers.submit(() -> run(job)));
+                } catch (RejectedExecutionException e) {
+                    // 종료 중
+                    if (job.reject("작업 큐가 종료되었습니다.")) {
+                        onFinished(job);
+                    }
+                }
+            }
+        }
+    }
+
+    private void run(PreReportJob job) {
+        try {
+            execute(job);
+        } finally {
+            // 워커 하나가 비었으므로 대기 작업을 이어서 넣음
+            dispatch();
+        }
+    }
+
+    private void execute(PreReportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Long applicantId = job.getApplicantId();
+        try {
+            if (!applicantRepository.existsById(applicantId)) {
+                // 재시도해도 결과가 같으므로 바로 실패
+                if (job.fail("Applicant not found: " + applicantId)) {
+                    onFinished(job);
+                }
+                return;
+            }
+
+            Map<String, Object> data = preReportService.getApplicantPreReportData(applicantId);
+            String description = preReportGenerator.generate(applicantId, data);
+            if (Thread.currentThread().isInterrupted() || job.isCancelRequested()) {
+                if (job.cancelIfRequested()) {
+                    onFinished(job);
+                }
+                return;
+            }
+
+            PreReport saved = preReportService.saveForApplicant(applicantId, description);
+
+            if (job.complete(saved.getId())) {
+                processingMs.add(System.currentTimeMillis() - startedAt);
+                onFinished(job);
+            }
+        } catch (RuntimeException e) {
+            handleFailure(job, e);
+        }
+    }
+
+    private void handleFailure(PreReportJob job, RuntimeException e) {
+        if (job.cancelIfRequested()) {
+            onFinished(job);
+            return;
+        }
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        if (job.getAttempts() >= maxAttempts) {
+            System.err.println("사전 리포트 생성 실패 (applicantId=" + job.getApplicantId() + "): " + message);
+            if (job.fail(message)) {
+                onFinished(job);
+            }
+            return;
+        }
+        if (!job.waitForRetry(message)) {
+            // 실패 직후 취소 요청이 들어온 경우
+            if (job.cancelIfRequested()) {
+                onFinished(job);
+            }
+            return;
+        }
+        retries.increment();
+        long delay = retryBackoffMs << Math.min(job.getAttempts() - 1, 10);
+        try {
+            job.setFuture(retryScheduler.schedule(() -> {
+                if (job.requeue() && enqueue(job)) {
+                    dispatch();
+                }
+            }, delay, TimeUnit.MILLISECONDS));
+        } catch (RejectedExecutionException rejected) {
+            if (job.fail(message)) {
+                onFinished(job);
+            }
+        }
+    }
+
+    private void cancel(PreReportJob job) {
+        boolean cancelledNow = job.requestCancel();
+        Future<?> future = job.getFuture();
+        if (cancelledNow) {
+            // 큐/재시도 대기 중이던 작업은 자리를 바로 비움
+            if (future != null) {
+                future.cancel(false);
+                if (future instanceof Runnable) {
+                    workers.remove((Runnable) future);
+                }
+            }
+            onFinished(job);
+        } else if (job.isCancelRequested() && future != null) {
+            // 실행 중이면 생성기 호출을 인터럽트하고, 워커가 빠져나오면서 CANCELLED로 마감
+            future.cancel(true);
+        }
+    }
+
+    private void onFinished(PreReportJob job) {
+        activeByApplicant.remove(job.getApplicantId(), job);
+        finishedByStatus.get(job.getStatus()).increment();
+        finishedOrder.add(job.getId());
+        if (finishedCount.incrementAndGet() > maxRetained) {
+            String oldest = finishedOrder.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+                finishedCount.decrementAndGet();
+            }
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,24 +1,26 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.PreReport;
 import studyGroup.interviewAI.entity.WorkHistory;
 import studyGroup.interviewAI.entity.ProjectHistory;
+import studyGroup.interviewAI.entity.ProjectTech;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.event.ApplicantProfileChangedEvent;
 import studyGroup.interviewAI.repository.PreReportRepository;
 import studyGroup.interviewAI.repository.ApplicantRepository;
 import studyGroup.interviewAI.repository.WorkHistoryRepository;
 import studyGroup.interviewAI.repository.ProjectHistoryRepository;
-import studyGroup.interviewAI.repository.TechStackRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
 
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 @Service
 public class PreReportService {
@@ -26,18 +28,21 @@ public class PreReportService {
     private final ApplicantRepository applicantRepository;
     private final WorkHistoryRepository workHistoryRepository;
     private final ProjectHistoryRepository projectHistoryRepository;
-    private final TechStackRepository techStackRepository;
+    private final ProjectTechRepository projectTechRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PreReportService(PreReportRepository preReportRepository,
                           ApplicantRepository applicantRepository,
                           WorkHistoryRepository workHistoryRepository,
                           ProjectHistoryRepository projectHistoryRepository,
-                          TechStackRepository techStackRepository) {
+                          ProjectTechRepository projectTechRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.preReportRepository = preReportRepository;
         this.applicantRepository = applicantRepository;
         this.workHistoryRepository = workHistoryRepository;
         this.projectHistoryRepository = projectHistoryRepository;
-        this.techStackRepository = techStackRepository;
+        this.projectTechRepository = projectTechRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<PreReport> findAll() {
@@ -56,57 +61,72 @@ public class PreReportService {
             preReport.setApplicant(applicant);
         }
         
-        return preReportRepository.save(preReport);
+        PreReport savedPreReport = preReportRepository.save(preReport);
+        if (savedPreReport.getApplicant() != null) {
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(savedPreReport.getApplicant().getId()));
+        }
+        return savedPreReport;
+    }
+
+    // 생성 작업 결과 저장: 지원자의 최신 사전 리포트가 있으면 내용만 갱신하고, 없을 때만 새로 만든다.
+    @Transactional
+    public PreReport saveForApplicant(Long applicantId, String description) {
+        PreReport preReport = preReportRepository.findByApplicantId(applicantId).stream()
+            .max((a, b) -> Long.compare(a.getId(), b.getId()))
+            .orElseGet(() -> {
+                PreReport created = new PreReport();
+                created.setApplicant(applicantRepository.findById(applicantId)
+                    .orElseThrow(() -> new RuntimeException("Applicant not found: " + applicantId)));
+                return created;
+            });
+        preReport.setDescription(description);
+        PreReport savedPreReport = preReportRepository.save(preReport);
+        eventPublisher.publishEvent(new ApplicantProfileChangedEvent(applicantId));
+        return savedPreReport;
     }
 
     public void deleteById(Long id) {
+        Optional<Long> applicantId = preReportRepository.findApplicantIdById(id);
         preReportRepository.deleteById(id);
+        applicantId.ifPresent(applicant -> eventPublisher.publishEvent(new ApplicantProfileChangedEvent(applicant)));
+    }
+
+    // 지원자 존재 여부 (번들 조회 전 404 판단용)
+    public boolean existsApplicant(Long applicantId) {
+        return applicantRepository.existsById(applicantId);
     }
 
-    // 지원자별 Pre-Report 데이터 조회
+    // 지원자별 Pre-Report 데이터 조회 (네 조회가 같은 스냅샷을 보도록 한 트랜잭션에서)
+    @Transactional(readOnly = true)
     public Map<String, Object> getApplicantPreReportData(Long applicantId) {
         Map<String, Object> result = new HashMap<>();
         
         // WorkHistory 조회
-        List<WorkHistory> workHistories = workHistoryRepository.findByApplicantId(applicantId);
+        List<WorkHistory> workHistories = workHistoryRepository.findByApplicantIdWithRelations(applicantId);
         
-        // ProjectHistory 조회 및 기술스택 파싱
-        List<ProjectHistory> projectHistories = projectHistoryRepository.findByApplicantId(applicantId);
-        List<Map<String, Object>> enhancedProjectHistories = new ArrayList<>();
+        // ProjectHistory 조회 (관계 엔티티 join fetch)
+        List<ProjectHistory> projectHistories = projectHistoryRepository.findByApplicantIdWithRelations(applicantId);
+        
+        // 프로젝트별 기술스택은 ProjectTech에서 한 번에 조회
+        Map<Long, List<TechStack>> techStacksByProject = new HashMap<>();
+        for (ProjectTech projectTech : projectTechRepository.findByApplicantIdWithTechStack(applicantId)) {
+            techStacksByProject.computeIfAbsent(projectTech.getProjectHistory().getId(), id -> new ArrayList<>())
+                .add(projectTech.getTechStack());
+        }
         
+        List<Map<String, Object>> enhancedProjectHistories = new ArrayList<>();
         for (ProjectHistory project : projectHistories) {
             Map<String, Object> projectData = new HashMap<>();
             projectData.put("id", project.getId());
             projectData.put("title", project.getTitle());
             projectData.put("description", project.getDescription());
-            projectData.put("applicant", project.getApplicant());
-            
-            // 모든 기술스택 파싱 (TechStack 객체로)
-            List<TechStack> techStacks = new ArrayList<>();
-            if (project.getTechStack() != null) {
-                techStacks.add(project.getTechStack());
-            }
+            projectData.put("applicant", summarizeApplicant(project.getApplicant()));
             
-            // "사용 기술: React, TypeScript, Node.js" 형태에서 파싱
-            String description = project.getDescription();
-            if (description != null && description.contains("사용 기술:")) {
-                Pattern pattern = Pattern.compile("사용 기술: ([^)]+)");
-                Matcher matcher = pattern.matcher(description);
-                if (matcher.find()) {
-                    String techStacksStr = matcher.group(1);
-                    String[] techStackTitles = techStacksStr.split(", ");
-                    
-                    // 모든 TechStack 조회해서 title 매칭
-                    List<TechStack> allTechStacks = techStackRepository.findAll();
-                    for (String title : techStackTitles) {
-                        for (TechStack techStack : allTechStacks) {
-                            if (techStack.getTitle().equals(title.trim()) && 
-                                !techStacks.contains(techStack)) {
-                                techStacks.add(techStack);
-                                break;
-                            }
-                        }
-                    }
+            List<TechStack> techStacks = techStacksByProject.get(project.getId());
+            if (techStacks == null) {
+                techStacks = new ArrayList<>();
+                if (project.getTechStack() != null) {
+                    techStacks.add(project.getTechStack());
                 }
             }
             
@@ -121,10 +141,37 @@ public class PreReportService {
             preReportDescriptions.add(report.getDescription());
         }
         
-        result.put("workHistories", workHistories);
+        List<Map<String, Object>> workHistoryData = new ArrayList<>();
+        for (WorkHistory workHistory : workHistories) {
+            Map<String, Object> workData = new HashMap<>();
+            workData.put("id", workHistory.getId());
+            workData.put("companyName", workHistory.getCompanyName());
+            workData.put("startDate", workHistory.getStartDate());
+            workData.put("endDate", workHistory.getEndDate());
+            workData.put("position", workHistory.getPosition());
+            workData.put("applicant", summarizeApplicant(workHistory.getApplicant()));
+            workHistoryData.add(workData);
+        }
+        
+        result.put("workHistories", workHistoryData);
         result.put("projectHistories", enhancedProjectHistories);
         result.put("final-descriptions", preReportDescriptions);
         
         return result;
     }
+
+    // 지원자 요약 (엔티티를 그대로 넣으면 지연 로딩 컬렉션까지 직렬화되므로 필요한 필드만)
+    private Map<String, Object> summarizeApplicant(Applicant applicant) {
+        if (applicant == null) {
+            return null;
+        }
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("id", applicant.getId());
+        summary.put("username", applicant.getUsername());
+        summary.put("email", applicant.getEmail());
+        summary.put("status", applicant.getStatus());
+        summary.put("position", applicant.getPosition());
+        summary.put("experience", applicant.getExperience());
+        return summary;
+    }
 } 
\ No newline at end of file
@@ -1,29 +1,42 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import studyGroup.interviewAI.entity.ProjectHistory;
+import studyGroup.interviewAI.entity.ProjectTech;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.event.ApplicantProfileChangedEvent;
 import studyGroup.interviewAI.repository.ProjectHistoryRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
 import studyGroup.interviewAI.repository.ApplicantRepository;
-import studyGroup.interviewAI.repository.TechStackRepository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ProjectHistoryService {
     private final ProjectHistoryRepository projectHistoryRepository;
+    private final ProjectTechRepository projectTechRepository;
     private final ApplicantRepository applicantRepository;
-    private final TechStackRepository techStackRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectHistoryService(ProjectHistoryRepository projectHistoryRepository,
+                               ProjectTechRepository projectTechRepository,
                                ApplicantRepository applicantRepository,
-                               TechStackRepository techStackRepository) {
+                               ReferenceCatalog referenceCatalog,
+                               ApplicationEventPublisher eventPublisher) {
         this.projectHistoryRepository = projectHistoryRepository;
+        this.projectTechRepository = projectTechRepository;
         this.applicantRepository = applicantRepository;
-        this.techStackRepository = techStackRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<ProjectHistory> findAll() {
@@ -34,6 +47,7 @@ public class ProjectHistoryService {
         return projectHistoryRepository.findById(id);
     }
 
+    @Transactional
     public ProjectHistory save(ProjectHistory projectHistory) {
         // Applicant 관계 설정
         if (projectHistory.getApplicant() != null && projectHistory.getApplicant().getId() != null) {
@@ -44,16 +58,38 @@ public class ProjectHistoryService {
         
         // TechStack 관계 설정
         if (projectHistory.getTechStack() != null && projectHistory.getTechStack().getId() != null) {
-            TechStack techStack = techStackRepository.findById(projectHistory.getTechStack().getId())
-                .orElseThrow(() -> new RuntimeException("TechStack not found: " + projectHistory.getTechStack().getId()));
+            TechStack techStack = referenceCatalog.getTechStack(projectHistory.getTechStack().getId());
             projectHistory.setTechStack(techStack);
         }
         
-        return projectHistoryRepository.save(projectHistory);
+        // 수정이면 저장 전에 이전 주 기술스택 확인
+        Long previousTechStackId = projectHistory.getId() != null
+            ? projectHistoryRepository.findTechStackIdById(projectHistory.getId()).orElse(null)
+            : null;
+        Long techStackId = projectHistory.getTechStack() != null ? projectHistory.getTechStack().getId() : null;
+        
+        ProjectHistory savedProject = projectHistoryRepository.save(projectHistory);
+        
+        // 주 기술스택이 바뀌었으면 이전 주 기술스택 연결 제거 (명시적으로 추가된 기술스택이면 유지)
+        if (previousTechStackId != null && !previousTechStackId.equals(techStackId)) {
+            projectTechRepository.deleteMainStackLink(savedProject.getId(), previousTechStackId);
+        }
+        
+        // 주 기술스택은 ProjectTech 연결에도 포함
+        if (savedProject.getTechStack() != null
+            && !projectTechRepository.findTechStackIdsByProjectHistoryId(savedProject.getId()).contains(savedProject.getTechStack().getId())) {
+            projectTechRepository.save(new ProjectTech(savedProject, savedProject.getTechStack(), true));
+        }
+        publishProfileChanged(savedProject);
+        return savedProject;
     }
 
+    @Transactional
     public void deleteById(Long id) {
+        Optional<Long> applicantId = projectHistoryRepository.findApplicantIdById(id);
+        projectTechRepository.deleteByProjectHistoryId(id);
         projectHistoryRepository.deleteById(id);
+        applicantId.ifPresent(applicant -> eventPublisher.publishEvent(new ApplicantProfileChangedEvent(applicant)));
     }
 
     // 특정 지원자의 프로젝트 조회
@@ -62,6 +98,8 @@ public class ProjectHistoryService {
     }
 
     // 여러 기술스택을 포함한 프로젝트 생성
+    // 프로젝트와 ProjectTech 연결을 한 트랜잭션에서 저장 (첫 번째 기술스택은 주 기술스택 FK로도 유지)
+    @Transactional
     public ProjectHistory saveWithMultipleTechStacks(Map<String, Object> requestData) {
         // 프로젝트 기본 정보 생성
         ProjectHistory project = new ProjectHistory();
@@ -77,43 +115,33 @@ public class ProjectHistoryService {
             project.setApplicant(applicant);
         }
         
-        // 주요 기술스택 설정 (첫 번째 기술스택을 주요 기술스택으로)
+        // 기술스택 확인 (중복 제거, 요청 순서 유지)
+        Set<TechStack> techStacks = new LinkedHashSet<>();
         if (requestData.get("techStackIds") != null) {
-            List<Object> techStackIds = (List<Object>) requestData.get("techStackIds");
-            if (!techStackIds.isEmpty()) {
-                Long mainTechStackId = Long.valueOf(techStackIds.get(0).toString());
-                TechStack mainTechStack = techStackRepository.findById(mainTechStackId)
-                    .orElseThrow(() -> new RuntimeException("TechStack not found: " + mainTechStackId));
-                project.setTechStack(mainTechStack);
+            for (Object techStackId : (List<Object>) requestData.get("techStackIds")) {
+                techStacks.add(referenceCatalog.getTechStack(Long.valueOf(techStackId.toString())));
             }
         }
+        if (!techStacks.isEmpty()) {
+            project.setTechStack(techStacks.iterator().next());
+        }
         
-        // 프로젝트 저장
+        // 프로젝트 저장 후 연결을 배치로 저장
         ProjectHistory savedProject = projectHistoryRepository.save(project);
-        
-        // 추가 기술스택들은 description에 포함 (임시 방안)
-        if (requestData.get("techStackIds") != null) {
-            List<Object> techStackIds = (List<Object>) requestData.get("techStackIds");
-            if (techStackIds.size() > 1) {
-                StringBuilder techStacksDesc = new StringBuilder(savedProject.getDescription());
-                techStacksDesc.append(" (사용 기술: ");
-                
-                for (int i = 0; i < techStackIds.size(); i++) {
-                    Long techStackId = Long.valueOf(techStackIds.get(i).toString());
-                    TechStack techStack = techStackRepository.findById(techStackId)
-                        .orElse(null);
-                    if (techStack != null) {
-                        if (i > 0) techStacksDesc.append(", ");
-                        techStacksDesc.append(techStack.getTitle());
-                    }
-                }
-                techStacksDesc.append(")");
-                
-                savedProject.setDescription(techStacksDesc.toString());
-                projectHistoryRepository.save(savedProject);
-            }
+        List<ProjectTech> projectTechs = new ArrayList<>();
+        for (TechStack techStack : techStacks) {
+            projectTechs.add(new ProjectTech(savedProject, techStack, techStack == savedProject.getTechStack()));
         }
+        projectTechRepository.saveAll(projectTechs);
+        publishProfileChanged(savedProject);
         
         return savedProject;
     }
-} 
\ No newline at end of file
+
+    // 커밋 후 해당 지원자의 사전 리포트 번들 재생성
+    private void publishProfileChanged(ProjectHistory project) {
+        if (project.getApplicant() != null) {
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(project.getApplicant().getId()));
+        }
+    }
+}
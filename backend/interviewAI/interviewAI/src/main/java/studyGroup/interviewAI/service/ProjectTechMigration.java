@@ -0,0 +1,114 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyGroup.interviewAI.entity.ProjectTech;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.repository.ProjectHistoryRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// description의 " (사용 기술: A, B)" 문자열을 ProjectTech 연결로 옮기는 일회성 마이그레이션
+// 연결이 없는 프로젝트만 연결을 만들고, 모든 기술명이 매칭되면 설명에서 해당 문구를 제거하므로 여러 번 실행해도 결과가 같다.
+@Component
+public class ProjectTechMigration {
+    private static final int CHUNK_SIZE = 500;
+    private static final Pattern TECH_SUFFIX = Pattern.compile("\\s*\\(사용 기술: ([^)]*)\\)");
+
+    private final ProjectHistoryRepository projectHistoryRepository;
+    private final ProjectTechRepository projectTechRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectTechMigration(ProjectHistoryRepository projectHistoryRepository,
+                                ProjectTechRepository projectTechRepository,
+                                ReferenceCatalog referenceCatalog,
+                                PlatformTransactionManager transactionManager) {
+        this.projectHistoryRepository = projectHistoryRepository;
+        this.projectTechRepository = projectTechRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        int linked = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Object[]> chunk = projectHistoryRepository.findTechMigrationChunk(afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Integer migrated = transactionTemplate.execute(status -> migrateChunk(chunk));
+            linked += migrated != null ? migrated : 0;
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+            afterId = (Long) chunk.get(chunk.size() - 1)[0];
+        }
+        if (linked > 0) {
+            System.out.println("✅ 프로젝트 기술스택 연결 " + linked + "건을 마이그레이션했습니다.");
+        }
+    }
+
+    // row: (프로젝트 ID, 주 기술스택 ID, 설명)
+    private int migrateChunk(List<Object[]> chunk) {
+        List<Long> projectIds = new ArrayList<>();
+        for (Object[] row : chunk) {
+            projectIds.add((Long) row[0]);
+        }
+        Set<Long> alreadyLinked = new HashSet<>(projectTechRepository.findProjectHistoryIdsIn(projectIds));
+
+        List<ProjectTech> projectTechs = new ArrayList<>();
+        for (Object[] row : chunk) {
+            Long projectId = (Long) row[0];
+            Long mainTechStackId = (Long) row[1];
+            String description = (String) row[2];
+
+            Set<TechStack> techStacks = new LinkedHashSet<>();
+            referenceCatalog.findTechStack(mainTechStackId).ifPresent(techStacks::add);
+
+            boolean allResolved = true;
+            Matcher matcher = description != null ? TECH_SUFFIX.matcher(description) : null;
+            boolean hasSuffix = matcher != null && matcher.find();
+            if (hasSuffix) {
+                for (String title : matcher.group(1).split(",")) {
+                    if (title.isBlank()) {
+                        continue;
+                    }
+                    Optional<TechStack> techStack = referenceCatalog.findTechStackByTitle(title);
+                    if (techStack.isPresent()) {
+                        techStacks.add(techStack.get());
+                    } else {
+                        allResolved = false;
+                    }
+                }
+            }
+
+            if (!alreadyLinked.contains(projectId)) {
+                for (TechStack techStack : techStacks) {
+                    projectTechs.add(new ProjectTech(projectHistoryRepository.getReferenceById(projectId), techStack,
+                        techStack.getId().equals(mainTechStackId)));
+                }
+            }
+            // 매칭되지 않은 기술명이 있으면 정보 손실을 막기 위해 설명은 그대로 둔다
+            if (hasSuffix && allResolved) {
+                projectHistoryRepository.updateDescription(projectId, TECH_SUFFIX.matcher(description).replaceAll(""));
+            }
+        }
+        projectTechRepository.saveAll(projectTechs);
+        return projectTechs.size();
+    }
+}
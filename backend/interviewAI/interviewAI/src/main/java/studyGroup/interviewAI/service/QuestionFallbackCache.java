@@ -0,0 +1,93 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+// LLM 장애 시 대체 응답용 최근 질문 세트 (포지션/경험 레벨별, 크기 제한 LRU)
+// (포지션, 경험) 조합으로 먼저 찾고, 없으면 같은 포지션의 최근 세트를 쓴다.
+@Component
+public class QuestionFallbackCache {
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder served = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+
+    public QuestionFallbackCache(@Value("${llm.fallback.max-entries:200}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > QuestionFallbackCache.this.maxEntries;
+            }
+        };
+    }
+
+    public void put(Long positionId, Long experienceId, Map<String, Object> generated) {
+        Object questions = generated.get("questions");
+        if (!(questions instanceof List) || ((List<?>) questions).isEmpty()) {
+            return;
+        }
+        Entry entry = new Entry(new ArrayList<>((List<?>) questions), generated.get("analysis"), System.currentTimeMillis());
+        synchronized (entries) {
+            entries.put(key(positionId, experienceId), entry);
+            entries.put(key(positionId, null), entry);
+        }
+    }
+
+    // 대체 응답 (questions, analysis, cachedAtMs)
+    public Optional<Map<String, Object>> find(Long positionId, Long experienceId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key(positionId, experienceId));
+            if (entry == null) {
+                entry = entries.get(key(positionId, null));
+            }
+        }
+        if (entry == null) {
+            missed.increment();
+            return Optional.empty();
+        }
+        served.increment();
+        Map<String, Object> fallback = new HashMap<>();
+        fallback.put("questions", entry.questions);
+        fallback.put("analysis", entry.analysis);
+        fallback.put("cachedAtMs", entry.cachedAtMs);
+        return Optional.of(fallback);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("served", served.sum());
+        stats.put("missed", missed.sum());
+        return stats;
+    }
+
+    private String key(Long positionId, Long experienceId) {
+        return positionId + ":" + (experienceId != null ? experienceId : "*");
+    }
+
+    private static class Entry {
+        final List<?> questions;
+        final Object analysis;
+        final long cachedAtMs;
+
+        Entry(List<?> questions, Object analysis, long cachedAtMs) {
+            this.questions = questions;
+            this.analysis = analysis;
+            this.cachedAtMs = cachedAtMs;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import studyGroup.interviewAI.entity.Experience;
+import studyGroup.interviewAI.entity.Position;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.repository.ExperienceRepository;
+import studyGroup.interviewAI.repository.PositionRepository;
+import studyGroup.interviewAI.repository.TechStackRepository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 기술스택 / 포지션 / 경험 레벨 참조 데이터 메모리 카탈로그
+// 작고 거의 바뀌지 않는 테이블이라 전체를 불변 스냅샷으로 들고 있고, ID와 정규화된 제목으로 O(1) 조회한다.
+// 참조 서비스가 쓰기를 하면 해당 테이블만 다시 읽어 스냅샷을 통째로 교체(copy-on-write)한다.
+@Component
+public class ReferenceCatalog {
+    private final TechStackRepository techStackRepository;
+    private final PositionRepository positionRepository;
+    private final ExperienceRepository experienceRepository;
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceCatalog(TechStackRepository techStackRepository,
+                            PositionRepository positionRepository,
+                            ExperienceRepository experienceRepository) {
+        this.techStackRepository = techStackRepository;
+        this.positionRepository = positionRepository;
+        this.experienceRepository = experienceRepository;
+    }
+
+    // 시작 시 전체 적재 (DataInitializer가 넣은 데이터 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        snapshot = new Snapshot(
+            new Table<>(techStackRepository.findAll(), TechStack::getId, TechStack::getTitle),
+            new Table<>(positionRepository.findAll(), Position::getId, Position::getTitle),
+            new Table<>(experienceRepository.findAll(), Experience::getId, Experience::getTitle));
+    }
+
+    public synchronized void refreshTechStacks() {
+        Snapshot current = current();
+        snapshot = new Snapshot(new Table<>(techStackRepository.findAll(), TechStack::getId, TechStack::getTitle),
+            current.positions, current.experiences);
+    }
+
+    public synchronized void refreshPositions() {
+        Snapshot current = current();
+        snapshot = new Snapshot(current.techStacks,
+            new Table<>(positionRepository.findAll(), Position::getId, Position::getTitle), current.experiences);
+    }
+
+    public synchronized void refreshExperiences() {
+        Snapshot current = current();
+        snapshot = new Snapshot(current.techStacks, current.positions,
+            new Table<>(experienceRepository.findAll(), Experience::getId, Experience::getTitle));
+    }
+
+    public Optional<TechStack> findTechStack(Long id) {
+        return Optional.ofNullable(id != null ? current().techStacks.byId.get(id) : null);
+    }
+
+    public Optional<TechStack> findTechStackByTitle(String title) {
+        return Optional.ofNullable(current().techStacks.byTitle.get(normalize(title)));
+    }
+
+    public List<TechStack> getTechStacks() {
+        return current().techStacks.all;
+    }
+
+    public Optional<Position> findPosition(Long id) {
+        return Optional.ofNullable(id != null ? current().positions.byId.get(id) : null);
+    }
+
+    public Optional<Position> findPositionByTitle(String title) {
+        return Optional.ofNullable(current().positions.byTitle.get(normalize(title)));
+    }
+
+    public List<Position> getPositions() {
+        return current().positions.all;
+    }
+
+    public Optional<Experience> findExperience(Long id) {
+        return Optional.ofNullable(id != null ? current().experiences.byId.get(id) : null);
+    }
+
+    public Optional<Experience> findExperienceByTitle(String title) {
+        return Optional.ofNullable(current().experiences.byTitle.get(normalize(title)));
+    }
+
+    public List<Experience> getExperiences() {
+        return current().experiences.all;
+    }
+
+    // ID로 찾고 없으면 예외 (기존 서비스의 findById().orElseThrow 메시지와 동일)
+    public TechStack getTechStack(Long id) {
+        return findTechStack(id).orElseThrow(() -> new RuntimeException("TechStack not found: " + id));
+    }
+
+    public Position getPosition(Long id) {
+        return findPosition(id).orElseThrow(() -> new RuntimeException("Position not found: " + id));
+    }
+
+    public Experience getExperience(Long id) {
+        return findExperience(id).orElseThrow(() -> new RuntimeException("Experience not found: " + id));
+    }
+
+    // 대소문자/앞뒤 공백/연속 공백 차이를 무시
+    public static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        return title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ApplicationReady 이전(DataInitializer 등)에 조회되면 그 자리에서 적재
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static class Snapshot {
+        final Table<TechStack> techStacks;
+        final Table<Position> positions;
+        final Table<Experience> experiences;
+
+        Snapshot(Table<TechStack> techStacks, Table<Position> positions, Table<Experience> experiences) {
+            this.techStacks = techStacks;
+            this.positions = positions;
+            this.experiences = experiences;
+        }
+    }
+
+    // 한 테이블의 불변 인덱스 (제목이 겹치면 ID가 작은 쪽 우선)
+    private static class Table<T> {
+        final List<T> all;
+        final Map<Long, T> byId;
+        final Map<String, T> byTitle;
+
+        Table(List<T> rows, Function<T, Long> id, Function<T, String> title) {
+            Map<Long, T> ids = new HashMap<>();
+            Map<String, T> titles = new HashMap<>();
+            for (T row : rows) {
+                ids.put(id.apply(row), row);
+                titles.merge(normalize(title.apply(row)), row,
+                    (existing, candidate) -> id.apply(existing) <= id.apply(candidate) ? existing : candidate);
+            }
+            this.all = Collections.unmodifiableList(rows);
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byTitle = Collections.unmodifiableMap(titles);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.PostReportRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 평가 점수 분포 (전체 / 포지션별 / 경력별)
+// 시작 시 post_report에서 한 번 적재하고, 이후에는 점수 저장 이벤트로 증분 갱신한다.
+// 재구성 중 도착한 증분은 기존 분포에 반영하면서 따로 모아 두었다가, 새 분포에 다시 반영한 뒤 교체한다.
+@Service
+public class ScoreDistributionService {
+    private final PostReportRepository postReportRepository;
+    private final ApplicantRepository applicantRepository;
+
+    private volatile Distributions distributions = new Distributions();
+    // 재구성끼리 직렬화
+    private final Object rebuildLock = new Object();
+    // 재구성 중 도착한 증분 (null이면 재구성 중 아님) - pendingLock으로 보호, 증분 반영과 교체도 이 잠금 안에서
+    private final Object pendingLock = new Object();
+    private List<ScoreDelta> pendingDuringRebuild;
+
+    public ScoreDistributionService(PostReportRepository postReportRepository,
+                                    ApplicantRepository applicantRepository) {
+        this.postReportRepository = postReportRepository;
+        this.applicantRepository = applicantRepository;
+    }
+
+    // 시작 시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 테이블 기준으로 새로 만든 뒤 한 번에 교체 (지원자 포지션/경력 변경 등으로 생긴 오차 보정)
+    @Scheduled(initialDelayString = "${dashboard.score-distribution.rebuild-interval-ms:600000}",
+               fixedDelayString = "${dashboard.score-distribution.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (pendingLock) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                Distributions rebuilt = new Distributions();
+                for (Object[] row : postReportRepository.findAllScoresWithPositionAndExperience()) {
+                    rebuilt.add((Integer) row[0], (Long) row[1], (Long) row[2]);
+                }
+                // 스캔 동안 기존 분포에만 반영된 증분을 새 분포에도 반영한 뒤 교체
+                synchronized (pendingLock) {
+                    for (ScoreDelta delta : pendingDuringRebuild) {
+                        delta.applyTo(rebuilt);
+                    }
+                    distributions = rebuilt;
+                }
+            } finally {
+                // 실패했으면 증분은 이미 기존 분포에 반영되어 있으므로 버림
+                synchronized (pendingLock) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    // 평가 점수 저장/수정/삭제 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        if (event.getType() != DashboardEvent.Type.SCORE_RECORDED || event.getApplicantId() == null) {
+            return;
+        }
+        List<Object[]> rows = applicantRepository.findPositionIdAndExperienceIdById(event.getApplicantId());
+        Long positionId = rows.isEmpty() ? null : (Long) rows.get(0)[0];
+        Long experienceId = rows.isEmpty() ? null : (Long) rows.get(0)[1];
+
+        ScoreDelta delta = new ScoreDelta(event.getPreviousScore(), event.getScore(), positionId, experienceId);
+        synchronized (pendingLock) {
+            delta.applyTo(distributions);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(delta);
+            }
+        }
+    }
+
+    // 점수 분포 조회 (DB 조회 없음)
+    public Map<String, Object> getDistribution(int bucketWidth) {
+        Distributions current = distributions;
+        Map<String, Object> result = new HashMap<>();
+        result.put("overall", current.overall.summarize(bucketWidth));
+        result.put("byPosition", summarizeGroups(current.byPosition, "positionId", bucketWidth));
+        result.put("byExperience", summarizeGroups(current.byExperience, "experienceId", bucketWidth));
+        return result;
+    }
+
+    private List<Map<String, Object>> summarizeGroups(Map<Long, ScoreHistogram> groups, String keyName, int bucketWidth) {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        for (Map.Entry<Long, ScoreHistogram> entry : groups.entrySet()) {
+            if (entry.getValue().getCount() == 0) {
+                continue;
+            }
+            Map<String, Object> summary = entry.getValue().summarize(bucketWidth);
+            summary.put(keyName, entry.getKey());
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    // 점수 저장/수정/삭제 한 건 (null은 점수 없음)
+    private static class ScoreDelta {
+        private final Integer previousScore;
+        private final Integer score;
+        private final Long positionId;
+        private final Long experienceId;
+
+        private ScoreDelta(Integer previousScore, Integer score, Long positionId, Long experienceId) {
+            this.previousScore = previousScore;
+            this.score = score;
+            this.positionId = positionId;
+            this.experienceId = experienceId;
+        }
+
+        private void applyTo(Distributions target) {
+            if (previousScore != null) {
+                target.remove(previousScore, positionId, experienceId);
+            }
+            if (score != null) {
+                target.add(score, positionId, experienceId);
+            }
+        }
+    }
+
+    private static class Distributions {
+        private final ScoreHistogram overall = new ScoreHistogram();
+        private final Map<Long, ScoreHistogram> byPosition = new ConcurrentHashMap<>();
+        private final Map<Long, ScoreHistogram> byExperience = new ConcurrentHashMap<>();
+
+        private void add(int score, Long positionId, Long experienceId) {
+            overall.add(score);
+            if (positionId != null) {
+                byPosition.computeIfAbsent(positionId, id -> new ScoreHistogram()).add(score);
+            }
+            if (experienceId != null) {
+                byExperience.computeIfAbsent(experienceId, id -> new ScoreHistogram()).add(score);
+            }
+        }
+
+        private void remove(int score, Long positionId, Long experienceId) {
+            overall.remove(score);
+            if (positionId != null && byPosition.containsKey(positionId)) {
+                byPosition.get(positionId).remove(score);
+            }
+            if (experienceId != null && byExperience.containsKey(experienceId)) {
+                byExperience.get(experienceId).remove(score);
+            }
+        }
+    }
+}
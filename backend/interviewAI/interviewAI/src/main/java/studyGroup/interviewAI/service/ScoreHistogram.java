@@ -0,0 +1,85 @@
+package studyGroup.interviewAI.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 정수 점수 분포 스케치
+// 점수는 정수이고 서로 다른 값의 개수가 작으므로 값별 빈도만 유지해 분위수를 정확하게 계산한다.
+// (KLL/t-digest와 달리 점수 수정/삭제 시 제거도 가능)
+public class ScoreHistogram {
+    private final TreeMap<Integer, Long> frequencies = new TreeMap<>();
+    private long count;
+    private long sum;
+
+    public synchronized void add(int score) {
+        frequencies.merge(score, 1L, Long::sum);
+        count++;
+        sum += score;
+    }
+
+    public synchronized void remove(int score) {
+        Long frequency = frequencies.get(score);
+        if (frequency == null) {
+            return;
+        }
+        if (frequency == 1L) {
+            frequencies.remove(score);
+        } else {
+            frequencies.put(score, frequency - 1);
+        }
+        count--;
+        sum -= score;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    // nearest-rank 방식 분위수 (q: 0.0 ~ 1.0), 데이터가 없으면 null
+    public synchronized Integer quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : frequencies.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        return frequencies.lastKey();
+    }
+
+    // 요약 통계와 구간별 히스토그램
+    public synchronized Map<String, Object> summarize(int bucketWidth) {
+        int width = Math.max(1, bucketWidth);
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("count", count);
+        summary.put("mean", count > 0 ? (double) sum / count : 0.0);
+        summary.put("min", count > 0 ? frequencies.firstKey() : null);
+        summary.put("max", count > 0 ? frequencies.lastKey() : null);
+        summary.put("p50", quantile(0.50));
+        summary.put("p90", quantile(0.90));
+        summary.put("p99", quantile(0.99));
+
+        TreeMap<Integer, Long> buckets = new TreeMap<>();
+        for (Map.Entry<Integer, Long> entry : frequencies.entrySet()) {
+            int bucketStart = Math.floorDiv(entry.getKey(), width) * width;
+            buckets.merge(bucketStart, entry.getValue(), Long::sum);
+        }
+        List<Map<String, Object>> histogram = new ArrayList<>();
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("from", bucket.getKey());
+            row.put("to", bucket.getKey() + width - 1);
+            row.put("count", bucket.getValue());
+            histogram.add(row);
+        }
+        summary.put("histogram", histogram);
+        return summary;
+    }
+}
@@ -0,0 +1,38 @@
+package studyGroup.interviewAI.service;
+
+// 업로드 결과 (파일 ID, 저장 경로, 바이트 수, SHA-256, 기존 파일 재사용 여부)
+public class StoredFile {
+    private final Long id;
+    private final String filePath;
+    private final long size;
+    private final String sha256;
+    private final boolean deduplicated;
+
+    public StoredFile(Long id, String filePath, long size, String sha256, boolean deduplicated) {
+        this.id = id;
+        this.filePath = filePath;
+        this.size = size;
+        this.sha256 = sha256;
+        this.deduplicated = deduplicated;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+}
@@ -0,0 +1,253 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyGroup.interviewAI.event.ConversationAddedEvent;
+import studyGroup.interviewAI.repository.ConversationRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// 면접 대화를 바탕으로 다음 질문 추천 (llm-server 호출)
+// 지원자 발화가 저장되면 바로 백그라운드에서 추천을 만들어 (면접 ID, 마지막 대화 ID) 기준으로 보관하고,
+// 면접관이 요청했을 때 마지막 대화가 같으면 그 결과(또는 진행 중인 요청)를 그대로 돌려준다.
+// LLM 호출이 실패하거나 서킷이 열려 있으면 같은 포지션/경험 레벨의 최근 질문 세트로 대신 응답한다.
+@Service
+public class SuggestedQuestionService {
+    private final InterviewRepository interviewRepository;
+    private final ConversationRepository conversationRepository;
+    private final ConversationContextWindow conversationContextWindow;
+    private final LlmClient llmClient;
+    private final QuestionFallbackCache questionFallbackCache;
+    private final ConversationWriteBehindService conversationWriteBehind;
+    private final long prefetchTtlMs;
+
+    // 면접별 최신 선행 생성 결과 (새 발화가 오면 교체)
+    private final ConcurrentHashMap<Long, Prefetch> prefetches = new ConcurrentHashMap<>();
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "question-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder prefetchStarted = new LongAdder();
+    private final LongAdder prefetchCancelled = new LongAdder();
+    private final LongAdder prefetchHits = new LongAdder();
+    private final LongAdder prefetchInFlightHits = new LongAdder();
+    private final LongAdder prefetchMisses = new LongAdder();
+    private final LongAdder savedLatencyMs = new LongAdder();
+
+    public SuggestedQuestionService(InterviewRepository interviewRepository,
+                                    ConversationRepository conversationRepository,
+                                    ConversationContextWindow conversationContextWindow,
+                                    LlmClient llmClient,
+                                    QuestionFallbackCache questionFallbackCache,
+                                    ConversationWriteBehindService conversationWriteBehind,
+                                    @Value("${llm.prefetch.ttl-ms:600000}") long prefetchTtlMs) {
+        this.interviewRepository = interviewRepository;
+        this.conversationRepository = conversationRepository;
+        this.conversationContextWindow = conversationContextWindow;
+        this.llmClient = llmClient;
+        this.questionFallbackCache = questionFallbackCache;
+        this.conversationWriteBehind = conversationWriteBehind;
+        this.prefetchTtlMs = prefetchTtlMs;
+    }
+
+    // 선행 생성 결과가 현재 대화와 맞으면 재사용, 아니면 새로 요청
+    public CompletableFuture<Map<String, Object>> suggestQuestions(Long interviewId) {
+        List<Object[]> profile = interviewRepository.findPositionIdAndExperienceIdById(interviewId);
+        if (profile.isEmpty()) {
+            throw new RuntimeException("Interview not found with id: " + interviewId);
+        }
+        Long positionId = (Long) profile.get(0)[0];
+        Long experienceId = (Long) profile.get(0)[1];
+
+        // 아직 저장 대기 중인 발화가 있으면 먼저 저장 (추천은 최신 발화 기준)
+        conversationWriteBehind.flush(interviewId);
+        Optional<Long> lastConversationId = conversationRepository.findLastIdByInterviewId(interviewId);
+        Prefetch prefetch = prefetches.get(interviewId);
+        if (prefetch != null && lastConversationId.isPresent()
+            && prefetch.conversationId.equals(lastConversationId.get())
+            && !prefetch.result.isCompletedExceptionally()) {
+            // 실패한 선행 생성은 재사용하지 않고 새로 요청
+            long now = System.currentTimeMillis();
+            prefetch.claimed = true;
+            if (prefetch.result.isDone()) {
+                // 모델 응답 시간 전체를 절약
+                prefetchHits.increment();
+                savedLatencyMs.add(prefetch.completedAtMs - prefetch.startedAtMs);
+            } else {
+                // 이미 진행된 만큼 절약
+                prefetchInFlightHits.increment();
+                savedLatencyMs.add(now - prefetch.startedAtMs);
+            }
+            return withFallback(interviewId, positionId, experienceId, prefetch.result, true);
+        }
+        prefetchMisses.increment();
+        return withFallback(interviewId, positionId, experienceId, generate(interviewId), false);
+    }
+
+    // 발화 저장 후: 진행 중인 선행 생성은 취소하고, 지원자 발화면 새로 시작
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConversationAdded(ConversationAddedEvent event) {
+        if (event.isManager()) {
+            discard(event.getInterviewId());
+            return;
+        }
+        // 서킷이 열려 있으면 어차피 실패하므로 선행 생성하지 않음
+        if (!llmClient.isAvailable()) {
+            discard(event.getInterviewId());
+            return;
+        }
+        Prefetch prefetch = new Prefetch(event.getConversationId());
+        Prefetch previous = prefetches.put(event.getInterviewId(), prefetch);
+        cancel(previous);
+        prefetchStarted.increment();
+
+        // 컨텍스트 구성(DB 조회)도 요청 스레드 밖에서
+        CompletableFuture.supplyAsync(() -> generate(event.getInterviewId()), prefetchExecutor)
+            .thenCompose(future -> {
+                prefetch.llmCall = future;
+                if (prefetch.result.isCancelled()) {
+                    future.cancel(true);
+                }
+                return future;
+            })
+            .whenComplete((result, error) -> {
+                prefetch.completedAtMs = System.currentTimeMillis();
+                if (error != null) {
+                    prefetch.result.completeExceptionally(error);
+                } else {
+                    prefetch.result.complete(result);
+                }
+            });
+    }
+
+    // 면접의 선행 생성 결과 폐기 (대화 수정/삭제 등)
+    public void discard(Long interviewId) {
+        if (interviewId != null) {
+            cancel(prefetches.remove(interviewId));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long hits = prefetchHits.sum();
+        long inFlightHits = prefetchInFlightHits.sum();
+        long misses = prefetchMisses.sum();
+        long requests = hits + inFlightHits + misses;
+        stats.put("started", prefetchStarted.sum());
+        stats.put("cancelled", prefetchCancelled.sum());
+        stats.put("hits", hits);
+        stats.put("inFlightHits", inFlightHits);
+        stats.put("misses", misses);
+        stats.put("hitRate", requests > 0 ? (double) (hits + inFlightHits) / requests : 0.0);
+        stats.put("savedLatencyMs", savedLatencyMs.sum());
+        stats.put("cached", prefetches.size());
+        return stats;
+    }
+
+    public Map<String, Object> getFallbackStats() {
+        return questionFallbackCache.getStats();
+    }
+
+    // 오래된 선행 생성 결과 정리
+    @Scheduled(fixedDelayString = "${llm.prefetch.ttl-ms:600000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - prefetchTtlMs;
+        prefetches.entrySet().removeIf(entry -> entry.getValue().startedAtMs < threshold && entry.getValue().result.isDone());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    // 롤링 컨텍스트(요약 + 최근 발화)로 LLM 호출
+    private CompletableFuture<Map<String, Object>> generate(Long interviewId) {
+        ConversationContextWindow.Window window = conversationContextWindow.build(interviewId);
+
+        CompletableFuture<Map<String, Object>> llmCall = llmClient.generateQuestions(window.getMessages());
+        CompletableFuture<Map<String, Object>> result = llmCall.thenApply(generated -> {
+            Map<String, Object> response = new HashMap<>(generated);
+            response.put("interviewId", interviewId);
+            response.put("totalTurns", window.getTotalTurns());
+            response.put("sentMessageCount", window.getMessages().size());
+            response.put("estimatedTokens", window.getEstimatedTokens());
+            response.put("fullTranscriptTokens", window.getFullTranscriptTokens());
+            return response;
+        });
+        // 결과가 취소되면 LLM 요청까지 취소
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                llmCall.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // 성공한 결과는 대체 응답용으로 보관하고, 실패하면 보관된 세트로 대신 응답 (없으면 원래 오류)
+    private CompletableFuture<Map<String, Object>> withFallback(Long interviewId, Long positionId, Long experienceId,
+                                                                CompletableFuture<Map<String, Object>> source,
+                                                                boolean prefetched) {
+        return source.handle((result, error) -> {
+            if (error == null) {
+                questionFallbackCache.put(positionId, experienceId, result);
+                Map<String, Object> response = new HashMap<>(result);
+                response.put("prefetched", prefetched);
+                response.put("degraded", false);
+                return response;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            Map<String, Object> fallback = questionFallbackCache.find(positionId, experienceId)
+                .orElseThrow(() -> cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException("질문 추천 실패: " + cause.getMessage(), cause));
+            Map<String, Object> response = new HashMap<>(fallback);
+            response.put("interviewId", interviewId);
+            response.put("prefetched", false);
+            response.put("degraded", true);
+            response.put("fallbackReason", cause.getMessage());
+            return response;
+        });
+    }
+
+    // 이미 요청에 연결된 결과는 기다리는 쪽이 있으므로 취소하지 않음
+    private void cancel(Prefetch prefetch) {
+        if (prefetch == null || prefetch.result.isDone() || prefetch.claimed) {
+            return;
+        }
+        prefetch.result.cancel(true);
+        CompletableFuture<?> llmCall = prefetch.llmCall;
+        if (llmCall != null) {
+            llmCall.cancel(true);
+        }
+        prefetchCancelled.increment();
+    }
+
+    // (면접, 마지막 대화 ID) 하나에 대한 선행 생성
+    private static class Prefetch {
+        final Long conversationId;
+        final long startedAtMs = System.currentTimeMillis();
+        final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        volatile CompletableFuture<?> llmCall;
+        volatile long completedAtMs;
+        volatile boolean claimed;
+
+        Prefetch(Long conversationId) {
+            this.conversationId = conversationId;
+        }
+    }
+}
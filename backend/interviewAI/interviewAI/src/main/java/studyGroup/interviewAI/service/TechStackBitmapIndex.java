@@ -0,0 +1,215 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+// 기술스택별 지원자 ID 비트맵 인덱스
+// "Java AND Spring Boot AND (AWS OR GCP)" 같은 조건을 SQL 조인 없이 비트맵 집합 연산으로 처리한다.
+// 기술스택별 비트맵과 전체 지원자 비트맵은 불변 스냅샷 하나로 묶어 통째로 교체(copy-on-write)하므로
+// 조회는 잠금 없이 항상 같은 시점의 두 값을 본다.
+// 재구성은 잠금 없이 DB를 읽고, 그동안 들어온 변경은 현재 스냅샷에 반영하면서 따로 모아 두었다가
+// 잠금을 잡은 짧은 구간에서 새 스냅샷에 다시 적용한 뒤 교체한다.
+@Service
+public class TechStackBitmapIndex {
+    private final ApplicantRepository applicantRepository;
+    private final ApplicantTechRepository applicantTechRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 재구성끼리 직렬화 (변경 요청은 잡지 않음)
+    private final Object rebuildLock = new Object();
+    // 재구성 중 도착한 변경 (null이면 재구성 중 아님) - this로 보호, 스냅샷 교체도 this 안에서
+    private List<UnaryOperator<Snapshot>> pendingDuringRebuild;
+
+    public TechStackBitmapIndex(ApplicantRepository applicantRepository,
+                                ApplicantTechRepository applicantTechRepository) {
+        this.applicantRepository = applicantRepository;
+        this.applicantTechRepository = applicantTechRepository;
+    }
+
+    // 시작 시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // ApplicantTech 전체로 인덱스 재구성 (인덱스를 거치지 않은 변경 보정)
+    @Scheduled(initialDelayString = "${tech-stack-index.rebuild-interval-ms:600000}",
+               fixedDelayString = "${tech-stack-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            try {
+                Map<Long, List<Integer>> idsByTechStack = new HashMap<>();
+                for (Object[] row : applicantTechRepository.findAllApplicantIdAndTechStackId()) {
+                    if (row[0] != null && row[1] != null) {
+                        idsByTechStack.computeIfAbsent((Long) row[1], id -> new ArrayList<>()).add(toInt((Long) row[0]));
+                    }
+                }
+                Map<Long, CompressedBitmap> rebuilt = new HashMap<>();
+                for (Map.Entry<Long, List<Integer>> entry : idsByTechStack.entrySet()) {
+                    rebuilt.put(entry.getKey(), CompressedBitmap.of(entry.getValue().stream().mapToInt(Integer::intValue).toArray()));
+                }
+                int[] applicantIds = applicantRepository.findAllIds().stream().mapToInt(this::toInt).toArray();
+
+                // 스캔 동안 현재 스냅샷에만 반영된 변경을 새 스냅샷에도 적용한 뒤 교체
+                synchronized (this) {
+                    Snapshot next = new Snapshot(rebuilt, CompressedBitmap.of(applicantIds));
+                    for (UnaryOperator<Snapshot> change : pendingDuringRebuild) {
+                        next = change.apply(next);
+                    }
+                    snapshot = next;
+                }
+            } finally {
+                // 실패했으면 변경은 이미 현재 스냅샷에 반영되어 있으므로 버림
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    // 지원자 등록
+    public void addApplicant(Long applicantId) {
+        int id = toInt(applicantId);
+        update(current -> new Snapshot(current.byTechStack, current.allApplicants.add(id)));
+    }
+
+    // 지원자-기술스택 연결 추가
+    public void addTechStacks(Long applicantId, Collection<Long> techStackIds) {
+        int id = toInt(applicantId);
+        List<Long> added = new ArrayList<>(techStackIds);
+        update(current -> {
+            Map<Long, CompressedBitmap> updated = new HashMap<>(current.byTechStack);
+            for (Long techStackId : added) {
+                updated.put(techStackId, updated.getOrDefault(techStackId, CompressedBitmap.EMPTY).add(id));
+            }
+            return new Snapshot(updated, current.allApplicants.add(id));
+        });
+    }
+
+    // 일괄 등록: 기술스택별 비트맵을 한 번에 만들어 기존 비트맵과 OR (지원자마다 복사하지 않음)
+    public void addAll(Map<Long, List<Long>> techStackIdsByApplicant) {
+        Map<Long, List<Integer>> idsByTechStack = new HashMap<>();
+        int[] applicantIds = new int[techStackIdsByApplicant.size()];
+        int i = 0;
+        for (Map.Entry<Long, List<Long>> entry : techStackIdsByApplicant.entrySet()) {
+            int id = toInt(entry.getKey());
+            applicantIds[i++] = id;
+            for (Long techStackId : entry.getValue()) {
+                idsByTechStack.computeIfAbsent(techStackId, key -> new ArrayList<>()).add(id);
+            }
+        }
+        // 비트맵은 잠금 밖에서 만들고 잠금 안에서는 OR만
+        Map<Long, CompressedBitmap> addedByTechStack = new HashMap<>();
+        for (Map.Entry<Long, List<Integer>> entry : idsByTechStack.entrySet()) {
+            addedByTechStack.put(entry.getKey(), CompressedBitmap.of(entry.getValue().stream().mapToInt(Integer::intValue).toArray()));
+        }
+        CompressedBitmap addedApplicants = CompressedBitmap.of(applicantIds);
+        update(current -> {
+            Map<Long, CompressedBitmap> updated = new HashMap<>(current.byTechStack);
+            for (Map.Entry<Long, CompressedBitmap> entry : addedByTechStack.entrySet()) {
+                updated.put(entry.getKey(), updated.getOrDefault(entry.getKey(), CompressedBitmap.EMPTY).or(entry.getValue()));
+            }
+            return new Snapshot(updated, current.allApplicants.or(addedApplicants));
+        });
+    }
+
+    // 지원자-기술스택 연결 제거
+    public void removeTechStack(Long applicantId, Long techStackId) {
+        int id = toInt(applicantId);
+        update(current -> {
+            CompressedBitmap bitmap = current.byTechStack.get(techStackId);
+            if (bitmap == null) {
+                return current;
+            }
+            Map<Long, CompressedBitmap> updated = new HashMap<>(current.byTechStack);
+            updated.put(techStackId, bitmap.remove(id));
+            return new Snapshot(updated, current.allApplicants);
+        });
+    }
+
+    // 지원자 삭제 (모든 기술스택에서 제거)
+    public void removeApplicant(Long applicantId) {
+        int id = toInt(applicantId);
+        update(current -> {
+            Map<Long, CompressedBitmap> updated = new HashMap<>();
+            for (Map.Entry<Long, CompressedBitmap> entry : current.byTechStack.entrySet()) {
+                updated.put(entry.getKey(), entry.getValue().remove(id));
+            }
+            return new Snapshot(updated, current.allApplicants.remove(id));
+        });
+    }
+
+    // 변경을 현재 스냅샷에 적용하고, 재구성 중이면 새 스냅샷에 다시 적용하도록 기록
+    private synchronized void update(UnaryOperator<Snapshot> change) {
+        snapshot = change.apply(snapshot);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(change);
+        }
+    }
+
+    // allOf: 모두 보유, anyOf: 각 그룹에서 하나 이상 보유, noneOf: 하나도 보유하지 않음
+    public CompressedBitmap match(List<Long> allOf, List<List<Long>> anyOf, List<Long> noneOf) {
+        // 한 번만 읽어 두 값이 같은 시점의 것이 되도록 함
+        Snapshot current = snapshot;
+        Map<Long, CompressedBitmap> index = current.byTechStack;
+        CompressedBitmap result = current.allApplicants;
+
+        if (allOf != null) {
+            for (Long techStackId : allOf) {
+                result = result.and(index.getOrDefault(techStackId, CompressedBitmap.EMPTY));
+            }
+        }
+        if (anyOf != null) {
+            for (List<Long> group : anyOf) {
+                List<CompressedBitmap> bitmaps = new ArrayList<>();
+                for (Long techStackId : group) {
+                    bitmaps.add(index.getOrDefault(techStackId, CompressedBitmap.EMPTY));
+                }
+                result = result.and(CompressedBitmap.orAll(bitmaps));
+            }
+        }
+        if (noneOf != null) {
+            for (Long techStackId : noneOf) {
+                result = result.andNot(index.getOrDefault(techStackId, CompressedBitmap.EMPTY));
+            }
+        }
+        return result;
+    }
+
+    // 특정 기술스택 보유 지원자 수
+    public int countByTechStack(Long techStackId) {
+        return snapshot.byTechStack.getOrDefault(techStackId, CompressedBitmap.EMPTY).cardinality();
+    }
+
+    private int toInt(Long applicantId) {
+        return Math.toIntExact(applicantId);
+    }
+
+    // 인덱스 한 시점 (생성 후 바꾸지 않음)
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), CompressedBitmap.EMPTY);
+
+        final Map<Long, CompressedBitmap> byTechStack;
+        final CompressedBitmap allApplicants;
+
+        Snapshot(Map<Long, CompressedBitmap> byTechStack, CompressedBitmap allApplicants) {
+            this.byTechStack = Collections.unmodifiableMap(byTechStack);
+            this.allApplicants = allApplicants;
+        }
+    }
+}
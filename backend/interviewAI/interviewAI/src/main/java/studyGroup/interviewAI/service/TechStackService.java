@@ -10,24 +10,31 @@ import java.util.Optional;
 @Service
 public class TechStackService {
     private final TechStackRepository techStackRepository;
+    private final ReferenceCatalog referenceCatalog;
 
-    public TechStackService(TechStackRepository techStackRepository) {
+    public TechStackService(TechStackRepository techStackRepository, ReferenceCatalog referenceCatalog) {
         this.techStackRepository = techStackRepository;
+        this.referenceCatalog = referenceCatalog;
     }
 
+    // 조회는 참조 데이터 카탈로그에서
     public List<TechStack> findAll() {
-        return techStackRepository.findAll();
+        return referenceCatalog.getTechStacks();
     }
 
     public Optional<TechStack> findById(Long id) {
-        return techStackRepository.findById(id);
+        return referenceCatalog.findTechStack(id);
     }
 
+    // 쓰기 후 카탈로그 갱신
     public TechStack save(TechStack techStack) {
-        return techStackRepository.save(techStack);
+        TechStack savedTechStack = techStackRepository.save(techStack);
+        referenceCatalog.refreshTechStacks();
+        return savedTechStack;
     }
 
     public void deleteById(Long id) {
         techStackRepository.deleteById(id);
+        referenceCatalog.refreshTechStacks();
     }
 } 
\ No newline at end of file
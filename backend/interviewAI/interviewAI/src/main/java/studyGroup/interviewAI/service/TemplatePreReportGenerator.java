@@ -0,0 +1,66 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.stereotype.Component;
+import studyGroup.interviewAI.entity.TechStack;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 모델 없이 경력/프로젝트 데이터만으로 만드는 결정적 사전 리포트
+// 같은 입력이면 항상 같은 문장이 나오므로 테스트와 처리량 측정에 사용한다.
+@Component
+public class TemplatePreReportGenerator implements PreReportGenerator {
+    private static final int TOP_TECH_STACKS = 5;
+
+    @Override
+    public String generate(Long applicantId, Map<String, Object> preReportData) {
+        List<Map<String, Object>> workHistories = list(preReportData.get("workHistories"));
+        List<Map<String, Object>> projectHistories = list(preReportData.get("projectHistories"));
+
+        List<String> companies = new ArrayList<>();
+        for (Map<String, Object> workHistory : workHistories) {
+            if (workHistory.get("companyName") != null) {
+                companies.add(workHistory.get("companyName").toString());
+            }
+        }
+
+        // 프로젝트에서 많이 쓴 기술스택 순 (같으면 이름순)
+        Map<String, Integer> techStackCounts = new LinkedHashMap<>();
+        for (Map<String, Object> projectHistory : projectHistories) {
+            Object techStacks = projectHistory.get("techStacks");
+            if (techStacks instanceof List) {
+                for (Object techStack : (List<?>) techStacks) {
+                    if (techStack instanceof TechStack && ((TechStack) techStack).getTitle() != null) {
+                        techStackCounts.merge(((TechStack) techStack).getTitle(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        List<String> topTechStacks = techStackCounts.entrySet().stream()
+            .sorted((a, b) -> a.getValue().equals(b.getValue())
+                ? a.getKey().compareTo(b.getKey())
+                : Integer.compare(b.getValue(), a.getValue()))
+            .limit(TOP_TECH_STACKS)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+        StringBuilder description = new StringBuilder();
+        description.append("경력 ").append(workHistories.size()).append("건");
+        if (!companies.isEmpty()) {
+            description.append(" (").append(String.join(", ", companies)).append(")");
+        }
+        description.append(", 프로젝트 ").append(projectHistories.size()).append("건");
+        if (!topTechStacks.isEmpty()) {
+            description.append(". 주요 기술스택: ").append(String.join(", ", topTechStacks));
+        }
+        description.append(".");
+        return description.toString();
+    }
+
+    private List<Map<String, Object>> list(Object value) {
+        return value instanceof List ? (List<Map<String, Object>>) value : new ArrayList<>();
+    }
+}
@@ -0,0 +1,409 @@
+package studyGroup.interviewAI.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyGroup.interviewAI.entity.ThroughputMetric;
+import studyGroup.interviewAI.entity.ThroughputRollup;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+import studyGroup.interviewAI.repository.ThroughputRollupRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 지원서 접수 / 면접 완료 처리량 일 단위 집계
+// 등록/완료 이벤트로 증분 갱신하고, 재집계는 원본 테이블을 ID 순 청크로 읽어 다시 만든다.
+// 재집계 중 도착한 증분은 모아 두었다가 교체 후 스캔에서 세지 않은 행만 반영하고,
+// 스캔이 센 지원자/면접 ID는 기억해 두어 늦게 도착한 같은 행의 이벤트를 다시 세지 않는다.
+// 조회는 집계 테이블만 사용한다.
+@Service
+public class ThroughputRollupService {
+    private static final int MAX_RANGE_DAYS = 3660;
+
+    private final ThroughputRollupRepository throughputRollupRepository;
+    private final ApplicantRepository applicantRepository;
+    private final InterviewRepository interviewRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int backfillChunkSize;
+
+    // 행 단위 upsert의 중복 insert 방지 (증분끼리만 잡음, 재집계 스캔 동안 잡지 않음)
+    private final Object upsertLock = new Object();
+    // 재집계끼리 직렬화 (요청 스레드는 잡지 않음)
+    private final Object backfillLock = new Object();
+    // 재집계 중 도착한 증분 (null이면 재집계 중 아님) - pendingLock으로 보호
+    // 재집계 중이 아닐 때의 증분 반영도 이 잠금 안에서 해, 반영 도중 재집계가 시작되지 않게 함
+    private final Object pendingLock = new Object();
+    private List<PendingIncrement> pendingDuringBackfill;
+    // 마지막 재집계가 센 행 ID
+    private volatile Coverage coverage = Coverage.NONE;
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "throughput-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ThroughputRollupService(ThroughputRollupRepository throughputRollupRepository,
+                                   ApplicantRepository applicantRepository,
+                                   InterviewRepository interviewRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${dashboard.throughput.backfill-chunk-size:1000}") int backfillChunkSize) {
+        this.throughputRollupRepository = throughputRollupRepository;
+        this.applicantRepository = applicantRepository;
+        this.interviewRepository = interviewRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    // 집계 테이블이 비어 있으면 시작 시 재집계
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!throughputRollupRepository.existsByMetric(ThroughputMetric.APPLICATIONS)
+            && !throughputRollupRepository.existsByMetric(ThroughputMetric.INTERVIEWS_COMPLETED)) {
+            startBackfill();
+        }
+    }
+
+    // 지원자 등록 / 면접 완료 시 해당 날짜·포지션 집계 증가
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardEvent(DashboardEvent event) {
+        if (event.getType() == DashboardEvent.Type.APPLICANT_REGISTERED && event.getApplicantId() != null) {
+            List<Object[]> rows = applicantRepository.findApplyAtAndPositionIdById(event.getApplicantId());
+            if (!rows.isEmpty() && rows.get(0)[0] != null) {
+                record(new PendingIncrement(ThroughputMetric.APPLICATIONS, event.getApplicantId(),
+                    ((LocalDateTime) rows.get(0)[0]).toLocalDate(), (Long) rows.get(0)[1]));
+            }
+        } else if (event.getType() == DashboardEvent.Type.INTERVIEW_COMPLETED && event.getInterviewId() != null) {
+            List<Object[]> rows = interviewRepository.findDoneAtAndPositionIdById(event.getInterviewId());
+            if (!rows.isEmpty() && rows.get(0)[0] != null) {
+                record(new PendingIncrement(ThroughputMetric.INTERVIEWS_COMPLETED, event.getInterviewId(),
+                    ((LocalDateTime) rows.get(0)[0]).toLocalDate(), (Long) rows.get(0)[1]));
+            }
+        } else if (event.getType() == DashboardEvent.Type.APPLICANTS_IMPORTED) {
+            // 일괄 등록은 이벤트에 담긴 지원일/포지션으로 반영 (행마다 조회하지 않음)
+            List<PendingIncrement> increments = new ArrayList<>();
+            for (DashboardEvent.ImportedApplicant applicant : event.getImportedApplicants()) {
+                if (applicant.getApplyDate() != null) {
+                    increments.add(new PendingIncrement(ThroughputMetric.APPLICATIONS, applicant.getApplicantId(),
+                        applicant.getApplyDate(), applicant.getPositionId()));
+                }
+            }
+            recordAll(increments);
+        }
+    }
+
+    // 재집계 작업 시작 (이미 실행 중이면 false)
+    public boolean startBackfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        backfillExecutor.execute(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                System.err.println("처리량 재집계 실패: " + e.getMessage());
+            } finally {
+                backfillRunning.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isBackfillRunning() {
+        return backfillRunning.get();
+    }
+
+    // 원본 테이블을 청크 단위로 읽어 두 지표를 다시 집계
+    // 스캔 동안 증분은 대기하지 않고 pendingDuringBackfill에 쌓이며, 교체 후 스캔에서 세지 않은 행만 반영된다.
+    public void backfill() {
+        synchronized (backfillLock) {
+            long startedAt = System.currentTimeMillis();
+            synchronized (pendingLock) {
+                pendingDuringBackfill = new ArrayList<>();
+            }
+            try {
+                Map<LocalDate, Map<Long, Long>> applications = new HashMap<>();
+                IdCollector applicantIds = new IdCollector();
+                Long afterId = 0L;
+                while (true) {
+                    List<Object[]> chunk = applicantRepository.findApplyAtChunk(afterId, PageRequest.of(0, backfillChunkSize));
+                    for (Object[] row : chunk) {
+                        if (row[1] != null) {
+                            accumulate(applications, ((LocalDateTime) row[1]).toLocalDate(), (Long) row[2]);
+                            applicantIds.add((Long) row[0]);
+                        }
+                    }
+                    if (chunk.size() < backfillChunkSize) {
+                        break;
+                    }
+                    afterId = (Long) chunk.get(chunk.size() - 1)[0];
+                }
+
+                Map<LocalDate, Map<Long, Long>> interviews = new HashMap<>();
+                IdCollector interviewIds = new IdCollector();
+                afterId = 0L;
+                while (true) {
+                    List<Object[]> chunk = interviewRepository.findDoneAtChunk(afterId, PageRequest.of(0, backfillChunkSize));
+                    for (Object[] row : chunk) {
+                        accumulate(interviews, ((LocalDateTime) row[1]).toLocalDate(), (Long) row[2]);
+                        interviewIds.add((Long) row[0]);
+                    }
+                    if (chunk.size() < backfillChunkSize) {
+                        break;
+                    }
+                    afterId = (Long) chunk.get(chunk.size() - 1)[0];
+                }
+
+                // 교체 중에도 증분은 pendingDuringBackfill로 가므로 upsert와 겹치지 않음
+                requiresNewTransaction.executeWithoutResult(status -> {
+                    replace(ThroughputMetric.APPLICATIONS, applications);
+                    replace(ThroughputMetric.INTERVIEWS_COMPLETED, interviews);
+                });
+                coverage = new Coverage(applicantIds.toBitmap(), interviewIds.toBitmap());
+            } finally {
+                // 실패했으면 기존 집계/기존 coverage 기준으로 반영
+                List<PendingIncrement> pending;
+                synchronized (pendingLock) {
+                    pending = pendingDuringBackfill;
+                    pendingDuringBackfill = null;
+                }
+                applyAll(pending);
+            }
+
+            System.out.println("✅ 처리량 재집계 완료 (" + (System.currentTimeMillis() - startedAt) + "ms)");
+        }
+    }
+
+    // 기간별 처리량 조회 (집계 테이블만 사용, granularity: DAY 또는 WEEK)
+    public Map<String, Object> getThroughput(ThroughputMetric metric, LocalDate from, LocalDate to,
+                                             String granularity, Long positionId) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: " + from + " > " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간이 너무 깁니다: " + from + " ~ " + to);
+        }
+        if (!"DAY".equalsIgnoreCase(granularity) && !"WEEK".equalsIgnoreCase(granularity)) {
+            throw new IllegalArgumentException("granularity는 DAY 또는 WEEK만 가능합니다: " + granularity);
+        }
+        boolean weekly = "WEEK".equalsIgnoreCase(granularity);
+
+        List<ThroughputRollup> rollups = positionId != null
+            ? throughputRollupRepository.findByMetricAndPositionIdAndBucketDateBetweenOrderByBucketDate(metric, positionId, from, to)
+            : throughputRollupRepository.findByMetricAndBucketDateBetweenOrderByBucketDate(metric, from, to);
+
+        // 구간 시작일 -> (포지션 ID -> 건수), 빈 구간도 0으로 채움
+        TreeMap<LocalDate, Map<Long, Long>> buckets = new TreeMap<>();
+        LocalDate bucket = weekly ? toWeekStart(from) : from;
+        while (!bucket.isAfter(to)) {
+            buckets.put(bucket, new HashMap<>());
+            bucket = weekly ? bucket.plusWeeks(1) : bucket.plusDays(1);
+        }
+        for (ThroughputRollup rollup : rollups) {
+            LocalDate key = weekly ? toWeekStart(rollup.getBucketDate()) : rollup.getBucketDate();
+            buckets.computeIfAbsent(key, date -> new HashMap<>())
+                .merge(rollup.getPositionId(), rollup.getEventCount(), Long::sum);
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<LocalDate, Map<Long, Long>> entry : buckets.entrySet()) {
+            long bucketTotal = entry.getValue().values().stream().mapToLong(Long::longValue).sum();
+            total += bucketTotal;
+            Map<String, Object> point = new HashMap<>();
+            point.put("bucket", entry.getKey());
+            point.put("count", bucketTotal);
+            point.put("byPosition", entry.getValue());
+            series.add(point);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("metric", metric);
+        result.put("granularity", weekly ? "WEEK" : "DAY");
+        result.put("from", from);
+        result.put("to", to);
+        result.put("positionId", positionId);
+        result.put("total", total);
+        result.put("series", series);
+        return result;
+    }
+
+    // 재집계 중이면 쌓아 두고, 아니면 바로 반영
+    // 판단과 반영을 한 잠금 안에서 하므로 재집계는 이 upsert가 커밋된 뒤에 스캔을 시작하고,
+    // 옛 coverage로 통과한 증분이 교체된 집계에 한 번 더 더해지는 일이 없음
+    private void record(PendingIncrement increment) {
+        synchronized (pendingLock) {
+            if (pendingDuringBackfill != null) {
+                pendingDuringBackfill.add(increment);
+                return;
+            }
+            apply(increment);
+        }
+    }
+
+    private void recordAll(List<PendingIncrement> increments) {
+        synchronized (pendingLock) {
+            if (pendingDuringBackfill != null) {
+                pendingDuringBackfill.addAll(increments);
+                return;
+            }
+            applyAll(increments);
+        }
+    }
+
+    // 여러 건은 (지표, 날짜, 포지션)별로 합쳐 한 트랜잭션에서 upsert
+    private void applyAll(List<PendingIncrement> increments) {
+        if (increments.size() == 1) {
+            apply(increments.get(0));
+            return;
+        }
+        Map<ThroughputMetric, Map<LocalDate, Map<Long, Long>>> deltas = new HashMap<>();
+        for (PendingIncrement increment : increments) {
+            if (!coverage.covers(increment.metric, increment.rowId)) {
+                accumulate(deltas.computeIfAbsent(increment.metric, metric -> new HashMap<>()),
+                    increment.bucketDate, increment.positionId);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        synchronized (upsertLock) {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                for (Map.Entry<ThroughputMetric, Map<LocalDate, Map<Long, Long>>> metric : deltas.entrySet()) {
+                    for (Map.Entry<LocalDate, Map<Long, Long>> day : metric.getValue().entrySet()) {
+                        for (Map.Entry<Long, Long> position : day.getValue().entrySet()) {
+                            upsert(metric.getKey(), day.getKey(), position.getKey(), position.getValue());
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    // 마지막 재집계가 이미 센 행이면 무시
+    private void apply(PendingIncrement increment) {
+        if (coverage.covers(increment.metric, increment.rowId)) {
+            return;
+        }
+        increment(increment.metric, increment.bucketDate, increment.positionId, 1);
+    }
+
+    private void increment(ThroughputMetric metric, LocalDate bucketDate, Long positionId, long delta) {
+        synchronized (upsertLock) {
+            requiresNewTransaction.executeWithoutResult(status -> upsert(metric, bucketDate, positionId, delta));
+        }
+    }
+
+    private void upsert(ThroughputMetric metric, LocalDate bucketDate, Long positionId, long delta) {
+        int updated = throughputRollupRepository.addToCount(metric, bucketDate, positionId, delta);
+        if (updated == 0) {
+            throughputRollupRepository.save(newRollup(metric, bucketDate, positionId, delta));
+        }
+    }
+
+    private void replace(ThroughputMetric metric, Map<LocalDate, Map<Long, Long>> aggregates) {
+        throughputRollupRepository.deleteByMetric(metric);
+        List<ThroughputRollup> rollups = new ArrayList<>();
+        for (Map.Entry<LocalDate, Map<Long, Long>> day : aggregates.entrySet()) {
+            for (Map.Entry<Long, Long> position : day.getValue().entrySet()) {
+                rollups.add(newRollup(metric, day.getKey(), position.getKey(), position.getValue()));
+            }
+        }
+        throughputRollupRepository.saveAll(rollups);
+    }
+
+    private void accumulate(Map<LocalDate, Map<Long, Long>> aggregates, LocalDate date, Long positionId) {
+        aggregates.computeIfAbsent(date, d -> new HashMap<>()).merge(positionId, 1L, Long::sum);
+    }
+
+    private ThroughputRollup newRollup(ThroughputMetric metric, LocalDate bucketDate, Long positionId, Long count) {
+        ThroughputRollup rollup = new ThroughputRollup();
+        rollup.setMetric(metric);
+        rollup.setBucketDate(bucketDate);
+        rollup.setPositionId(positionId);
+        rollup.setEventCount(count);
+        return rollup;
+    }
+
+    private LocalDate toWeekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // 재집계 중 도착한 증분 한 건 (지표, 원본 행 ID, 날짜, 포지션)
+    private static class PendingIncrement {
+        final ThroughputMetric metric;
+        final Long rowId;
+        final LocalDate bucketDate;
+        final Long positionId;
+
+        PendingIncrement(ThroughputMetric metric, Long rowId, LocalDate bucketDate, Long positionId) {
+            this.metric = metric;
+            this.rowId = rowId;
+            this.bucketDate = bucketDate;
+            this.positionId = positionId;
+        }
+    }
+
+    // 재집계가 센 지원자/면접 ID (압축 비트맵)
+    // 시퀀스 ID는 커밋 순서와 다르고 면접 완료는 ID 순이 아니므로 최대 ID 대신 ID 집합으로 판별
+    private static class Coverage {
+        static final Coverage NONE = new Coverage(CompressedBitmap.EMPTY, CompressedBitmap.EMPTY);
+
+        final CompressedBitmap applicantIds;
+        final CompressedBitmap interviewIds;
+
+        Coverage(CompressedBitmap applicantIds, CompressedBitmap interviewIds) {
+            this.applicantIds = applicantIds;
+            this.interviewIds = interviewIds;
+        }
+
+        boolean covers(ThroughputMetric metric, Long rowId) {
+            if (rowId == null || rowId < 0 || rowId > Integer.MAX_VALUE) {
+                return false;
+            }
+            CompressedBitmap ids = metric == ThroughputMetric.APPLICATIONS ? applicantIds : interviewIds;
+            return ids.contains(rowId.intValue());
+        }
+    }
+
+    // 스캔 중 ID 수집 (int 범위를 넘는 ID는 coverage에서 제외)
+    private static class IdCollector {
+        private int[] ids = new int[1024];
+        private int size;
+
+        void add(Long id) {
+            if (id == null || id < 0 || id > Integer.MAX_VALUE) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id.intValue();
+        }
+
+        CompressedBitmap toBitmap() {
+            return CompressedBitmap.of(Arrays.copyOf(ids, size));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package studyGroup.interviewAI.service;
+
+import java.util.List;
+import java.util.Map;
+
+// LLM 요청 크기 추정용 대략적인 토큰 계산기
+// 영문/숫자는 4글자당 1토큰, 한글 등 비ASCII 문자는 글자당 1토큰, 메시지마다 고정 오버헤드를 더한다.
+// 실제 토크나이저보다 약간 크게 잡히도록 보수적으로 계산한다.
+public final class TokenEstimator {
+    public static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int asciiChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                asciiChars++;
+            } else if (!Character.isLowSurrogate(c)) {
+                otherChars++;
+            }
+        }
+        return (asciiChars + 3) / 4 + otherChars;
+    }
+
+    public static int estimate(Map<String, String> message) {
+        return MESSAGE_OVERHEAD_TOKENS + estimate(message.get("content"));
+    }
+
+    public static int estimate(List<Map<String, String>> messages) {
+        int total = 0;
+        for (Map<String, String> message : messages) {
+            total += estimate(message);
+        }
+        return total;
+    }
+
+    // 앞에서부터 잘라 maxTokens 안에 들어가는 가장 긴 꼬리를 반환 (최근 내용 우선)
+    public static String keepTail(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+        int tokens = 0;
+        int asciiRun = 0;
+        int start = text.length();
+        while (start > 0) {
+            char c = text.charAt(start - 1);
+            int cost;
+            if (c < 0x80) {
+                cost = asciiRun % 4 == 0 ? 1 : 0;
+                asciiRun++;
+            } else {
+                cost = Character.isLowSurrogate(c) ? 0 : 1;
+            }
+            if (tokens + cost > maxTokens) {
+                break;
+            }
+            tokens += cost;
+            start--;
+        }
+        // 서로게이트 쌍이 잘리지 않도록
+        if (start < text.length() && Character.isLowSurrogate(text.charAt(start))) {
+            start++;
+        }
+        return text.substring(start);
+    }
+}
@@ -1,12 +1,13 @@
 package studyGroup.interviewAI.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import studyGroup.interviewAI.entity.WorkHistory;
 import studyGroup.interviewAI.entity.Applicant;
 import studyGroup.interviewAI.entity.Position;
+import studyGroup.interviewAI.event.ApplicantProfileChangedEvent;
 import studyGroup.interviewAI.repository.WorkHistoryRepository;
 import studyGroup.interviewAI.repository.ApplicantRepository;
-import studyGroup.interviewAI.repository.PositionRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,14 +16,17 @@ import java.util.Optional;
 public class WorkHistoryService {
     private final WorkHistoryRepository workHistoryRepository;
     private final ApplicantRepository applicantRepository;
-    private final PositionRepository positionRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WorkHistoryService(WorkHistoryRepository workHistoryRepository,
                             ApplicantRepository applicantRepository,
-                            PositionRepository positionRepository) {
+                            ReferenceCatalog referenceCatalog,
+                            ApplicationEventPublisher eventPublisher) {
         this.workHistoryRepository = workHistoryRepository;
         this.applicantRepository = applicantRepository;
-        this.positionRepository = positionRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<WorkHistory> findAll() {
@@ -43,16 +47,21 @@ public class WorkHistoryService {
         
         // Position 관계 설정
         if (workHistory.getPosition() != null && workHistory.getPosition().getId() != null) {
-            Position position = positionRepository.findById(workHistory.getPosition().getId())
-                .orElseThrow(() -> new RuntimeException("Position not found: " + workHistory.getPosition().getId()));
+            Position position = referenceCatalog.getPosition(workHistory.getPosition().getId());
             workHistory.setPosition(position);
         }
         
-        return workHistoryRepository.save(workHistory);
+        WorkHistory savedWorkHistory = workHistoryRepository.save(workHistory);
+        if (savedWorkHistory.getApplicant() != null) {
+            eventPublisher.publishEvent(new ApplicantProfileChangedEvent(savedWorkHistory.getApplicant().getId()));
+        }
+        return savedWorkHistory;
     }
 
     public void deleteById(Long id) {
+        Optional<Long> applicantId = workHistoryRepository.findApplicantIdById(id);
         workHistoryRepository.deleteById(id);
+        applicantId.ifPresent(applicant -> eventPublisher.publishEvent(new ApplicantProfileChangedEvent(applicant)));
     }
 
     // 특정 지원자의 경력 조회
@@ -0,0 +1,205 @@
+package studyGroup.interviewAI.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import studyGroup.interviewAI.entity.FileUpload;
+import studyGroup.interviewAI.service.DocumentTextService;
+import studyGroup.interviewAI.service.FileUploadService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 파일 다운로드: 단일 Range(접미사/EOF 초과/여러 범위), If-Range, 304 판단 순서, inline/첨부와 nosniff
+class FileControllerTests {
+
+	private static final long FILE_ID = 1L;
+	private static final String SHA256 = "abc123";
+	private static final String ETAG = "\"" + SHA256 + "\"";
+	private static final Instant LAST_MODIFIED = Instant.parse("2026-01-02T03:04:05Z");
+	private static final String CONTENT = "0123456789".repeat(10);
+
+	private final FileUploadService fileUploadService = mock(FileUploadService.class);
+	private final FileController fileController = new FileController(fileUploadService, mock(DocumentTextService.class));
+	private FileUpload fileUpload;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Path file = tempDir.resolve("stored.bin");
+		Files.writeString(file, CONTENT, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+		fileUpload = new FileUpload();
+		fileUpload.setId(FILE_ID);
+		fileUpload.setFilePath(file.toString());
+		fileUpload.setOriginalFileName("이력서.pdf");
+		fileUpload.setFileType("pdf");
+		fileUpload.setSha256(SHA256);
+		when(fileUploadService.findById(FILE_ID)).thenReturn(Optional.of(fileUpload));
+	}
+
+	@Test
+	void servesSafeTypesInlineWithNosniff() throws Exception {
+		MockHttpServletResponse response = download(new MockHttpServletRequest("GET", "/api/files/1"));
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).isEqualTo("application/pdf");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("inline;");
+		assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+		assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+		assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void servesUnsafeTypesAsOctetStreamAttachment() throws Exception {
+		fileUpload.setFileType("html");
+		fileUpload.setOriginalFileName("portfolio.html");
+
+		MockHttpServletResponse response = download(new MockHttpServletRequest("GET", "/api/files/1"));
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment;");
+		assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+	}
+
+	@Test
+	void servesSuffixRanges() throws Exception {
+		MockHttpServletResponse last = download(withRange("bytes=-10"));
+		assertThat(last.getStatus()).isEqualTo(206);
+		assertThat(last.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 90-99/100");
+		assertThat(last.getContentAsString()).isEqualTo(CONTENT.substring(90));
+
+		// 파일보다 긴 접미사는 전체
+		MockHttpServletResponse longer = download(withRange("bytes=-500"));
+		assertThat(longer.getStatus()).isEqualTo(206);
+		assertThat(longer.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-99/100");
+		assertThat(longer.getContentAsString()).isEqualTo(CONTENT);
+
+		assertThat(download(withRange("bytes=-0")).getStatus()).isEqualTo(416);
+	}
+
+	@Test
+	void clampsEndPastEofAndRejectsStartPastEof() throws Exception {
+		MockHttpServletResponse clamped = download(withRange("bytes=95-200"));
+		assertThat(clamped.getStatus()).isEqualTo(206);
+		assertThat(clamped.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 95-99/100");
+		assertThat(clamped.getContentAsString()).isEqualTo("56789");
+
+		MockHttpServletResponse unsatisfiable = download(withRange("bytes=100-"));
+		assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+		assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */100");
+		assertThat(unsatisfiable.getContentAsString()).isEmpty();
+	}
+
+	@Test
+	void fallsBackToFullResponseForMultipleOrMalformedRanges() throws Exception {
+		for (String range : new String[]{"bytes=0-1,5-6", "bytes=5-2", "bytes=abc", "items=0-1"}) {
+			MockHttpServletResponse response = download(withRange(range));
+
+			assertThat(response.getStatus()).as(range).isEqualTo(200);
+			assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isNull();
+			assertThat(response.getContentAsString()).as(range).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void appliesRangeOnlyWhenIfRangeEtagMatches() throws Exception {
+		MockHttpServletRequest matching = withRange("bytes=0-9");
+		matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+		MockHttpServletRequest stale = withRange("bytes=0-9");
+		stale.addHeader(HttpHeaders.IF_RANGE, "\"old-hash\"");
+
+		assertThat(download(matching).getStatus()).isEqualTo(206);
+		MockHttpServletResponse full = download(stale);
+		assertThat(full.getStatus()).isEqualTo(200);
+		assertThat(full.getContentAsString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void appliesRangeOnlyWhenIfRangeDateMatches() throws Exception {
+		MockHttpServletRequest matching = withRange("bytes=0-9");
+		matching.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+		MockHttpServletRequest older = withRange("bytes=0-9");
+		older.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED.minusSeconds(60)));
+		MockHttpServletRequest malformed = withRange("bytes=0-9");
+		malformed.addHeader(HttpHeaders.IF_RANGE, "yesterday");
+
+		assertThat(download(matching).getStatus()).isEqualTo(206);
+		assertThat(download(older).getStatus()).isEqualTo(200);
+		assertThat(download(malformed).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void ifNoneMatchTakesPrecedenceOverIfModifiedSince() throws Exception {
+		// ETag가 같으면 If-Modified-Since가 더 오래돼도 304
+		MockHttpServletRequest matching = new MockHttpServletRequest("GET", "/api/files/1");
+		matching.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG);
+		matching.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED.minusSeconds(3600)));
+		MockHttpServletResponse notModified = download(matching);
+		assertThat(notModified.getStatus()).isEqualTo(304);
+		assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+		assertThat(notModified.getContentAsString()).isEmpty();
+
+		// ETag가 다르면 If-Modified-Since가 최신이어도 전체 응답
+		MockHttpServletRequest changed = new MockHttpServletRequest("GET", "/api/files/1");
+		changed.addHeader(HttpHeaders.IF_NONE_MATCH, "\"old-hash\"");
+		changed.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED));
+		assertThat(download(changed).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void usesIfModifiedSinceWithoutIfNoneMatch() throws Exception {
+		MockHttpServletRequest current = new MockHttpServletRequest("GET", "/api/files/1");
+		current.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED));
+		MockHttpServletRequest older = new MockHttpServletRequest("GET", "/api/files/1");
+		older.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED.minusSeconds(1)));
+
+		assertThat(download(current).getStatus()).isEqualTo(304);
+		assertThat(download(older).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void headReturnsHeadersWithoutBody() throws Exception {
+		MockHttpServletRequest head = new MockHttpServletRequest("HEAD", "/api/files/1");
+		head.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+		MockHttpServletResponse response = download(head);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getContentLengthLong()).isEqualTo(10);
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
+	private MockHttpServletResponse download(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		fileController.download(FILE_ID, request, response);
+		return response;
+	}
+
+	private static MockHttpServletRequest withRange(String range) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/1");
+		request.addHeader(HttpHeaders.RANGE, range);
+		return request;
+	}
+
+	private static String httpDate(Instant instant) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atZone(ZoneOffset.UTC));
+	}
+}
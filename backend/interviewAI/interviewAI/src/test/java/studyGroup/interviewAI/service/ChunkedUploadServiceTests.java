@@ -0,0 +1,117 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 청크 업로드: 순서 무관 전송, 재시작 후 이어 받기, 같은 청크 재전송
+class ChunkedUploadServiceTests {
+
+	private static final int CHUNK_SIZE = 1024;
+	private static final int TOTAL_SIZE = CHUNK_SIZE * 3 + 100;
+
+	@TempDir
+	Path tempDir;
+
+	private byte[] payload;
+
+	@BeforeEach
+	void setUp() {
+		payload = new byte[TOTAL_SIZE];
+		new Random(7).nextBytes(payload);
+	}
+
+	@Test
+	void acceptsChunksOutOfOrder() throws Exception {
+		ChunkedUploadService service = newService();
+		String uploadId = (String) service.createSession("portfolio.pdf", TOTAL_SIZE).get("uploadId");
+
+		for (int index : new int[]{3, 1, 0, 2}) {
+			service.writeChunk(uploadId, index, chunk(index), null);
+		}
+
+		Map<String, Object> status = service.getStatus(uploadId);
+		assertThat(status.get("complete")).isEqualTo(true);
+		assertThat(status.get("receivedBytes")).isEqualTo((long) TOTAL_SIZE);
+		assertThat(partFile(uploadId)).isEqualTo(payload);
+	}
+
+	@Test
+	void resumesReceivedChunksAfterRestart() throws Exception {
+		ChunkedUploadService before = newService();
+		String uploadId = (String) before.createSession("portfolio.pdf", TOTAL_SIZE).get("uploadId");
+		before.writeChunk(uploadId, 0, chunk(0), null);
+		before.writeChunk(uploadId, 2, chunk(2), null);
+
+		// 같은 디렉토리로 새로 만들면 loadSessions로 메타를 다시 읽음
+		ChunkedUploadService after = newService();
+		assertThat(after.getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(1, 3));
+
+		after.writeChunk(uploadId, 1, chunk(1), null);
+		after.writeChunk(uploadId, 3, chunk(3), null);
+		assertThat(after.getStatus(uploadId).get("complete")).isEqualTo(true);
+		assertThat(partFile(uploadId)).isEqualTo(payload);
+	}
+
+	@Test
+	void resendOfSameChunkOverwritesAndFailedResendIsNotMarkedReceived() throws Exception {
+		ChunkedUploadService service = newService();
+		String uploadId = (String) service.createSession("portfolio.pdf", TOTAL_SIZE).get("uploadId");
+		service.writeChunk(uploadId, 1, chunk(1), sha256(slice(1)));
+		service.writeChunk(uploadId, 1, chunk(1), sha256(slice(1)));
+		assertThat(service.getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(0, 2, 3));
+
+		// 재전송이 중간에 끊기면 (크기 부족) 이전에 받은 표시도 지워져야 함
+		byte[] truncated = Arrays.copyOf(slice(1), CHUNK_SIZE / 2);
+		assertThatThrownBy(() -> service.writeChunk(uploadId, 1, new ByteArrayInputStream(truncated), null))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(service.getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(0, 1, 2, 3));
+		assertThat(newService().getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(0, 1, 2, 3));
+
+		// 체크섬이 틀린 재전송도 받은 것으로 표시하지 않음
+		assertThatThrownBy(() -> service.writeChunk(uploadId, 1, chunk(1), sha256(slice(0))))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(service.getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(0, 1, 2, 3));
+
+		service.writeChunk(uploadId, 1, chunk(1), sha256(slice(1)));
+		assertThat(service.getStatus(uploadId).get("missingChunks")).isEqualTo(List.of(0, 2, 3));
+	}
+
+	private ChunkedUploadService newService() throws IOException {
+		String baseDir = tempDir.resolve("uploads").toString();
+		return new ChunkedUploadService(new ContentAddressedFileStore(baseDir, CHUNK_SIZE), null,
+			baseDir, CHUNK_SIZE, 1024 * 1024, 86_400_000);
+	}
+
+	private byte[] slice(int index) {
+		int start = index * CHUNK_SIZE;
+		return Arrays.copyOfRange(payload, start, Math.min(start + CHUNK_SIZE, TOTAL_SIZE));
+	}
+
+	private InputStream chunk(int index) {
+		return new ByteArrayInputStream(slice(index));
+	}
+
+	private byte[] partFile(String uploadId) throws IOException {
+		return Files.readAllBytes(tempDir.resolve("uploads").resolve(".chunked").resolve(uploadId + ".part"));
+	}
+
+	private String sha256(byte[] bytes) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+	}
+}
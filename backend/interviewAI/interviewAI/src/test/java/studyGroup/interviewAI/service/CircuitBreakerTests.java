@@ -0,0 +1,109 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서킷 브레이커: 실패율로 열림, 시험 호출로 복구/재차단, 이전 상태에서 시작한 호출 결과 무시
+class CircuitBreakerTests {
+
+	private static final long OPEN_DURATION_MS = 50;
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		CircuitBreaker breaker = breaker(1);
+
+		breaker.onSuccess(breaker.tryAcquire());
+		breaker.onSuccess(breaker.tryAcquire());
+		breaker.onFailure(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		breaker.onFailure(breaker.tryAcquire());
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.getStats().get("shortCircuited")).isEqualTo(1L);
+	}
+
+	@Test
+	void recoversAfterAllHalfOpenProbesSucceed() throws Exception {
+		CircuitBreaker breaker = openedBreaker(2);
+		Thread.sleep(OPEN_DURATION_MS + 10);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		CircuitBreaker.Permit first = breaker.tryAcquire();
+		CircuitBreaker.Permit second = breaker.tryAcquire();
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		// 시험 호출 수를 넘는 요청은 차단
+		assertThat(breaker.tryAcquire()).isNull();
+
+		breaker.onSuccess(first);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		breaker.onSuccess(second);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.getStats().get("windowCalls")).isEqualTo(0);
+		assertThat(breaker.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void reopensWhenAProbeFails() throws Exception {
+		CircuitBreaker breaker = openedBreaker(1);
+		Thread.sleep(OPEN_DURATION_MS + 10);
+
+		breaker.onFailure(breaker.tryAcquire());
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+		assertThat(breaker.getStats().get("opened")).isEqualTo(2L);
+	}
+
+	@Test
+	void releasedProbeFreesItsSlot() throws Exception {
+		CircuitBreaker breaker = openedBreaker(1);
+		Thread.sleep(OPEN_DURATION_MS + 10);
+
+		CircuitBreaker.Permit cancelled = breaker.tryAcquire();
+		assertThat(breaker.tryAcquire()).isNull();
+		breaker.release(cancelled);
+
+		breaker.onSuccess(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void ignoresResultsOfCallsStartedBeforeTheStateChanged() throws Exception {
+		CircuitBreaker breaker = breaker(1);
+		// CLOSED 상태에서 시작해 늦게 끝나는 호출 두 개
+		CircuitBreaker.Permit slowSuccess = breaker.tryAcquire();
+		CircuitBreaker.Permit slowFailure = breaker.tryAcquire();
+		breaker.onFailure(breaker.tryAcquire());
+		breaker.onFailure(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		Thread.sleep(OPEN_DURATION_MS + 10);
+
+		CircuitBreaker.Permit probe = breaker.tryAcquire();
+		// 이전 세대의 성공은 시험 호출 성공으로 세지 않고, 실패도 서킷을 다시 열지 않음
+		breaker.onSuccess(slowSuccess);
+		breaker.onFailure(slowFailure);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+
+		breaker.onSuccess(probe);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.getStats().get("staleResults")).isEqualTo(2L);
+	}
+
+	// 최근 4회 중 2회 이상 호출됐고 실패율 50% 이상이면 차단
+	private CircuitBreaker breaker(int halfOpenProbes) {
+		return new CircuitBreaker(4, 2, 0.5, OPEN_DURATION_MS, halfOpenProbes);
+	}
+
+	private CircuitBreaker openedBreaker(int halfOpenProbes) {
+		CircuitBreaker breaker = breaker(halfOpenProbes);
+		breaker.onFailure(breaker.tryAcquire());
+		breaker.onFailure(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		return breaker;
+	}
+}
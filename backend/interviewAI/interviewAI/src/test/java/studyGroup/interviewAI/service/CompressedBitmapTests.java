@@ -0,0 +1,181 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// CompressedBitmap 집합 연산을 java.util.BitSet 결과와 비교
+// 배열↔비트맵 컨테이너 전환 경계(4096개)와 컨테이너 경계(65536)를 집중적으로 확인한다.
+class CompressedBitmapTests {
+
+	private static final int ARRAY_MAX = 4096;
+	private static final int CHUNK = 65536;
+
+	@Test
+	void addAndRemoveConvertBetweenArrayAndBitmapContainers() {
+		BitSet expected = new BitSet();
+		CompressedBitmap bitmap = CompressedBitmap.EMPTY;
+		// 배열 컨테이너를 4096개까지 채운 뒤 하나 더 넣어 비트맵으로 전환
+		for (int i = 0; i <= ARRAY_MAX; i++) {
+			bitmap = bitmap.add(i * 3);
+			expected.set(i * 3);
+		}
+		assertSameSet(bitmap, expected);
+
+		// 다시 하나 빼서 4096개 (배열로 돌아가야 하는 경계)
+		bitmap = bitmap.remove(0);
+		expected.clear(0);
+		assertSameSet(bitmap, expected);
+		bitmap = bitmap.add(0);
+		expected.set(0);
+		assertSameSet(bitmap, expected);
+
+		// 없는 값 제거 / 있는 값 추가는 그대로
+		assertThat(bitmap.remove(1)).isSameAs(bitmap);
+		assertThat(bitmap.add(3)).isSameAs(bitmap);
+
+		// 모두 제거하면 빈 비트맵
+		for (int i = 0; i <= ARRAY_MAX; i++) {
+			bitmap = bitmap.remove(i * 3);
+		}
+		assertThat(bitmap.isEmpty()).isTrue();
+		assertThat(bitmap.toArray()).isEmpty();
+	}
+
+	@Test
+	void valuesAroundChunkBoundaryLandInSeparateContainers() {
+		int[] values = {CHUNK - 2, CHUNK - 1, CHUNK, CHUNK + 1, 2 * CHUNK - 1, 2 * CHUNK, 0, 40 * CHUNK + 5};
+		CompressedBitmap bitmap = CompressedBitmap.of(values);
+		BitSet expected = bitSet(values);
+		assertSameSet(bitmap, expected);
+
+		CompressedBitmap removed = bitmap.remove(CHUNK).remove(CHUNK + 1);
+		expected.clear(CHUNK);
+		expected.clear(CHUNK + 1);
+		assertSameSet(removed, expected);
+		assertThat(removed.contains(CHUNK - 1)).isTrue();
+		assertThat(removed.contains(2 * CHUNK)).isTrue();
+	}
+
+	@Test
+	void ofMatchesIncrementalAddAcrossThreshold() {
+		for (int size : new int[]{ARRAY_MAX - 1, ARRAY_MAX, ARRAY_MAX + 1, CHUNK - 1, CHUNK}) {
+			int[] values = IntStream.range(0, size).map(i -> i * (CHUNK / Math.max(1, size)) % CHUNK).distinct().toArray();
+			CompressedBitmap built = CompressedBitmap.of(values);
+			CompressedBitmap added = CompressedBitmap.EMPTY;
+			for (int value : values) {
+				added = added.add(value);
+			}
+			assertSameSet(built, bitSet(values));
+			assertSameSet(added, bitSet(values));
+		}
+	}
+
+	@Test
+	void setOperationsMatchBitSetAcrossContainerKinds() {
+		Random random = new Random(20240611);
+		// 컨테이너당 원소 수: 희소 / 경계 바로 아래·위 / 밀집
+		int[] densities = {10, ARRAY_MAX - 1, ARRAY_MAX, ARRAY_MAX + 1, 30_000};
+		for (int round = 0; round < 40; round++) {
+			BitSet leftExpected = randomSet(random, densities);
+			BitSet rightExpected = randomSet(random, densities);
+			CompressedBitmap left = CompressedBitmap.of(leftExpected.stream().toArray());
+			CompressedBitmap right = CompressedBitmap.of(rightExpected.stream().toArray());
+			assertSameSet(left, leftExpected);
+			assertSameSet(right, rightExpected);
+
+			BitSet and = (BitSet) leftExpected.clone();
+			and.and(rightExpected);
+			assertSameSet(left.and(right), and);
+			assertSameSet(right.and(left), and);
+
+			BitSet or = (BitSet) leftExpected.clone();
+			or.or(rightExpected);
+			assertSameSet(left.or(right), or);
+			assertSameSet(CompressedBitmap.orAll(List.of(right, left)), or);
+
+			BitSet andNot = (BitSet) leftExpected.clone();
+			andNot.andNot(rightExpected);
+			assertSameSet(left.andNot(right), andNot);
+
+			// 결과를 다시 연산에 넣어 전환된 컨테이너끼리도 확인
+			BitSet mixed = (BitSet) or.clone();
+			mixed.andNot(and);
+			assertSameSet(left.or(right).andNot(left.and(right)), mixed);
+		}
+	}
+
+	@Test
+	void andOfDenseBitmapsCanShrinkToArrayAndOrOfArraysCanGrowToBitmap() {
+		// 비트맵 컨테이너 둘(짝수 / 3의 배수)의 교집합은 6의 배수 → 원소 수가 경계를 오감
+		int[] evens = IntStream.range(0, CHUNK / 2).map(i -> i * 2).toArray();
+		int[] threes = IntStream.range(0, CHUNK / 3).map(i -> i * 3).toArray();
+		CompressedBitmap evensBitmap = CompressedBitmap.of(evens);
+		CompressedBitmap threesBitmap = CompressedBitmap.of(threes);
+		assertSameSet(evensBitmap.and(threesBitmap), bitSet(IntStream.range(0, CHUNK).filter(v -> v % 6 == 0).toArray()));
+
+		// 원소 2048개 배열 컨테이너 셋의 합집합 → 4097개 이상이면 비트맵
+		int[] a = IntStream.range(0, 2048).map(i -> i * 7).toArray();
+		int[] b = IntStream.range(0, 2048).map(i -> i * 7 + 1).toArray();
+		int[] c = IntStream.range(0, 2048).map(i -> i * 7 + 2).toArray();
+		CompressedBitmap union = CompressedBitmap.of(a).or(CompressedBitmap.of(b)).or(CompressedBitmap.of(c));
+		BitSet expected = bitSet(a);
+		expected.or(bitSet(b));
+		expected.or(bitSet(c));
+		assertSameSet(union, expected);
+
+		// 합집합에서 대부분을 빼서 다시 배열 크기로
+		assertSameSet(union.andNot(CompressedBitmap.of(b)).andNot(CompressedBitmap.of(c)), bitSet(a));
+	}
+
+	@Test
+	void toArrayWithLimitReturnsSmallestValues() {
+		int[] values = {5, CHUNK + 3, 1, 2 * CHUNK, 70};
+		CompressedBitmap bitmap = CompressedBitmap.of(values);
+		assertThat(bitmap.toArray(3)).containsExactly(1, 5, 70);
+		assertThat(bitmap.toArray(10)).containsExactly(1, 5, 70, CHUNK + 3, 2 * CHUNK);
+	}
+
+	// 컨테이너(상위 16비트) 몇 개에 밀도를 골라 채운 집합
+	private BitSet randomSet(Random random, int[] densities) {
+		BitSet set = new BitSet();
+		for (int chunk = 0; chunk < 3; chunk++) {
+			if (random.nextInt(4) == 0) {
+				continue;
+			}
+			int density = densities[random.nextInt(densities.length)];
+			int base = chunk * CHUNK;
+			int count = 0;
+			while (count < density) {
+				int value = base + random.nextInt(CHUNK);
+				if (!set.get(value)) {
+					set.set(value);
+					count++;
+				}
+			}
+		}
+		return set;
+	}
+
+	private BitSet bitSet(int[] values) {
+		BitSet set = new BitSet();
+		for (int value : values) {
+			set.set(value);
+		}
+		return set;
+	}
+
+	private void assertSameSet(CompressedBitmap bitmap, BitSet expected) {
+		assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+		assertThat(bitmap.toArray()).isEqualTo(expected.stream().toArray());
+		// 경계 주변 contains
+		for (int probe : new int[]{0, ARRAY_MAX - 1, ARRAY_MAX, CHUNK - 1, CHUNK, 2 * CHUNK - 1, 2 * CHUNK}) {
+			assertThat(bitmap.contains(probe)).as("contains(%d)", probe).isEqualTo(expected.get(probe));
+		}
+	}
+}
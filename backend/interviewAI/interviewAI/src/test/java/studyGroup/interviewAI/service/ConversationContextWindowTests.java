@@ -0,0 +1,128 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.entity.Conversation;
+import studyGroup.interviewAI.repository.ConversationRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 대화 컨텍스트 윈도우: 요약 우선 유지, 예산 초과 시 잘라내는 순서, 전체 대화 대비 크기 감소
+class ConversationContextWindowTests {
+
+	private static final long INTERVIEW_ID = 1L;
+	private static final String SUMMARY_HEADER = "[이전 대화 요약]";
+
+	private final ConversationRepository conversationRepository = mock(ConversationRepository.class);
+	private final List<Conversation> conversations = new CopyOnWriteArrayList<>();
+	private ConversationContextWindow contextWindow;
+
+	@BeforeEach
+	void setUp() {
+		when(conversationRepository.findByInterviewIdAndIdGreaterThanOrderById(eq(INTERVIEW_ID), anyLong()))
+			.thenAnswer(invocation -> {
+				long afterId = invocation.getArgument(1);
+				return conversations.stream()
+					.filter(conversation -> conversation.getId() > afterId)
+					.collect(Collectors.toList());
+			});
+	}
+
+	@AfterEach
+	void shutdown() {
+		if (contextWindow != null) {
+			contextWindow.shutdown();
+		}
+	}
+
+	@Test
+	void sendsAnOrderOfMagnitudeLessThanTheFullTranscript() throws Exception {
+		contextWindow = new ConversationContextWindow(conversationRepository, 12, 6, 400, 1500, 1800000);
+		addTurns(300);
+		contextWindow.build(INTERVIEW_ID);
+		awaitSummary();
+
+		ConversationContextWindow.Window window = contextWindow.build(INTERVIEW_ID);
+
+		assertThat(window.getTotalTurns()).isEqualTo(300);
+		assertThat(window.getEstimatedTokens()).isLessThanOrEqualTo(1500);
+		assertThat(window.getFullTranscriptTokens()).isGreaterThanOrEqualTo(10L * window.getEstimatedTokens());
+		assertThat(window.getMessages().get(0).get("content")).startsWith(SUMMARY_HEADER);
+		assertThat(lastContent(window)).isEqualTo(conversations.get(conversations.size() - 1).getContent());
+	}
+
+	@Test
+	void trimsPendingAndOlderTurnsBeforeTheSummary() throws Exception {
+		contextWindow = new ConversationContextWindow(conversationRepository, 12, 6, 400, 1500, 1800000);
+		addTurns(40);
+		contextWindow.build(INTERVIEW_ID);
+		awaitSummary();
+		// 요약 이후 발화가 더 쌓여 요약 대기 + 최근 발화만으로 예산을 넘김
+		addTurns(10);
+
+		ConversationContextWindow.Window window = contextWindow.build(INTERVIEW_ID);
+
+		List<Map<String, String>> messages = window.getMessages();
+		assertThat(window.getEstimatedTokens()).isLessThanOrEqualTo(1500);
+		assertThat(messages.get(0).get("content")).startsWith(SUMMARY_HEADER);
+		assertThat(messages).hasSizeLessThan(1 + 10 + 12);
+		// 요약 뒤에는 가장 최근 발화들이 순서대로 남음
+		List<String> kept = messages.subList(1, messages.size()).stream()
+			.map(message -> message.get("content"))
+			.collect(Collectors.toList());
+		List<String> latest = conversations.subList(conversations.size() - kept.size(), conversations.size()).stream()
+			.map(Conversation::getContent)
+			.collect(Collectors.toList());
+		assertThat(kept).isEqualTo(latest);
+	}
+
+	@Test
+	void dropsTheSummaryOnlyWhenTheLastTurnAloneFillsTheBudget() throws Exception {
+		contextWindow = new ConversationContextWindow(conversationRepository, 12, 6, 400, 150, 1800000);
+		addTurns(40);
+		contextWindow.build(INTERVIEW_ID);
+		awaitSummary();
+
+		ConversationContextWindow.Window window = contextWindow.build(INTERVIEW_ID);
+
+		assertThat(window.getMessages()).hasSize(1);
+		assertThat(window.getEstimatedTokens()).isLessThanOrEqualTo(150);
+		assertThat(lastContent(window)).doesNotStartWith(SUMMARY_HEADER)
+			.endsWith(conversations.get(conversations.size() - 1).getContent().substring(100));
+	}
+
+	// 발화 하나가 약 200토큰 (한글 200자 안팎)
+	private void addTurns(int count) {
+		for (int i = 0; i < count; i++) {
+			long id = conversations.size() + 1;
+			Conversation conversation = new Conversation();
+			conversation.setId(id);
+			conversation.setIsManager(id % 2 == 1);
+			conversation.setContent(id + "번째 발화입니다. " + "프로젝트에서 맡았던 역할과 결과를 설명합니다".repeat(8));
+			conversations.add(conversation);
+		}
+	}
+
+	private void awaitSummary() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while ((long) contextWindow.getStats().get("summaryRefreshes") == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat((long) contextWindow.getStats().get("summaryRefreshes")).isPositive();
+	}
+
+	private String lastContent(ConversationContextWindow.Window window) {
+		List<Map<String, String>> messages = window.getMessages();
+		return messages.get(messages.size() - 1).get("content");
+	}
+}
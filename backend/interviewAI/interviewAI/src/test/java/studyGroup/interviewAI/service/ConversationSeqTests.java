@@ -0,0 +1,155 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.Conversation;
+import studyGroup.interviewAI.entity.Interview;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ExperienceRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+import studyGroup.interviewAI.repository.PositionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 면접별 대화 순번: 1부터 연속 부여, 면접 수정(PUT)에도 카운터 유지, 면접 이동 시 새 순번, 순번 이후 조회
+@SpringBootTest
+@Transactional
+class ConversationSeqTests {
+
+	@Autowired
+	private InterviewService interviewService;
+
+	@Autowired
+	private ConversationService conversationService;
+
+	@Autowired
+	private InterviewRepository interviewRepository;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private PositionRepository positionRepository;
+
+	@Autowired
+	private ExperienceRepository experienceRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Interview first;
+	private Interview second;
+
+	@BeforeEach
+	void setUp() {
+		first = interviewService.startInterviewWithManager(applicant("seq-first").getId(), 0L);
+		second = interviewService.startInterviewWithManager(applicant("seq-second").getId(), 0L);
+	}
+
+	@Test
+	void assignsSeqsFromOnePerInterview() {
+		interviewService.addConversation(first.getId(), "첫 질문", true);
+		interviewService.addConversation(second.getId(), "다른 면접 질문", true);
+		interviewService.addConversation(first.getId(), "첫 답변", false);
+		interviewService.addConversation(first.getId(), "두 번째 질문", true);
+
+		assertThat(seqs(first.getId(), 0)).containsExactly(1L, 2L, 3L);
+		assertThat(seqs(second.getId(), 0)).containsExactly(1L);
+		assertThat(interviewRepository.findConversationSeqById(first.getId())).contains(3L);
+	}
+
+	@Test
+	void keepsSeqCounterWhenInterviewIsUpdated() {
+		interviewService.addConversation(first.getId(), "질문", true);
+		interviewService.addConversation(first.getId(), "답변", false);
+		entityManager.flush();
+		entityManager.clear();
+
+		// PUT 본문에는 conversationSeq가 없거나 기본값(0)으로 들어옴
+		Interview update = new Interview();
+		update.setId(first.getId());
+		update.setApplicant(first.getApplicant());
+		update.setManager(first.getManager());
+		update.setDoneAt(LocalDateTime.now());
+		interviewService.save(update);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(interviewRepository.findConversationSeqById(first.getId())).contains(2L);
+		assertThat(interviewService.addConversation(first.getId(), "다음 질문", true).getSeq()).isEqualTo(3L);
+	}
+
+	@Test
+	void assignsFreshSeqWhenConversationMovesToAnotherInterview() {
+		Conversation moved = interviewService.addConversation(first.getId(), "잘못 기록된 발화", false);
+		interviewService.addConversation(first.getId(), "질문", true);
+		interviewService.addConversation(second.getId(), "다른 면접 질문", true);
+		interviewService.addConversation(second.getId(), "다른 면접 답변", false);
+		entityManager.flush();
+		entityManager.clear();
+
+		// 같은 면접 안에서 내용만 수정하면 순번 유지
+		Conversation edited = conversationService.save(conversation(moved.getId(), first.getId(), "고친 발화"));
+		assertThat(edited.getSeq()).isEqualTo(1L);
+
+		Conversation saved = conversationService.save(conversation(moved.getId(), second.getId(), "고친 발화"));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(saved.getSeq()).isEqualTo(3L);
+		assertThat(seqs(second.getId(), 0)).containsExactly(1L, 2L, 3L);
+		assertThat(seqs(first.getId(), 0)).containsExactly(2L);
+	}
+
+	@Test
+	void returnsOnlyConversationsAfterSeq() {
+		for (int i = 1; i <= 5; i++) {
+			interviewService.addConversation(first.getId(), "발화 " + i, i % 2 == 1);
+		}
+		interviewService.addConversation(second.getId(), "다른 면접 발화", true);
+
+		List<Conversation> delta = interviewService.findConversationsAfterSeq(first.getId(), 3);
+
+		assertThat(delta).extracting(Conversation::getSeq).containsExactly(4L, 5L);
+		assertThat(delta).extracting(Conversation::getContent).containsExactly("발화 4", "발화 5");
+		assertThat(interviewService.findConversationsAfterSeq(first.getId(), 5)).isEmpty();
+	}
+
+	private List<Long> seqs(Long interviewId, long afterSeq) {
+		return interviewService.findConversationsAfterSeq(interviewId, afterSeq).stream()
+			.map(Conversation::getSeq)
+			.collect(Collectors.toList());
+	}
+
+	// PUT 본문처럼 영속성 컨텍스트 밖의 객체
+	private Conversation conversation(Long id, Long interviewId, String content) {
+		Conversation conversation = new Conversation();
+		conversation.setId(id);
+		conversation.setContent(content);
+		conversation.setIsManager(false);
+		conversation.setInterview(interviewRepository.getReferenceById(interviewId));
+		return conversation;
+	}
+
+	private Applicant applicant(String username) {
+		Applicant applicant = new Applicant();
+		applicant.setUsername(username);
+		applicant.setEmail(username + "@example.com");
+		applicant.setApplyAt(LocalDateTime.now());
+		applicant.setStatus(ApplicationStatus.WAITING);
+		applicant.setPosition(positionRepository.findAll().get(0));
+		applicant.setExperience(experienceRepository.findAll().get(0));
+		return applicantRepository.save(applicant);
+	}
+}
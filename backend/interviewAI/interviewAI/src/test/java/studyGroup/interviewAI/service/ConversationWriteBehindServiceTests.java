@@ -0,0 +1,182 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import studyGroup.interviewAI.repository.ConversationRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 발화 write-behind: 재시작 후 watermark 이후 저널 재저장, 잘린 줄 무시, 실패한 면접만 순서대로 보류, dead-letter 후 진행
+class ConversationWriteBehindServiceTests {
+
+	private static final long INTERVIEW_A = 1L;
+	private static final long INTERVIEW_B = 2L;
+	// 테스트 스키마의 CHECK 제약에 걸려 insert가 실패하는 내용
+	private static final String POISON = "poison";
+
+	private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+	private final ConversationRepository conversationRepository = mock(ConversationRepository.class);
+	private final List<ConversationWriteBehindService> services = new ArrayList<>();
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@TempDir
+	Path journalDir;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:write-behind-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE interview (id BIGINT PRIMARY KEY, conversation_seq BIGINT)");
+		jdbcTemplate.execute("CREATE TABLE conversation (id BIGINT AUTO_INCREMENT PRIMARY KEY, content VARCHAR(2000), "
+			+ "is_manager BOOLEAN, interview_id BIGINT, seq BIGINT, CONSTRAINT no_poison CHECK (content <> '" + POISON + "'))");
+		jdbcTemplate.update("INSERT INTO interview (id, conversation_seq) VALUES (?, 0)", INTERVIEW_A);
+		jdbcTemplate.update("INSERT INTO interview (id, conversation_seq) VALUES (?, 0)", INTERVIEW_B);
+		when(interviewRepository.existsById(anyLong())).thenReturn(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		for (ConversationWriteBehindService service : services) {
+			service.shutdown();
+		}
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	@Test
+	void replaysOnlyTurnsAfterWatermarkAfterRestart() throws Exception {
+		// 저장 전에 죽은 인스턴스 (shutdown 없이 버림)
+		ConversationWriteBehindService crashed = newService(8, 1000);
+		crashed.enqueue(INTERVIEW_A, "첫 질문", true);
+		crashed.enqueue(INTERVIEW_A, "첫 답변", false);
+		crashed.enqueue(INTERVIEW_B, "다른 면접 질문", true);
+		crashed.enqueue(INTERVIEW_A, "두 번째 질문", true);
+		services.remove(crashed);
+		// 앞의 두 발화는 저장이 끝나 watermark가 저널 중간에 있음
+		Files.writeString(journalDir.resolve("conversations.watermark"), "2", StandardCharsets.UTF_8);
+
+		ConversationWriteBehindService restarted = newService(8, 1000);
+
+		assertThat(restarted.getStats().get("replayed")).isEqualTo(2L);
+		assertThat(restarted.getStats().get("pending")).isEqualTo(2);
+		assertThat(Files.readAllLines(journalDir.resolve("conversations.journal"))).hasSize(2);
+		assertThat(restarted.enqueue(INTERVIEW_A, "세 번째 질문", true)).isEqualTo(5L);
+
+		restarted.flush(INTERVIEW_A);
+
+		assertThat(contents(INTERVIEW_A)).containsExactly("두 번째 질문", "세 번째 질문");
+		assertThat(contents(INTERVIEW_B)).containsExactly("다른 면접 질문");
+		assertThat(seqs(INTERVIEW_A)).containsExactly(1L, 2L);
+		assertThat(restarted.getStats().get("watermark")).isEqualTo(5L);
+		assertThat(Files.size(journalDir.resolve("conversations.journal"))).isZero();
+	}
+
+	@Test
+	void skipsCorruptTrailingLineOnReplay() throws Exception {
+		ConversationWriteBehindService crashed = newService(8, 1000);
+		crashed.enqueue(INTERVIEW_A, "질문", true);
+		crashed.enqueue(INTERVIEW_A, "답변", false);
+		services.remove(crashed);
+		// 세 번째 줄을 쓰던 중 죽어서 줄 끝이 잘림
+		Files.writeString(journalDir.resolve("conversations.journal"), "3|1|1|7JWI64WV", StandardCharsets.UTF_8,
+			StandardOpenOption.APPEND);
+
+		ConversationWriteBehindService restarted = newService(8, 1000);
+
+		assertThat(restarted.getStats().get("replayed")).isEqualTo(2L);
+		assertThat(restarted.getStats().get("lastSeq")).isEqualTo(2L);
+		assertThat(Files.readAllLines(journalDir.resolve("conversations.journal"))).hasSize(2);
+		// 잘린 줄의 순번은 다시 쓰임
+		assertThat(restarted.enqueue(INTERVIEW_A, "다음 질문", true)).isEqualTo(3L);
+
+		restarted.flush(INTERVIEW_A);
+
+		assertThat(contents(INTERVIEW_A)).containsExactly("질문", "답변", "다음 질문");
+	}
+
+	@Test
+	void holdsBackLaterTurnsOfFailingInterviewWhileOthersFlush() throws Exception {
+		ConversationWriteBehindService service = newService(8, 50);
+		service.enqueue(INTERVIEW_A, "질문 1", true);
+		service.enqueue(INTERVIEW_B, "다른 면접 질문", true);
+		service.enqueue(INTERVIEW_A, POISON, false);
+		service.enqueue(INTERVIEW_B, "다른 면접 답변", false);
+		service.enqueue(INTERVIEW_A, "질문 2", true);
+
+		service.flush(INTERVIEW_A);
+
+		// 실패한 발화 앞까지만 저장되고, 뒤 발화는 순서를 지키려고 같이 보류됨
+		assertThat(contents(INTERVIEW_A)).containsExactly("질문 1");
+		assertThat(contents(INTERVIEW_B)).containsExactly("다른 면접 질문", "다른 면접 답변");
+		assertThat(service.getStats().get("pending")).isEqualTo(2);
+		assertThat(service.getStats().get("retryWaitingInterviews")).isEqualTo(1);
+		assertThat(service.getStats().get("watermark")).isEqualTo(2L);
+
+		// 원인이 사라지고 백오프가 지나면 보류된 발화가 원래 순서대로 저장됨
+		jdbcTemplate.execute("ALTER TABLE conversation DROP CONSTRAINT no_poison");
+		Thread.sleep(200);
+		service.flush(INTERVIEW_A);
+
+		assertThat(contents(INTERVIEW_A)).containsExactly("질문 1", POISON, "질문 2");
+		assertThat(seqs(INTERVIEW_A)).containsExactly(1L, 2L, 3L);
+		assertThat(service.getStats().get("pending")).isEqualTo(0);
+		assertThat(service.getStats().get("retryWaitingInterviews")).isEqualTo(0);
+	}
+
+	@Test
+	void deadLettersTurnAfterMaxAttemptsAndLetsLaterTurnsProceed() throws Exception {
+		ConversationWriteBehindService service = newService(2, 0);
+		service.enqueue(INTERVIEW_A, "질문 1", true);
+		service.enqueue(INTERVIEW_A, POISON, false);
+		service.enqueue(INTERVIEW_A, "질문 2", true);
+
+		service.flush(INTERVIEW_A);
+
+		assertThat(contents(INTERVIEW_A)).containsExactly("질문 1", "질문 2");
+		assertThat(seqs(INTERVIEW_A)).containsExactly(1L, 2L);
+		assertThat(service.getStats().get("deadLettered")).isEqualTo(1L);
+		assertThat(service.getStats().get("pending")).isEqualTo(0);
+		List<String> deadLetters = Files.readAllLines(journalDir.resolve("conversations.deadletter"));
+		assertThat(deadLetters).hasSize(1);
+		assertThat(deadLetters.get(0)).startsWith("2|" + INTERVIEW_A + "|0|");
+	}
+
+	// 주기 저장은 사실상 끄고 flush 호출로만 저장
+	private ConversationWriteBehindService newService(int maxAttempts, long retryBackoffMs) throws IOException {
+		ConversationWriteBehindService service = new ConversationWriteBehindService(interviewRepository,
+			conversationRepository, jdbcTemplate, new DataSourceTransactionManager(dataSource),
+			mock(ApplicationEventPublisher.class), true, 3600000, 200, journalDir.toString(), false,
+			maxAttempts, retryBackoffMs);
+		services.add(service);
+		return service;
+	}
+
+	private List<String> contents(long interviewId) {
+		return jdbcTemplate.queryForList("SELECT content FROM conversation WHERE interview_id = ? ORDER BY seq",
+			String.class, interviewId);
+	}
+
+	private List<Long> seqs(long interviewId) {
+		return jdbcTemplate.queryForList("SELECT seq FROM conversation WHERE interview_id = ? ORDER BY seq",
+			Long.class, interviewId);
+	}
+}
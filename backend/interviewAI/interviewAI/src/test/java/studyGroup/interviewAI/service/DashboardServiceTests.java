@@ -0,0 +1,241 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+import studyGroup.interviewAI.controller.DashboardController;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.ApplicantTech;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.Experience;
+import studyGroup.interviewAI.entity.Interview;
+import studyGroup.interviewAI.entity.Manager;
+import studyGroup.interviewAI.entity.Position;
+import studyGroup.interviewAI.entity.PostReport;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+import studyGroup.interviewAI.repository.ExperienceRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+import studyGroup.interviewAI.repository.ManagerRepository;
+import studyGroup.interviewAI.repository.PositionRepository;
+import studyGroup.interviewAI.repository.PostReportRepository;
+import studyGroup.interviewAI.repository.TechStackRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@RecordApplicationEvents
+class DashboardServiceTests {
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private DashboardController dashboardController;
+
+	@Autowired
+	private ApplicantService applicantService;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ApplicantTechRepository applicantTechRepository;
+
+	@Autowired
+	private InterviewRepository interviewRepository;
+
+	@Autowired
+	private PostReportRepository postReportRepository;
+
+	@Autowired
+	private PositionRepository positionRepository;
+
+	@Autowired
+	private ExperienceRepository experienceRepository;
+
+	@Autowired
+	private TechStackRepository techStackRepository;
+
+	@Autowired
+	private ManagerRepository managerRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void mainDashboardStatementCountDoesNotGrowWithApplicants() {
+		createApplicants(5);
+		long smallCount = countStatementsForMainDashboard();
+
+		createApplicants(50);
+		long largeCount = countStatementsForMainDashboard();
+
+		assertThat(largeCount).isEqualTo(smallCount);
+	}
+
+	@Test
+	void mainDashboardKeepsApplicantDetailShape() {
+		createApplicants(1);
+		entityManager.flush();
+		entityManager.clear();
+
+		Map<String, Object> data = dashboardService.getMainDashboardData();
+		List<Map<String, Object>> applicants = (List<Map<String, Object>>) data.get("applicants");
+
+		assertThat(data).containsKey("stats");
+		assertThat(applicants).hasSize((int) applicantRepository.count());
+		Map<String, Object> created = applicants.stream()
+			.filter(detail -> "dashboard-test-0".equals(detail.get("username")))
+			.findFirst()
+			.orElseThrow();
+		assertThat(created.get("status")).isEqualTo("completed");
+		assertThat(created.get("score")).isEqualTo(80);
+		assertThat((List<TechStack>) created.get("techStacks")).hasSize(2);
+	}
+
+	@Test
+	void applicantPageContinuesPastApplicantsWithoutApplyDate() {
+		Position position = new Position();
+		position.setTitle("cursor-test-position");
+		positionRepository.save(position);
+		Experience experience = experienceRepository.findAll().get(0);
+		LocalDateTime now = LocalDateTime.now();
+		Long newest = createApplicant(position, experience, now);
+		Long undatedFirst = createApplicant(position, experience, null);
+		Long older = createApplicant(position, experience, now.minusDays(1));
+		Long undatedSecond = createApplicant(position, experience, null);
+		Long undatedThird = createApplicant(position, experience, null);
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Object> ids = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			Map<String, Object> page = dashboardService.getApplicantPage(null, position.getId(), null, null, cursor, 2, false);
+			for (Map<String, Object> applicant : (List<Map<String, Object>>) page.get("applicants")) {
+				ids.add(applicant.get("id"));
+			}
+			cursor = (String) page.get("nextCursor");
+			pages++;
+		} while (cursor != null && pages < 10);
+
+		// 지원일 내림차순, 지원일 없는 지원자는 맨 뒤에서 id 내림차순
+		assertThat(ids).containsExactly(newest, older, undatedThird, undatedSecond, undatedFirst);
+		assertThat(pages).isEqualTo(3);
+	}
+
+	@Test
+	void rejectsMalformedCursorAsBadRequest() {
+		String cursor = Base64.getUrlEncoder().encodeToString("not-a-date_x".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> dashboardService.getApplicantPage(null, null, null, null, cursor, 2, false))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasCauseInstanceOf(RuntimeException.class);
+		assertThatThrownBy(() -> dashboardService.getApplicantPage(null, null, null, null, "%%%", 2, false))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(dashboardController.getDashboardApplicants(null, null, null, null, cursor, 2, false).getStatusCode())
+			.isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void deletingUnknownApplicantPublishesNoDeletedEvent() {
+		Long existing = createApplicant(positionRepository.findAll().get(0), experienceRepository.findAll().get(0), LocalDateTime.now());
+		entityManager.flush();
+
+		applicantService.deleteById(existing);
+		applicantService.deleteById(-1L);
+
+		assertThat(applicationEvents.stream(DashboardEvent.class)
+			.filter(event -> event.getType() == DashboardEvent.Type.APPLICANT_DELETED)
+			.map(DashboardEvent::getApplicantId))
+			.containsExactly(existing);
+	}
+
+	private Long createApplicant(Position position, Experience experience, LocalDateTime applyAt) {
+		Applicant applicant = new Applicant();
+		applicant.setUsername("cursor-test");
+		applicant.setEmail("cursor-test@example.com");
+		applicant.setApplyAt(applyAt);
+		applicant.setStatus(ApplicationStatus.WAITING);
+		applicant.setPosition(position);
+		applicant.setExperience(experience);
+		return applicantRepository.save(applicant).getId();
+	}
+
+	private long countStatementsForMainDashboard() {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		try {
+			dashboardService.getMainDashboardData();
+			return statistics.getPrepareStatementCount();
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	private void createApplicants(int count) {
+		Position position = positionRepository.findAll().get(0);
+		Experience experience = experienceRepository.findAll().get(0);
+		List<TechStack> techStacks = techStackRepository.findAll().subList(0, 2);
+		Manager manager = managerRepository.findById(0L).orElseThrow();
+
+		for (int i = 0; i < count; i++) {
+			Applicant applicant = new Applicant();
+			applicant.setUsername("dashboard-test-" + i);
+			applicant.setEmail("dashboard" + i + "@example.com");
+			applicant.setApplyAt(LocalDateTime.now());
+			applicant.setStatus(ApplicationStatus.COMPLETED);
+			applicant.setPosition(position);
+			applicant.setExperience(experience);
+			applicantRepository.save(applicant);
+
+			for (TechStack techStack : techStacks) {
+				ApplicantTech applicantTech = new ApplicantTech();
+				applicantTech.setApplicant(applicant);
+				applicantTech.setTechStack(techStack);
+				applicantTechRepository.save(applicantTech);
+			}
+
+			Interview interview = new Interview();
+			interview.setApplicant(applicant);
+			interview.setManager(manager);
+			interview.setDoneAt(LocalDateTime.now());
+			interviewRepository.save(interview);
+
+			PostReport postReport = new PostReport();
+			postReport.setInterview(interview);
+			postReport.setScore(80);
+			postReportRepository.save(postReport);
+		}
+	}
+}
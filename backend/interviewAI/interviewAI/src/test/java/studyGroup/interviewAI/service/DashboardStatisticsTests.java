@@ -0,0 +1,101 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.PostReportRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 대시보드 통계: DB 값으로 보정 후 증분 갱신, 보정 중 도착한 증분 유지, 보정 중에도 읽는 쪽은 이전 값 또는 보정된 값만 봄
+class DashboardStatisticsTests {
+
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final PostReportRepository postReportRepository = mock(PostReportRepository.class);
+	private final DashboardStatistics statistics = new DashboardStatistics(applicantRepository, postReportRepository);
+
+	@Test
+	void reconcilesFromDatabaseAndAppliesIncrements() {
+		givenDatabase(3L, 2L, 90L);
+		statistics.reconcile();
+
+		statistics.applicantAdded(ApplicationStatus.WAITING);
+		statistics.statusChanged(ApplicationStatus.WAITING, ApplicationStatus.INTERVIEWING);
+		statistics.scoreChanged(null, 60);
+
+		assertThat(statistics.getCount(ApplicationStatus.WAITING)).isEqualTo(3);
+		assertThat(statistics.getCount(ApplicationStatus.INTERVIEWING)).isEqualTo(1);
+		assertThat(statistics.getCount(ApplicationStatus.COMPLETED)).isEqualTo(2);
+		assertThat(statistics.getTotalCount()).isEqualTo(6);
+		assertThat(statistics.getAverageScore()).isEqualTo(50.0);
+	}
+
+	@Test
+	void keepsIncrementsThatArriveWhileReadingTheDatabase() {
+		givenDatabase(3L, 2L, 90L);
+		statistics.reconcile();
+
+		// DB 집계를 읽은 직후(교체 전)에 다른 요청의 증분이 도착
+		when(applicantRepository.countGroupByStatus()).thenAnswer(invocation -> {
+			statistics.applicantAdded(ApplicationStatus.WAITING);
+			statistics.statusChanged(ApplicationStatus.WAITING, ApplicationStatus.INTERVIEWING);
+			statistics.scoreChanged(null, 60);
+			return List.of(
+				new Object[]{ApplicationStatus.WAITING, 3L},
+				new Object[]{ApplicationStatus.COMPLETED, 2L});
+		});
+		statistics.reconcile();
+
+		assertThat(statistics.getCount(ApplicationStatus.WAITING)).isEqualTo(3);
+		assertThat(statistics.getCount(ApplicationStatus.INTERVIEWING)).isEqualTo(1);
+		assertThat(statistics.getCount(ApplicationStatus.COMPLETED)).isEqualTo(2);
+		assertThat(statistics.getAverageScore()).isEqualTo(50.0);
+
+		// 보정이 끝난 뒤의 증분은 한 번만 반영
+		statistics.applicantAdded(ApplicationStatus.WAITING);
+		assertThat(statistics.getCount(ApplicationStatus.WAITING)).isEqualTo(4);
+	}
+
+	@Test
+	void readersNeverSeeAPartiallyReconciledState() throws Exception {
+		givenDatabase(1000L, 1000L, 1000L * 70);
+		statistics.reconcile();
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong inconsistentReads = new AtomicLong();
+		CountDownLatch started = new CountDownLatch(1);
+		Thread reader = new Thread(() -> {
+			started.countDown();
+			while (running.get()) {
+				long total = statistics.getTotalCount();
+				double average = statistics.getAverageScore();
+				if (total != 2000 || average != 70.0) {
+					inconsistentReads.incrementAndGet();
+				}
+			}
+		});
+		reader.start();
+		started.await();
+		for (int i = 0; i < 5000; i++) {
+			statistics.reconcile();
+		}
+		running.set(false);
+		reader.join();
+
+		assertThat(inconsistentReads.get()).isZero();
+	}
+
+	private void givenDatabase(long waiting, long completed, long scoreSum) {
+		when(applicantRepository.countGroupByStatus()).thenReturn(List.of(
+			new Object[]{ApplicationStatus.WAITING, waiting},
+			new Object[]{ApplicationStatus.COMPLETED, completed}));
+		when(postReportRepository.findScoreCountAndSum()).thenReturn(List.<Object[]>of(new Object[]{completed, scoreSum}));
+	}
+}
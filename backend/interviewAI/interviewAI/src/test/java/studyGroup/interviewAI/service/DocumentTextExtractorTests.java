@@ -0,0 +1,129 @@
+package studyGroup.interviewAI.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 문서 텍스트 추출: PDF, DOCX, 텍스트 파일, 최대 글자 수/페이지 수 초과 시 잘라냄
+class DocumentTextExtractorTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void extractsPdfPagesInOrder() throws Exception {
+		Path pdf = writePdf("resume.pdf", List.of("Java Spring Developer", "Kotlin Backend Project"));
+
+		DocumentTextExtractor.Result result = new DocumentTextExtractor(1000, 300).extract(pdf, "pdf");
+
+		assertThat(result.getText()).contains("Java Spring Developer", "Kotlin Backend Project");
+		assertThat(result.getText().indexOf("Java")).isLessThan(result.getText().indexOf("Kotlin"));
+		assertThat(result.isTruncated()).isFalse();
+	}
+
+	@Test
+	void truncatesPdfBeyondMaxPages() throws Exception {
+		Path pdf = writePdf("portfolio.pdf", List.of("First page", "Second page", "Third page"));
+
+		DocumentTextExtractor.Result result = new DocumentTextExtractor(1000, 2).extract(pdf, "pdf");
+
+		assertThat(result.getText()).contains("First page", "Second page").doesNotContain("Third page");
+		assertThat(result.isTruncated()).isTrue();
+	}
+
+	@Test
+	void extractsDocxParagraphsTabsAndBreaks() throws Exception {
+		Path docx = writeDocx("resume.docx",
+			"<w:p><w:r><w:t>백엔드 개발자</w:t></w:r></w:p>"
+				+ "<w:p><w:r><w:t>Java</w:t><w:tab/><w:t>Spring</w:t><w:br/><w:t xml:space=\"preserve\">JPA </w:t></w:r></w:p>");
+
+		DocumentTextExtractor.Result result = new DocumentTextExtractor(1000, 300).extract(docx, "docx");
+
+		assertThat(result.getText()).isEqualTo("백엔드 개발자\nJava\tSpring\nJPA \n");
+		assertThat(result.isTruncated()).isFalse();
+	}
+
+	@Test
+	void rejectsDocxWithoutBody() throws Exception {
+		Path docx = tempDir.resolve("broken.docx");
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(docx))) {
+			zip.putNextEntry(new ZipEntry("word/styles.xml"));
+			zip.closeEntry();
+		}
+
+		assertThatThrownBy(() -> new DocumentTextExtractor(1000, 300).extract(docx, "docx"))
+			.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void truncatesTextAtMaxChars() throws Exception {
+		Path docx = writeDocx("long.docx", "<w:p><w:r><w:t>" + "가".repeat(500) + "</w:t></w:r></w:p>");
+		Path txt = tempDir.resolve("long.txt");
+		Files.writeString(txt, "a".repeat(50000), StandardCharsets.UTF_8);
+		DocumentTextExtractor extractor = new DocumentTextExtractor(100, 300);
+
+		DocumentTextExtractor.Result docxResult = extractor.extract(docx, "docx");
+		DocumentTextExtractor.Result txtResult = extractor.extract(txt, "txt");
+
+		assertThat(docxResult.getText()).isEqualTo("가".repeat(100));
+		assertThat(docxResult.isTruncated()).isTrue();
+		assertThat(txtResult.getText()).isEqualTo("a".repeat(100));
+		assertThat(txtResult.isTruncated()).isTrue();
+	}
+
+	@Test
+	void rejectsUnsupportedType() {
+		DocumentTextExtractor extractor = new DocumentTextExtractor(1000, 300);
+
+		assertThat(extractor.supports("hwp")).isFalse();
+		assertThatThrownBy(() -> extractor.extract(tempDir.resolve("resume.hwp"), "hwp"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Path writePdf(String name, List<String> pages) throws IOException {
+		Path file = tempDir.resolve(name);
+		try (PDDocument document = new PDDocument()) {
+			PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+			for (String text : pages) {
+				PDPage page = new PDPage();
+				document.addPage(page);
+				try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+					content.beginText();
+					content.setFont(font, 12);
+					content.newLineAtOffset(72, 700);
+					content.showText(text);
+					content.endText();
+				}
+			}
+			document.save(file.toFile());
+		}
+		return file;
+	}
+
+	private Path writeDocx(String name, String body) throws IOException {
+		Path file = tempDir.resolve(name);
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+			zip.putNextEntry(new ZipEntry("word/document.xml"));
+			zip.write(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+				+ "<w:body>" + body + "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+		}
+		return file;
+	}
+}
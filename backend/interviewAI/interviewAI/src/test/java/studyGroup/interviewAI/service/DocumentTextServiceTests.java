@@ -0,0 +1,95 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import studyGroup.interviewAI.entity.DocumentText;
+import studyGroup.interviewAI.event.FileUploadEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.DocumentTextRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 문서 텍스트 파이프라인: 추출 결과 Deflate 압축 저장 → 조회 시 원문 그대로 복원
+class DocumentTextServiceTests {
+
+	private final DocumentTextRepository documentTextRepository = mock(DocumentTextRepository.class);
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final DocumentTextService documentTextService = new DocumentTextService(documentTextRepository,
+		applicantRepository, new DocumentTextExtractor(1000000, 300), mock(PlatformTransactionManager.class), 1, 10, 100);
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void shutdown() {
+		documentTextService.shutdown();
+	}
+
+	@Test
+	void storesCompressedTextAndRestoresItUnchanged() throws Exception {
+		// 반복이 많은 이력서 텍스트 + 한글/이모지 등 멀티바이트 문자
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			text.append(i).append(". Spring Boot 기반 면접 서비스 개발 – 응답 시간 개선 🚀\n");
+		}
+		Path file = tempDir.resolve("resume.txt");
+		Files.writeString(file, text, StandardCharsets.UTF_8);
+
+		DocumentText saved = extract("sha-1", file);
+
+		byte[] utf8 = text.toString().getBytes(StandardCharsets.UTF_8);
+		assertThat(saved.getStatus()).isEqualTo(DocumentText.Status.EXTRACTED);
+		assertThat(saved.getTextBytes()).isEqualTo(utf8.length);
+		assertThat(saved.getTextLength()).isEqualTo(text.length());
+		assertThat(saved.getCompressedText().length).isLessThan(utf8.length / 5);
+
+		when(documentTextRepository.findByFilePath(file.toString())).thenReturn(Optional.of(saved));
+		assertThat(documentTextService.findTextByFilePath(file.toString())).contains(text.toString());
+	}
+
+	@Test
+	void roundTripsEmptyText() throws Exception {
+		Path file = tempDir.resolve("empty.txt");
+		Files.writeString(file, "", StandardCharsets.UTF_8);
+
+		DocumentText saved = extract("sha-2", file);
+
+		when(documentTextRepository.findByFilePath(file.toString())).thenReturn(Optional.of(saved));
+		assertThat(saved.getTextBytes()).isZero();
+		assertThat(documentTextService.findTextByFilePath(file.toString())).contains("");
+	}
+
+	@Test
+	void rejectsCorruptedCompressedText() throws Exception {
+		Path file = tempDir.resolve("resume.txt");
+		Files.writeString(file, "Java Spring JPA ".repeat(100), StandardCharsets.UTF_8);
+		DocumentText saved = extract("sha-3", file);
+		byte[] compressed = saved.getCompressedText();
+		saved.setCompressedText(Arrays.copyOf(compressed, compressed.length / 2));
+
+		when(documentTextRepository.findByFilePath(file.toString())).thenReturn(Optional.of(saved));
+		assertThatThrownBy(() -> documentTextService.findTextByFilePath(file.toString()))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private DocumentText extract(String sha256, Path file) {
+		documentTextService.onFileUploadEvent(FileUploadEvent.stored(sha256, file.toString(), "txt"));
+		ArgumentCaptor<DocumentText> captor = ArgumentCaptor.forClass(DocumentText.class);
+		verify(documentTextRepository, timeout(5000)).save(captor.capture());
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,212 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 기존 multipart 업로드 경로와 스트리밍 업로드 경로의 처리량(MB/s)과 업로드당 할당량 비교
+// multipart 경로는 컨테이너가 요청 본문을 임시 파일로 받아 두는 단계와, 기존 구현처럼
+// 파트를 uploads/resumes/ 아래 파일로 복사하는 단계(해시 없음)를 그대로 재현해 기준선으로 쓴다.
+// 스트리밍 경로는 SHA-256 계산까지 포함하므로 처리량은 해시 속도에 묶이고, 디스크 기록량은 절반이다.
+class FileUploadBenchmarkTests {
+
+	private static final int PAYLOAD_BYTES = 8 * 1024 * 1024;
+	private static final int WARMUP_ROUNDS = 2;
+	private static final int MEASURED_ROUNDS = 5;
+
+	@TempDir
+	Path tempDir;
+
+	private Path source;
+	private ContentAddressedFileStore fileStore;
+	private Path resumeDir;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		byte[] payload = new byte[PAYLOAD_BYTES];
+		new Random(42).nextBytes(payload);
+		source = tempDir.resolve("source.pdf");
+		Files.write(source, payload);
+		fileStore = new ContentAddressedFileStore(tempDir.resolve("uploads").toString(), PAYLOAD_BYTES);
+		resumeDir = Files.createDirectories(tempDir.resolve("uploads/resumes"));
+	}
+
+	@Test
+	void streamingUploadStoresSameBytesAndReportsThroughput() throws Exception {
+		Result multipart = measure(() -> {
+			// 컨테이너가 요청 본문을 multipart 임시 파일로 받아 두는 단계를 재현
+			Path spooled = Files.createTempFile(tempDir, "multipart", ".tmp");
+			try (InputStream body = Files.newInputStream(source)) {
+				Files.copy(body, spooled, StandardCopyOption.REPLACE_EXISTING);
+			}
+			// 기존 uploadResumeFile: 파트 내용을 업로드 디렉토리의 새 파일로 복사
+			Path target = resumeDir.resolve("resume_" + System.nanoTime() + ".pdf");
+			try (InputStream body = new SpooledMultipartFile(spooled).getInputStream()) {
+				Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			Files.delete(spooled);
+		});
+		Result streaming = measure(() -> {
+			try (InputStream body = Files.newInputStream(source)) {
+				fileStore.commit(fileStore.stage(body));
+			}
+		});
+
+		System.out.printf("multipart: %.1f MB/s, %d KB allocated/upload%n", multipart.megabytesPerSecond(), multipart.allocatedBytes / 1024);
+		System.out.printf("streaming: %.1f MB/s, %d KB allocated/upload%n", streaming.megabytesPerSecond(), streaming.allocatedBytes / 1024);
+
+		try (InputStream body = Files.newInputStream(source)) {
+			ContentAddressedFileStore.StagedFile staged = fileStore.stage(body);
+			assertThat(staged.getSize()).isEqualTo(PAYLOAD_BYTES);
+			assertThat(staged.getSha256()).isEqualTo(sha256(source));
+			String storedPath = fileStore.commit(staged);
+			assertThat(Files.mismatch(source, Path.of(storedPath))).isEqualTo(-1L);
+		}
+	}
+
+	@Test
+	void storesIdenticalContentOnceUnderShardedHashPath() throws Exception {
+		String first;
+		String second;
+		try (InputStream body = Files.newInputStream(source)) {
+			first = fileStore.commit(fileStore.stage(body));
+		}
+		try (InputStream body = Files.newInputStream(source)) {
+			second = fileStore.commit(fileStore.stage(body));
+		}
+
+		String hash = sha256(source);
+		assertThat(first).isEqualTo(second);
+		assertThat(first).endsWith("/store/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash);
+		try (var files = Files.list(tempDir.resolve("uploads/.tmp"))) {
+			assertThat(files.count()).isZero();
+		}
+	}
+
+	@Test
+	void rejectsOversizedStreamWithoutLeavingFiles() throws IOException {
+		InputStream body = new ByteArrayInputStream(new byte[PAYLOAD_BYTES + 1]);
+
+		assertThatThrownBy(() -> fileStore.stage(body))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("초과");
+		try (var files = Files.list(tempDir.resolve("uploads/store"))) {
+			assertThat(files.count()).isZero();
+		}
+		try (var files = Files.list(tempDir.resolve("uploads/.tmp"))) {
+			assertThat(files.count()).isZero();
+		}
+	}
+
+	private Result measure(Upload upload) throws Exception {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			upload.run();
+		}
+		long allocatedBefore = allocatedBytes();
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			upload.run();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		return new Result(elapsedNanos, (allocatedBytes() - allocatedBefore) / MEASURED_ROUNDS);
+	}
+
+	// 현재 스레드가 지금까지 할당한 바이트 수 (지원하지 않는 JVM이면 0)
+	private long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean) {
+			return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+	private String sha256(Path path) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(path)));
+	}
+
+	private interface Upload {
+		void run() throws Exception;
+	}
+
+	private static class Result {
+		final long elapsedNanos;
+		final long allocatedBytes;
+
+		Result(long elapsedNanos, long allocatedBytes) {
+			this.elapsedNanos = elapsedNanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		double megabytesPerSecond() {
+			return (double) PAYLOAD_BYTES * MEASURED_ROUNDS / (1024 * 1024) / (elapsedNanos / 1_000_000_000.0);
+		}
+	}
+
+	// 임시 파일로 받아 둔 multipart 파트 (StandardMultipartFile과 같은 방식으로 읽힘)
+	private static class SpooledMultipartFile implements MultipartFile {
+		private final Path path;
+
+		SpooledMultipartFile(Path path) {
+			this.path = path;
+		}
+
+		@Override
+		public String getName() {
+			return "file";
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return "resume.pdf";
+		}
+
+		@Override
+		public String getContentType() {
+			return "application/pdf";
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return getSize() == 0;
+		}
+
+		@Override
+		public long getSize() {
+			try {
+				return Files.size(path);
+			} catch (IOException e) {
+				return 0;
+			}
+		}
+
+		@Override
+		public byte[] getBytes() throws IOException {
+			return Files.readAllBytes(path);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return Files.newInputStream(path);
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException {
+			Files.copy(path, dest.toPath());
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package studyGroup.interviewAI.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.entity.Conversation;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// llm-server 대신 로컬 스텁 HTTP 서버를 띄워 LlmClient를 검증
+class LlmClientTests {
+
+	private static final String OK_RESPONSE = "{\"status\":\"OK\",\"message_count\":2,"
+		+ "\"questions\":{\"questions\":[{\"question\":\"JPA N+1 문제를 어떻게 해결했나요?\","
+		+ "\"category\":\"technical\",\"difficulty\":\"medium\",\"reasoning\":\"프로젝트 경험 확인\"}],"
+		+ "\"analysis\":\"백엔드 경험 위주\"}}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicReference<String> lastRequestBody = new AtomicReference<>();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private volatile boolean blockResponses;
+	private volatile int responseStatus = 200;
+	private volatile String responseBody = OK_RESPONSE;
+
+	private HttpServer server;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/conversation", this::handle);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		release.countDown();
+		server.stop(0);
+	}
+
+	@Test
+	void sendsConversationAsSpeakerMessagesAndParsesQuestions() throws Exception {
+		LlmClient client = client(5000, 4);
+
+		List<Map<String, String>> messages = LlmClient.toMessages(List.of(
+			conversation("자기소개 부탁드립니다.", true),
+			conversation("백엔드 개발자 홍길동입니다.", false)));
+		Map<String, Object> result = client.generateQuestions(messages).get(5, TimeUnit.SECONDS);
+
+		Map<String, Object> sent = objectMapper.readValue(lastRequestBody.get(), Map.class);
+		List<Map<String, Object>> sentMessages = (List<Map<String, Object>>) sent.get("messages");
+		assertThat(sentMessages).hasSize(2);
+		assertThat(sentMessages.get(0).get("speaker")).isEqualTo("interviewer");
+		assertThat(sentMessages.get(1).get("speaker")).isEqualTo("candidate");
+		assertThat(sentMessages.get(1).get("content")).isEqualTo("백엔드 개발자 홍길동입니다.");
+
+		assertThat(result.get("messageCount")).isEqualTo(2);
+		assertThat(result.get("analysis")).isEqualTo("백엔드 경험 위주");
+		List<Map<String, Object>> questions = (List<Map<String, Object>>) result.get("questions");
+		assertThat(questions).hasSize(1);
+		assertThat(questions.get(0).get("category")).isEqualTo("technical");
+	}
+
+	@Test
+	void rejectsImmediatelyWhenBulkheadIsFull() throws Exception {
+		blockResponses = true;
+		LlmClient client = client(5000, 1);
+		List<Map<String, String>> messages = List.of(LlmClient.message("candidate", "안녕하세요"));
+
+		CompletableFuture<Map<String, Object>> first = client.generateQuestions(messages);
+		CompletableFuture<Map<String, Object>> second = client.generateQuestions(messages);
+
+		assertThat(second.isCompletedExceptionally()).isTrue();
+		assertThat(client.getStats().get("rejected")).isEqualTo(1L);
+
+		// 첫 요청이 끝나면 자리가 돌아온다
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS).get("messageCount")).isEqualTo(2);
+		assertThat(client.getStats().get("inFlight")).isEqualTo(0);
+	}
+
+	@Test
+	void failsWhenServerDoesNotAnswerWithinTimeout() {
+		blockResponses = true;
+		LlmClient client = client(200, 4);
+
+		CompletableFuture<Map<String, Object>> future = client.generateQuestions(
+			List.of(LlmClient.message("candidate", "안녕하세요")));
+
+		assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasMessageContaining("HttpTimeoutException");
+		assertThat(client.getStats().get("inFlight")).isEqualTo(0);
+	}
+
+	@Test
+	void failsOnErrorStatus() {
+		responseStatus = 500;
+		responseBody = "{\"detail\":\"boom\"}";
+		LlmClient client = client(5000, 4);
+
+		CompletableFuture<Map<String, Object>> future = client.generateQuestions(
+			List.of(LlmClient.message("candidate", "안녕하세요")));
+
+		assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasMessageContaining("HTTP 500");
+		assertThat(client.getStats().get("failed")).isEqualTo(1L);
+	}
+
+	@Test
+	void opensCircuitAfterRepeatedFailuresAndFailsFast() throws Exception {
+		responseStatus = 500;
+		LlmClient client = client(5000, 4);
+		List<Map<String, String>> messages = List.of(LlmClient.message("candidate", "안녕하세요"));
+
+		for (int i = 0; i < 2; i++) {
+			CompletableFuture<Map<String, Object>> future = client.generateQuestions(messages);
+			assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+		}
+		assertThat(client.isAvailable()).isFalse();
+
+		// 서킷이 열린 뒤에는 서버에 요청하지 않고 바로 실패
+		CompletableFuture<Map<String, Object>> shortCircuited = client.generateQuestions(messages);
+		assertThat(shortCircuited.isCompletedExceptionally()).isTrue();
+		assertThat(requestCount.get()).isEqualTo(2);
+	}
+
+	private LlmClient client(long requestTimeoutMs, int maxConcurrentRequests) {
+		String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		// 서킷: 최근 4회 중 2회 이상 호출됐고 실패율 50% 이상이면 1분간 차단
+		return new LlmClient(objectMapper, baseUrl, 1000, requestTimeoutMs, maxConcurrentRequests, 4, 2, 0.5, 60000, 1);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		lastRequestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+		if (blockResponses) {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(responseStatus, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+	private Conversation conversation(String content, boolean isManager) {
+		Conversation conversation = new Conversation();
+		conversation.setContent(content);
+		conversation.setIsManager(isManager);
+		return conversation;
+	}
+}
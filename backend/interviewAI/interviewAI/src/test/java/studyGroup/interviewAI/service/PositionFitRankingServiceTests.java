@@ -0,0 +1,184 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.Experience;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
+import studyGroup.interviewAI.repository.WorkHistoryRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 포지션 적합도 랭킹: 가중치별 점수/순서, 동점 처리, 재구성 중 이전 스냅샷 응답
+class PositionFitRankingServiceTests {
+
+	private static final long BACKEND = 10L;
+	private static final long FRONTEND = 20L;
+	private static final long JAVA = 100L;
+	private static final long SPRING = 200L;
+
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final ApplicantTechRepository applicantTechRepository = mock(ApplicantTechRepository.class);
+	private final WorkHistoryRepository workHistoryRepository = mock(WorkHistoryRepository.class);
+	private final ProjectTechRepository projectTechRepository = mock(ProjectTechRepository.class);
+	private final ReferenceCatalog referenceCatalog = mock(ReferenceCatalog.class);
+	private PositionFitRankingService rankingService;
+
+	@BeforeEach
+	void setUp() {
+		when(referenceCatalog.getExperiences()).thenReturn(List.of(
+			experience(1L, "7년 이상"), experience(2L, "1년 미만"), experience(3L, "3~4년")));
+		when(applicantRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+			List<Applicant> applicants = new ArrayList<>();
+			for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+				applicants.add(applicant(id));
+			}
+			return applicants;
+		});
+		rankingService = new PositionFitRankingService(applicantRepository, applicantTechRepository,
+			workHistoryRepository, projectTechRepository, referenceCatalog, 60000);
+	}
+
+	@AfterEach
+	void shutdown() {
+		rankingService.shutdown();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void ranksByWeightedScore() {
+		givenFourApplicants();
+
+		Map<String, Object> result = rankingService.rank(BACKEND, List.of(JAVA, SPRING), List.of(2.0, 1.0), 10);
+
+		List<Map<String, Object>> ranked = rankedApplicants(result);
+		assertThat(result.get("candidateCount")).isEqualTo(4);
+		assertThat(ranked).extracting(row -> row.get("applicantId")).containsExactly(1L, 2L, 3L, 4L);
+		// 1: 기술 1.0*0.40 + 경험 1.0*0.15 + 포지션 0.10
+		// 2: 기술 2/3*0.40 + 프로젝트 1/3*0.15 + 경험 0.5*0.15 + 같은 포지션 60개월 0.5*0.20
+		// 3: 기술 1/3*0.40 + 다른 포지션 120개월의 절반 0.5*0.20 + 포지션 0.10
+		assertThat(ranked).extracting(row -> row.get("score")).containsExactly(65.0, 49.167, 33.333, 0.0);
+
+		Map<String, Object> breakdown = (Map<String, Object>) ranked.get(1).get("breakdown");
+		assertThat(breakdown.get("techOverlap")).isEqualTo(0.667);
+		assertThat(breakdown.get("projectTechOverlap")).isEqualTo(0.333);
+		assertThat(breakdown.get("experienceLevel")).isEqualTo(0.5);
+		assertThat(breakdown.get("career")).isEqualTo(0.5);
+		assertThat(breakdown.get("positionMatch")).isEqualTo(false);
+	}
+
+	@Test
+	void keepsTopLimitAndBreaksTiesByLowerId() {
+		when(applicantRepository.findAllIdWithPositionIdAndExperienceId()).thenReturn(rows(
+			new Object[]{1L, FRONTEND, 2L},
+			new Object[]{2L, BACKEND, 2L},
+			new Object[]{3L, BACKEND, 2L},
+			new Object[]{4L, BACKEND, 1L}));
+		when(applicantTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(rows());
+		when(projectTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(rows());
+		when(workHistoryRepository.findAllApplicantIdWithPositionIdAndPeriod()).thenReturn(rows());
+
+		Map<String, Object> result = rankingService.rank(BACKEND, List.of(), List.of(), 2);
+
+		assertThat(rankedApplicants(result)).extracting(row -> row.get("applicantId")).containsExactly(4L, 2L);
+	}
+
+	@Test
+	void servesPreviousSnapshotWhileRebuildingInBackground() throws Exception {
+		givenFourApplicants();
+		Map<String, Object> first = rankingService.rank(BACKEND, List.of(JAVA), List.of(), 10);
+		assertThat(first.get("candidateCount")).isEqualTo(4);
+
+		// 다음 재구성은 latch가 풀릴 때까지 멈춰 있음
+		CountDownLatch rebuildStarted = new CountDownLatch(1);
+		CountDownLatch releaseRebuild = new CountDownLatch(1);
+		when(applicantRepository.findAllIdWithPositionIdAndExperienceId()).thenAnswer(invocation -> {
+			rebuildStarted.countDown();
+			releaseRebuild.await(5, TimeUnit.SECONDS);
+			return rows(
+				new Object[]{1L, BACKEND, 1L},
+				new Object[]{2L, FRONTEND, 3L},
+				new Object[]{3L, BACKEND, 2L},
+				new Object[]{4L, null, null},
+				new Object[]{5L, BACKEND, 1L});
+		});
+		rankingService.onDashboardEvent(DashboardEvent.applicantRegistered(5L, ApplicationStatus.WAITING));
+
+		Map<String, Object> during = rankingService.rank(BACKEND, List.of(JAVA), List.of(), 10);
+		assertThat(during.get("candidateCount")).isEqualTo(4);
+		assertThat(during.get("snapshotBuiltAt")).isEqualTo(first.get("snapshotBuiltAt"));
+		assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(rankingService.rank(BACKEND, List.of(JAVA), List.of(), 10).get("candidateCount")).isEqualTo(4);
+
+		releaseRebuild.countDown();
+		long deadline = System.currentTimeMillis() + 5000;
+		Object candidateCount = null;
+		while (System.currentTimeMillis() < deadline) {
+			candidateCount = rankingService.rank(BACKEND, List.of(JAVA), List.of(), 10).get("candidateCount");
+			if (Integer.valueOf(5).equals(candidateCount)) {
+				break;
+			}
+			Thread.sleep(10);
+		}
+		assertThat(candidateCount).isEqualTo(5);
+	}
+
+	private void givenFourApplicants() {
+		LocalDate today = LocalDate.now();
+		when(applicantRepository.findAllIdWithPositionIdAndExperienceId()).thenReturn(rows(
+			new Object[]{1L, BACKEND, 1L},
+			new Object[]{2L, FRONTEND, 3L},
+			new Object[]{3L, BACKEND, 2L},
+			new Object[]{4L, null, null}));
+		when(applicantTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(rows(
+			new Object[]{1L, JAVA},
+			new Object[]{1L, SPRING},
+			new Object[]{2L, JAVA},
+			new Object[]{3L, SPRING}));
+		when(projectTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(rows(
+			new Object[]{2L, SPRING}));
+		when(workHistoryRepository.findAllApplicantIdWithPositionIdAndPeriod()).thenReturn(rows(
+			new Object[]{2L, BACKEND, today.minusMonths(60), today},
+			new Object[]{3L, FRONTEND, today.minusMonths(120), null}));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Map<String, Object>> rankedApplicants(Map<String, Object> result) {
+		return (List<Map<String, Object>>) result.get("rankedApplicants");
+	}
+
+	private static List<Object[]> rows(Object[]... rows) {
+		return List.of(rows);
+	}
+
+	private static Experience experience(Long id, String title) {
+		Experience experience = new Experience();
+		experience.setId(id);
+		experience.setTitle(title);
+		return experience;
+	}
+
+	private static Applicant applicant(Long id) {
+		Applicant applicant = new Applicant();
+		applicant.setId(id);
+		applicant.setUsername("지원자" + id);
+		applicant.setEmail("applicant" + id + "@example.com");
+		applicant.setStatus(ApplicationStatus.WAITING);
+		return applicant;
+	}
+}
@@ -0,0 +1,218 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.PreReport;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 사전 리포트 생성 작업: 완료, 재시도/백오프, 대기/실행 중 취소, 워커 큐보다 큰 배치, 처리량
+class PreReportJobServiceTests {
+
+	private final PreReportService preReportService = mock(PreReportService.class);
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private PreReportJobService jobService;
+
+	@AfterEach
+	void shutdown() {
+		if (jobService != null) {
+			jobService.shutdown();
+		}
+	}
+
+	@Test
+	void completesJobsAndSavesOnePreReportPerApplicant() throws Exception {
+		givenApplicants();
+		jobService = newService((applicantId, data) -> "리포트 " + applicantId, 2, 10, 3, 10);
+
+		List<String> jobIds = jobIds(jobService.submit(List.of(1L, 2L, 3L, 2L)));
+		assertThat(jobIds).hasSize(3);
+		awaitFinished(jobIds);
+
+		for (String jobId : jobIds) {
+			assertThat(jobService.findJob(jobId).get().getStatus()).isEqualTo(PreReportJob.Status.COMPLETED);
+		}
+		verify(preReportService).saveForApplicant(1L, "리포트 1");
+		verify(preReportService).saveForApplicant(2L, "리포트 2");
+		verify(preReportService).saveForApplicant(3L, "리포트 3");
+		verify(preReportService, never()).save(org.mockito.ArgumentMatchers.any());
+
+		// 다시 돌려도 지원자당 saveForApplicant 한 번 (행 추가가 아니라 덮어쓰기)
+		awaitFinished(jobIds(jobService.submit(List.of(1L))));
+		verify(preReportService, times(2)).saveForApplicant(eq(1L), anyString());
+	}
+
+	@Test
+	void retriesWithExponentialBackoffThenCompletes() throws Exception {
+		givenApplicants();
+		AtomicInteger calls = new AtomicInteger();
+		jobService = newService((applicantId, data) -> {
+			if (calls.incrementAndGet() < 3) {
+				throw new RuntimeException("일시적 오류");
+			}
+			return "리포트";
+		}, 1, 10, 3, 50);
+
+		long startedAt = System.nanoTime();
+		String jobId = jobIds(jobService.submit(List.of(1L))).get(0);
+		awaitFinished(List.of(jobId));
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		PreReportJob job = jobService.findJob(jobId).get();
+		assertThat(job.getStatus()).isEqualTo(PreReportJob.Status.COMPLETED);
+		assertThat(job.getAttempts()).isEqualTo(3);
+		// 50ms + 100ms 백오프
+		assertThat(elapsedMs).isGreaterThanOrEqualTo(150);
+		assertThat(jobService.getStats().get("retries")).isEqualTo(2L);
+	}
+
+	@Test
+	void failsAfterMaxAttempts() throws Exception {
+		givenApplicants();
+		jobService = newService((applicantId, data) -> {
+			throw new RuntimeException("항상 실패");
+		}, 1, 10, 2, 10);
+
+		String jobId = jobIds(jobService.submit(List.of(1L))).get(0);
+		awaitFinished(List.of(jobId));
+
+		PreReportJob job = jobService.findJob(jobId).get();
+		assertThat(job.getStatus()).isEqualTo(PreReportJob.Status.FAILED);
+		assertThat(job.getAttempts()).isEqualTo(2);
+		assertThat(job.toMap().get("lastError")).isEqualTo("항상 실패");
+		verify(preReportService, never()).saveForApplicant(anyLong(), anyString());
+	}
+
+	@Test
+	void cancelsQueuedAndRunningJobs() throws Exception {
+		givenApplicants();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		jobService = newService((applicantId, data) -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("중단됨");
+			}
+			return "리포트";
+		}, 1, 10, 3, 10);
+
+		List<String> jobIds = jobIds(jobService.submit(List.of(1L, 2L)));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		String running = jobIds.get(0);
+		String queued = jobIds.get(1);
+
+		assertThat(jobService.cancel(queued).getStatus()).isEqualTo(PreReportJob.Status.CANCELLED);
+		jobService.cancel(running);
+		awaitFinished(jobIds);
+
+		assertThat(jobService.findJob(running).get().getStatus()).isEqualTo(PreReportJob.Status.CANCELLED);
+		assertThat(jobService.findJob(queued).get().getAttempts()).isZero();
+		verify(preReportService, never()).saveForApplicant(anyLong(), anyString());
+		release.countDown();
+	}
+
+	@Test
+	void acceptsBatchLargerThanWorkerQueue() throws Exception {
+		givenApplicants();
+		List<Long> applicantIds = LongStream.rangeClosed(1, 50).boxed().collect(Collectors.toList());
+		when(applicantRepository.findIdsByStatus(ApplicationStatus.WAITING)).thenReturn(applicantIds);
+		jobService = newService((applicantId, data) -> "리포트", 1, 2, 3, 10);
+
+		Map<String, Object> result = jobService.submit(null);
+		assertThat(result.get("rejected")).isEqualTo(0);
+		assertThat(result.get("submitted")).isEqualTo(50);
+		awaitFinished(jobIds(result));
+
+		assertThat(jobService.getStats().get("completed")).isEqualTo(50L);
+		assertThat(jobService.getStats().get("pending")).isEqualTo(0);
+	}
+
+	@Test
+	void templateGeneratorThroughput() throws Exception {
+		givenApplicants();
+		when(preReportService.getApplicantPreReportData(anyLong())).thenReturn(sampleData());
+		int applicants = 2000;
+		List<Long> applicantIds = LongStream.rangeClosed(1, applicants).boxed().collect(Collectors.toList());
+		jobService = newService(new TemplatePreReportGenerator(), 4, 100, 3, 10);
+
+		long startedAt = System.nanoTime();
+		Map<String, Object> result = jobService.submit(applicantIds);
+		awaitFinished(jobIds(result));
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+		System.out.printf("pre-report jobs: %d in %.2fs (%.0f jobs/s)%n", applicants, seconds, applicants / seconds);
+		assertThat(jobService.getStats().get("completed")).isEqualTo((long) applicants);
+		verify(preReportService, times(applicants)).saveForApplicant(anyLong(),
+			eq("경력 1건 (회사A), 프로젝트 2건. 주요 기술스택: Java, Spring Boot."));
+	}
+
+	private void givenApplicants() {
+		when(applicantRepository.existsById(anyLong())).thenReturn(true);
+		when(preReportService.getApplicantPreReportData(anyLong())).thenReturn(Map.of());
+		when(preReportService.saveForApplicant(anyLong(), anyString())).thenAnswer(invocation -> {
+			PreReport preReport = new PreReport();
+			preReport.setId(invocation.getArgument(0));
+			preReport.setDescription(invocation.getArgument(1));
+			return preReport;
+		});
+	}
+
+	private PreReportJobService newService(PreReportGenerator generator, int workers, int queueCapacity,
+	                                       int maxAttempts, long retryBackoffMs) {
+		return new PreReportJobService(preReportService, applicantRepository, generator,
+			workers, queueCapacity, 100_000, maxAttempts, retryBackoffMs, 100_000);
+	}
+
+	private Map<String, Object> sampleData() {
+		TechStack java = new TechStack();
+		java.setTitle("Java");
+		TechStack spring = new TechStack();
+		spring.setTitle("Spring Boot");
+		return Map.of(
+			"workHistories", List.of(Map.of("companyName", "회사A")),
+			"projectHistories", List.of(
+				Map.of("title", "결제", "techStacks", List.of(java, spring)),
+				Map.of("title", "정산", "techStacks", List.of(java))));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> jobIds(Map<String, Object> result) {
+		return new ArrayList<>((List<String>) result.get("jobIds"));
+	}
+
+	private void awaitFinished(List<String> jobIds) throws InterruptedException {
+		await(() -> jobIds.stream().allMatch(jobId -> jobService.findJob(jobId).get().isFinished()));
+	}
+
+	private void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (!condition.getAsBoolean()) {
+			assertThat(System.currentTimeMillis()).as("작업이 제한 시간 안에 끝나야 함").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+}
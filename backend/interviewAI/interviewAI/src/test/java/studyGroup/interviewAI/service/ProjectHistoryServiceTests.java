@@ -0,0 +1,120 @@
+package studyGroup.interviewAI.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import studyGroup.interviewAI.entity.Applicant;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.ProjectHistory;
+import studyGroup.interviewAI.entity.TechStack;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ExperienceRepository;
+import studyGroup.interviewAI.repository.PositionRepository;
+import studyGroup.interviewAI.repository.ProjectTechRepository;
+import studyGroup.interviewAI.repository.TechStackRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 프로젝트 수정 시 주 기술스택 연결(ProjectTech) 교체
+@SpringBootTest
+@Transactional
+class ProjectHistoryServiceTests {
+
+	@Autowired
+	private ProjectHistoryService projectHistoryService;
+
+	@Autowired
+	private ProjectTechRepository projectTechRepository;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private PositionRepository positionRepository;
+
+	@Autowired
+	private ExperienceRepository experienceRepository;
+
+	@Autowired
+	private TechStackRepository techStackRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Applicant applicant;
+	private List<TechStack> techStacks;
+
+	@BeforeEach
+	void setUp() {
+		applicant = new Applicant();
+		applicant.setUsername("project-test");
+		applicant.setEmail("project-test@example.com");
+		applicant.setApplyAt(LocalDateTime.now());
+		applicant.setStatus(ApplicationStatus.WAITING);
+		applicant.setPosition(positionRepository.findAll().get(0));
+		applicant.setExperience(experienceRepository.findAll().get(0));
+		applicantRepository.save(applicant);
+		techStacks = techStackRepository.findAll().subList(0, 3);
+	}
+
+	@Test
+	void replacesMainStackLinkWhenMainStackChanges() {
+		ProjectHistory created = projectHistoryService.save(project(null, techStacks.get(0)));
+		assertThat(linkedTechStackIds(created.getId())).containsExactly(techStacks.get(0).getId());
+
+		projectHistoryService.save(project(created.getId(), techStacks.get(1)));
+
+		assertThat(linkedTechStackIds(created.getId())).containsExactly(techStacks.get(1).getId());
+	}
+
+	@Test
+	void keepsExplicitExtraStacksWhenMainStackChanges() {
+		Map<String, Object> request = new HashMap<>();
+		request.put("title", "면접 서비스");
+		request.put("description", "설명");
+		request.put("applicant", Map.of("id", applicant.getId()));
+		request.put("techStackIds", List.of(techStacks.get(0).getId(), techStacks.get(1).getId()));
+		ProjectHistory created = projectHistoryService.saveWithMultipleTechStacks(request);
+
+		// 주 기술스택을 추가 기술스택이던 것으로 바꾸면 이전 주 기술스택 연결만 빠짐
+		projectHistoryService.save(project(created.getId(), techStacks.get(1)));
+		assertThat(linkedTechStackIds(created.getId())).containsExactly(techStacks.get(1).getId());
+
+		// 명시적으로 추가됐던 기술스택은 주 기술스택에서 빠져도 유지
+		projectHistoryService.save(project(created.getId(), techStacks.get(2)));
+		assertThat(linkedTechStackIds(created.getId()))
+			.containsExactlyInAnyOrder(techStacks.get(1).getId(), techStacks.get(2).getId());
+	}
+
+	// PUT 요청 본문처럼 ID만 채운 분리 객체
+	private ProjectHistory project(Long id, TechStack techStack) {
+		entityManager.flush();
+		entityManager.clear();
+		ProjectHistory project = new ProjectHistory();
+		project.setId(id);
+		project.setTitle("면접 서비스");
+		project.setDescription("설명");
+		Applicant applicantRef = new Applicant();
+		applicantRef.setId(applicant.getId());
+		project.setApplicant(applicantRef);
+		TechStack techStackRef = new TechStack();
+		techStackRef.setId(techStack.getId());
+		project.setTechStack(techStackRef);
+		return project;
+	}
+
+	private List<Long> linkedTechStackIds(Long projectHistoryId) {
+		entityManager.flush();
+		entityManager.clear();
+		return projectTechRepository.findTechStackIdsByProjectHistoryId(projectHistoryId);
+	}
+}
@@ -0,0 +1,59 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.PostReportRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 점수 분포: 테이블 기준 재구성 후 증분 갱신, 재구성 중 도착한 증분 유지
+class ScoreDistributionServiceTests {
+
+	private static final long APPLICANT_ID = 7L;
+	private static final long POSITION_ID = 10L;
+	private static final long EXPERIENCE_ID = 20L;
+
+	private final PostReportRepository postReportRepository = mock(PostReportRepository.class);
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final ScoreDistributionService distributionService = new ScoreDistributionService(postReportRepository, applicantRepository);
+
+	@Test
+	void keepsScoresRecordedWhileRebuilding() {
+		when(applicantRepository.findPositionIdAndExperienceIdById(APPLICANT_ID))
+			.thenReturn(List.<Object[]>of(new Object[]{POSITION_ID, EXPERIENCE_ID}));
+		when(postReportRepository.findAllScoresWithPositionAndExperience()).thenReturn(List.of(
+			new Object[]{70, POSITION_ID, EXPERIENCE_ID},
+			new Object[]{90, POSITION_ID, EXPERIENCE_ID}));
+		distributionService.rebuild();
+
+		// 테이블을 읽은 직후(교체 전)에 점수 저장 이벤트가 도착
+		when(postReportRepository.findAllScoresWithPositionAndExperience()).thenAnswer(invocation -> {
+			distributionService.onDashboardEvent(DashboardEvent.scoreRecorded(APPLICANT_ID, 1L, null, 80));
+			distributionService.onDashboardEvent(DashboardEvent.scoreRecorded(APPLICANT_ID, 2L, 90, 50));
+			return List.of(
+				new Object[]{70, POSITION_ID, EXPERIENCE_ID},
+				new Object[]{90, POSITION_ID, EXPERIENCE_ID});
+		});
+		distributionService.rebuild();
+
+		Map<String, Object> overall = overall();
+		assertThat(overall.get("count")).isEqualTo(3L);
+		assertThat(overall.get("min")).isEqualTo(50);
+		assertThat(overall.get("max")).isEqualTo(80);
+
+		// 재구성이 끝난 뒤의 증분은 한 번만 반영
+		distributionService.onDashboardEvent(DashboardEvent.scoreRecorded(APPLICANT_ID, 3L, null, 100));
+		assertThat(overall().get("count")).isEqualTo(4L);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> overall() {
+		return (Map<String, Object>) distributionService.getDistribution(10).get("overall");
+	}
+}
@@ -0,0 +1,101 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.repository.ConversationRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 질문 추천: LLM 성공 결과를 대체 응답 캐시에 보관하고, 실패 시 같은 포지션/경험 레벨의 세트로 응답
+class SuggestedQuestionServiceTests {
+
+	private static final long BACKEND = 10L;
+	private static final long FRONTEND = 20L;
+	private static final long JUNIOR = 1L;
+	private static final long SENIOR = 2L;
+
+	private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+	private final ConversationRepository conversationRepository = mock(ConversationRepository.class);
+	private final ConversationContextWindow contextWindow = mock(ConversationContextWindow.class);
+	private final LlmClient llmClient = mock(LlmClient.class);
+	private final QuestionFallbackCache fallbackCache = new QuestionFallbackCache(10);
+	private SuggestedQuestionService service;
+
+	@BeforeEach
+	void setUp() {
+		givenInterview(1L, BACKEND, JUNIOR);
+		givenInterview(2L, BACKEND, SENIOR);
+		givenInterview(3L, FRONTEND, JUNIOR);
+		when(conversationRepository.findLastIdByInterviewId(anyLong())).thenReturn(Optional.empty());
+		when(contextWindow.build(anyLong())).thenReturn(
+			new ConversationContextWindow.Window(List.of(LlmClient.message("candidate", "안녕하세요")), 1, 10, 10));
+		service = new SuggestedQuestionService(interviewRepository, conversationRepository, contextWindow, llmClient,
+			fallbackCache, mock(ConversationWriteBehindService.class), 600000);
+	}
+
+	@AfterEach
+	void shutdown() {
+		service.shutdown();
+	}
+
+	@Test
+	void servesCachedQuestionsWhenLlmFails() throws Exception {
+		when(llmClient.generateQuestions(anyList())).thenReturn(CompletableFuture.completedFuture(generated("JPA N+1 문제를 어떻게 해결했나요?")));
+		Map<String, Object> fresh = service.suggestQuestions(1L).get(5, TimeUnit.SECONDS);
+		assertThat(fresh.get("degraded")).isEqualTo(false);
+
+		when(llmClient.generateQuestions(anyList())).thenReturn(
+			CompletableFuture.failedFuture(new RuntimeException("LLM 서버 서킷이 열려 있어 호출하지 않았습니다.")));
+		Map<String, Object> degraded = service.suggestQuestions(1L).get(5, TimeUnit.SECONDS);
+
+		assertThat(degraded.get("degraded")).isEqualTo(true);
+		assertThat(degraded.get("interviewId")).isEqualTo(1L);
+		assertThat(degraded.get("questions")).isEqualTo(fresh.get("questions"));
+		assertThat(degraded.get("fallbackReason")).isEqualTo("LLM 서버 서킷이 열려 있어 호출하지 않았습니다.");
+		assertThat(service.getFallbackStats().get("served")).isEqualTo(1L);
+	}
+
+	@Test
+	void fallsBackToSamePositionAndFailsWithoutCachedSet() throws Exception {
+		when(llmClient.generateQuestions(anyList())).thenReturn(CompletableFuture.completedFuture(generated("트랜잭션 격리 수준을 설명해주세요.")));
+		service.suggestQuestions(1L).get(5, TimeUnit.SECONDS);
+		when(llmClient.generateQuestions(anyList())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("LLM 서버 호출 실패")));
+
+		// 같은 포지션의 다른 경험 레벨은 포지션 단위 세트로 응답
+		Map<String, Object> samePosition = service.suggestQuestions(2L).get(5, TimeUnit.SECONDS);
+		assertThat(samePosition.get("degraded")).isEqualTo(true);
+		assertThat((List<?>) samePosition.get("questions")).hasSize(1);
+
+		// 캐시된 세트가 없는 포지션은 원래 오류 그대로
+		CompletableFuture<Map<String, Object>> otherPosition = service.suggestQuestions(3L);
+		assertThatThrownBy(() -> otherPosition.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasRootCauseMessage("LLM 서버 호출 실패");
+		assertThat(service.getFallbackStats().get("missed")).isEqualTo(1L);
+	}
+
+	private void givenInterview(Long interviewId, Long positionId, Long experienceId) {
+		List<Object[]> profile = List.<Object[]>of(new Object[]{positionId, experienceId});
+		when(interviewRepository.findPositionIdAndExperienceIdById(interviewId)).thenReturn(profile);
+	}
+
+	private Map<String, Object> generated(String question) {
+		return Map.of(
+			"questions", List.of(Map.of("question", question, "category", "technical")),
+			"analysis", "백엔드 경험 위주");
+	}
+}
@@ -0,0 +1,79 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.Test;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.ApplicantTechRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 기술스택 비트맵 인덱스: 재구성 스캔 중에도 변경이 막히지 않고, 그 변경이 새 스냅샷에 남는지
+class TechStackBitmapIndexTests {
+
+	private static final long JAVA = 100L;
+	private static final long SPRING = 200L;
+
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final ApplicantTechRepository applicantTechRepository = mock(ApplicantTechRepository.class);
+	private final TechStackBitmapIndex index = new TechStackBitmapIndex(applicantRepository, applicantTechRepository);
+
+	@Test
+	void changesDuringRebuildScanAreNotBlockedAndSurviveTheSwap() throws Exception {
+		when(applicantTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(List.of(
+			new Object[]{1L, JAVA},
+			new Object[]{2L, JAVA},
+			new Object[]{2L, SPRING}));
+		when(applicantRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+		index.rebuild();
+
+		// 다음 재구성은 스캔 도중 latch가 풀릴 때까지 멈춰 있음 (스캔 결과에는 아래 변경이 없음)
+		CountDownLatch scanStarted = new CountDownLatch(1);
+		CountDownLatch releaseScan = new CountDownLatch(1);
+		when(applicantTechRepository.findAllApplicantIdAndTechStackId()).thenAnswer(invocation -> {
+			scanStarted.countDown();
+			releaseScan.await(5, TimeUnit.SECONDS);
+			return List.of(
+				new Object[]{1L, JAVA},
+				new Object[]{2L, JAVA},
+				new Object[]{2L, SPRING});
+		});
+		Thread rebuild = new Thread(index::rebuild);
+		rebuild.start();
+		assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 스캔 중인 재구성을 기다리지 않고 바로 반영됨
+		index.addTechStacks(3L, List.of(JAVA, SPRING));
+		index.addAll(Map.of(4L, List.of(SPRING)));
+		index.removeTechStack(2L, SPRING);
+		index.removeApplicant(1L);
+		assertThat(index.match(List.of(SPRING), null, null).toArray()).containsExactly(3, 4);
+
+		releaseScan.countDown();
+		rebuild.join(5000);
+		assertThat(rebuild.isAlive()).isFalse();
+
+		assertThat(index.match(List.of(JAVA), null, null).toArray()).containsExactly(2, 3);
+		assertThat(index.match(List.of(SPRING), null, null).toArray()).containsExactly(3, 4);
+		assertThat(index.match(null, null, null).toArray()).containsExactly(2, 3, 4);
+		assertThat(index.countByTechStack(JAVA)).isEqualTo(2);
+	}
+
+	@Test
+	void changesAfterRebuildAreAppliedOnce() {
+		when(applicantTechRepository.findAllApplicantIdAndTechStackId()).thenReturn(List.<Object[]>of(new Object[]{1L, JAVA}));
+		when(applicantRepository.findAllIds()).thenReturn(List.of(1L));
+		index.rebuild();
+
+		index.addApplicant(5L);
+		index.addTechStacks(6L, List.of(JAVA));
+
+		assertThat(index.match(null, null, null).toArray()).containsExactly(1, 5, 6);
+		assertThat(index.match(List.of(JAVA), null, null).toArray()).containsExactly(1, 6);
+	}
+}
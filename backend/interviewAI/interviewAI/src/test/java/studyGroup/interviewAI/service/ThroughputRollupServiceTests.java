@@ -0,0 +1,138 @@
+package studyGroup.interviewAI.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import studyGroup.interviewAI.entity.ApplicationStatus;
+import studyGroup.interviewAI.entity.ThroughputMetric;
+import studyGroup.interviewAI.entity.ThroughputRollup;
+import studyGroup.interviewAI.event.DashboardEvent;
+import studyGroup.interviewAI.repository.ApplicantRepository;
+import studyGroup.interviewAI.repository.InterviewRepository;
+import studyGroup.interviewAI.repository.ThroughputRollupRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 처리량 집계: 재집계와 증분이 겹치는 순서별로 한 행이 정확히 한 번만 세어지는지
+class ThroughputRollupServiceTests {
+
+	private static final long POSITION_ID = 10L;
+	private static final LocalDateTime APPLY_AT = LocalDateTime.of(2026, 3, 2, 10, 0);
+	private static final LocalDate APPLY_DATE = APPLY_AT.toLocalDate();
+
+	private final ThroughputRollupRepository throughputRollupRepository = mock(ThroughputRollupRepository.class);
+	private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+	private final InterviewRepository interviewRepository = mock(InterviewRepository.class);
+	private final ThroughputRollupService rollupService = new ThroughputRollupService(throughputRollupRepository,
+		applicantRepository, interviewRepository, mock(PlatformTransactionManager.class), 1000);
+	private final List<List<ThroughputRollup>> replaced = new ArrayList<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(applicantRepository.findApplyAtAndPositionIdById(anyLong()))
+			.thenReturn(List.<Object[]>of(new Object[]{APPLY_AT, POSITION_ID}));
+		when(interviewRepository.findDoneAtChunk(anyLong(), any(Pageable.class))).thenReturn(List.of());
+		when(throughputRollupRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			replaced.add(new ArrayList<>((List<ThroughputRollup>) invocation.getArgument(0)));
+			return invocation.getArgument(0);
+		});
+	}
+
+	@Test
+	void incrementDuringScanIsAppliedOnlyWhenTheScanMissedTheRow() {
+		// 스캔 중에 지원자 2(스캔에 포함)와 지원자 3(스캔 이후 커밋) 이벤트가 도착
+		when(applicantRepository.findApplyAtChunk(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+			rollupService.onDashboardEvent(DashboardEvent.applicantRegistered(2L, ApplicationStatus.WAITING));
+			rollupService.onDashboardEvent(DashboardEvent.applicantRegistered(3L, ApplicationStatus.WAITING));
+			verify(throughputRollupRepository, never()).addToCount(any(), any(), any(), anyLong());
+			return rows(1L, 2L);
+		});
+
+		rollupService.backfill();
+
+		assertThat(replacedApplicationCount()).isEqualTo(2L);
+		verify(throughputRollupRepository, times(1)).addToCount(ThroughputMetric.APPLICATIONS, APPLY_DATE, POSITION_ID, 1L);
+	}
+
+	@Test
+	void lateEventForARowTheBackfillCountedIsIgnored() {
+		when(applicantRepository.findApplyAtChunk(anyLong(), any(Pageable.class))).thenReturn(rows(1L, 2L));
+		rollupService.backfill();
+
+		rollupService.onDashboardEvent(DashboardEvent.applicantRegistered(2L, ApplicationStatus.WAITING));
+		rollupService.onDashboardEvent(DashboardEvent.applicantRegistered(3L, ApplicationStatus.WAITING));
+
+		verify(throughputRollupRepository, times(1)).addToCount(eq(ThroughputMetric.APPLICATIONS), eq(APPLY_DATE), eq(POSITION_ID), eq(1L));
+	}
+
+	@Test
+	void backfillWaitsForAnIncrementThatIsAlreadyBeingApplied() throws Exception {
+		// 증분 upsert가 진행 중인 사이에 재집계가 시작됨
+		CountDownLatch upsertStarted = new CountDownLatch(1);
+		CountDownLatch releaseUpsert = new CountDownLatch(1);
+		when(throughputRollupRepository.addToCount(any(), any(), any(), anyLong())).thenAnswer(invocation -> {
+			upsertStarted.countDown();
+			releaseUpsert.await(5, TimeUnit.SECONDS);
+			return 1;
+		});
+		when(applicantRepository.findApplyAtChunk(anyLong(), any(Pageable.class))).thenReturn(rows(1L, 2L));
+
+		Thread increment = new Thread(() ->
+			rollupService.onDashboardEvent(DashboardEvent.applicantRegistered(2L, ApplicationStatus.WAITING)));
+		increment.start();
+		assertThat(upsertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread backfill = new Thread(rollupService::backfill);
+		backfill.start();
+		Thread.sleep(100);
+
+		// upsert가 끝나기 전에는 스캔하지 않음 (스캔 후 교체된 집계에 upsert가 더해지지 않도록)
+		verify(applicantRepository, never()).findApplyAtChunk(anyLong(), any(Pageable.class));
+
+		releaseUpsert.countDown();
+		increment.join(5000);
+		backfill.join(5000);
+
+		InOrder order = inOrder(throughputRollupRepository, applicantRepository);
+		order.verify(throughputRollupRepository).addToCount(ThroughputMetric.APPLICATIONS, APPLY_DATE, POSITION_ID, 1L);
+		order.verify(applicantRepository).findApplyAtChunk(anyLong(), any(Pageable.class));
+		order.verify(throughputRollupRepository).deleteByMetric(ThroughputMetric.APPLICATIONS);
+		assertThat(replacedApplicationCount()).isEqualTo(2L);
+		verify(throughputRollupRepository, times(1)).addToCount(any(), any(), any(), anyLong());
+	}
+
+	private long replacedApplicationCount() {
+		return replaced.stream()
+			.flatMap(List::stream)
+			.filter(rollup -> rollup.getMetric() == ThroughputMetric.APPLICATIONS)
+			.mapToLong(ThroughputRollup::getEventCount)
+			.sum();
+	}
+
+	private static List<Object[]> rows(Long... applicantIds) {
+		List<Object[]> rows = new ArrayList<>();
+		for (Long applicantId : applicantIds) {
+			rows.add(new Object[]{applicantId, APPLY_AT, POSITION_ID});
+		}
+		return rows;
+	}
+}